@@ -21,40 +21,414 @@ package org.exist.indexing.lucene;
 **/
 
 import org.apache.lucene.analysis.*;
+import org.apache.lucene.analysis.core.KeywordTokenizer;
+import org.apache.lucene.analysis.core.LowerCaseFilter;
 import org.apache.lucene.analysis.standard.*;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.Version;
+import java.io.File;
+import java.io.IOException;
 import java.io.Reader;
-import java.util.Set;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 /**
- * Filters {@link StandardTokenizer} with {@link StandardFilter}, {@link
- * LowerCaseFilter}, {@link DiacriticFilter} and {@link StopFilter}.
+ * Filters {@link ClassicTokenizer} with {@link ClassicFilter}, {@link
+ * LowerCaseFilter}, {@link DMLBSStopFilter} and {@link DMLBSAccentFilter}.
+ * The classic tokenizer keeps the grammar of the old StandardTokenizer,
+ * so acronyms, possessives, e-mail addresses and company names such as
+ * AT&amp;T are still indexed as they always were.
+ * Fields can be given lighter {@link FieldProfile}s by name.
+ * <p>
+ * The classic tokenizer breaks words at supplementary code points and at
+ * private use chars, and drops them, so those the folding table maps are
+ * always folded ahead of it by a {@link DMLBSAccentCharFilter}:
+ * <code>c&#92;uE000lum</code> under a profile mapping U+E000 to
+ * <code>ae</code> is one term, <code>caelum</code>, and so is a word in
+ * mathematical letters. The original of such a term, if preserved, has
+ * them folded already.
 */
 public class DMLBSAccentAnalyzer extends Analyzer {
-  private Set<String> stopSet;
+
+  /** How the text of a field is analyzed. */
+  public enum FieldProfile {
+    /** The whole value is one term, left as is: identifiers and
+    cross-reference targets. */
+    KEYWORD,
+    /** Tokenized and lower-cased, without stop words or folding: sigla,
+    dates and references. */
+    LOWERCASE,
+    /** The full chain, with stop words and folding: prose. */
+    FOLDED,
+    /** The full chain, then the leading edge n-grams of each folded term
+    as well: headwords for autocomplete. */
+    PREFIX
+  }
+
+  private final DMLBSStopSet stopSet;
+  private final DMLBSFoldingTable foldingTable;
+  private final DMLBSFoldingTable charFoldingTable;
+  private final DMLBSFoldingCache foldingCache;
+  private final boolean foldBeforeTokenizing;
+  private final boolean preserveOriginal;
+  private final DMLBSSpellingRules spellingRules;
+  private final int minGram;
+  private final int maxGram;
+  private final Map<String, FieldProfile> fieldProfiles;
+  private volatile DMLBSAccentFilterStats stats;
+  private ObjectName statsName;
+
+  private static final AtomicInteger instances = new AtomicInteger();
+
+  private static final Logger LOG = Logger.getLogger(DMLBSAccentAnalyzer.class.getName());
+
+  /** Bumped whenever the chain itself changes the tokens it gives. */
+  private static final int CHAIN_VERSION = 5;
+
+  /** Keeps one stream chain per thread for each {@link FieldProfile}
+  rather than for each field name: the chain depends on the profile
+  alone, so fields sharing one can share the chain. */
+  private static final ReuseStrategy PROFILE_REUSE_STRATEGY = new ReuseStrategy() {
+    public TokenStreamComponents getReusableComponents(Analyzer analyzer,
+                                                       String fieldName) {
+      final TokenStreamComponents[] chains =
+        (TokenStreamComponents[]) getStoredValue(analyzer);
+      return chains == null ? null
+        : chains[((DMLBSAccentAnalyzer) analyzer).getFieldProfile(fieldName).ordinal()];
+    }
+
+    public void setReusableComponents(Analyzer analyzer, String fieldName,
+                                      TokenStreamComponents components) {
+      TokenStreamComponents[] chains = (TokenStreamComponents[]) getStoredValue(analyzer);
+      if (chains == null) {
+        chains = new TokenStreamComponents[FieldProfile.values().length];
+        setStoredValue(analyzer, chains);
+      }
+      chains[((DMLBSAccentAnalyzer) analyzer).getFieldProfile(fieldName).ordinal()] = components;
+    }
+  };
 
   /** An array containing some common English words that are usually not
   useful for searching. */
-  public static final String[] STOP_WORDS = StopAnalyzer.ENGLISH_STOP_WORDS;
+  public static final String[] STOP_WORDS = {
+    "a", "an", "and", "are", "as", "at", "be", "but", "by",
+    "for", "if", "in", "into", "is", "it",
+    "no", "not", "of", "on", "or", "such",
+    "that", "the", "their", "then", "there", "these",
+    "they", "this", "to", "was", "will", "with"
+  };
+
+  /** Common Latin and medieval Latin function words, for Latin text. */
+  public static final String[] LATIN_STOP_WORDS = {
+    "a", "ab", "ac", "ad", "an", "ante", "apud", "atque", "aut", "autem",
+    "cum", "de", "dum", "e", "ea", "ei", "eius", "enim", "eo", "erat",
+    "ergo", "esse", "est", "et", "etiam", "eum", "ex", "haec", "hec",
+    "hic", "hoc", "iam", "id", "igitur", "in", "inter", "ipse", "is",
+    "ita", "item", "nam", "ne", "nec", "neque", "nisi", "non", "nunc",
+    "ob", "per", "post", "pro", "qua", "quae", "que", "quam", "qui",
+    "quia", "quibus", "quid", "quo", "quod", "quoque", "se", "sed", "si",
+    "sic", "sicut", "sine", "sit", "sub", "sunt", "super", "tam", "tamen",
+    "tunc", "ubi", "uel", "ut", "vel", "vero"
+  };
 
   /** Builds an analyzer. */
   public DMLBSAccentAnalyzer() {
     this(STOP_WORDS);
   }
 
+  /** Builds an analyzer folding with the profile loaded from the mapping
+  file <code>profile</code>, as described in {@link
+  DMLBSFoldingTable#load(Reader)}. */
+  public DMLBSAccentAnalyzer(File profile) throws IOException {
+    this(STOP_WORDS, DMLBSFoldingTable.load(profile), null, false);
+  }
+
   /** Builds an analyzer with the given stop words. */
   public DMLBSAccentAnalyzer(String[] stopWords) {
-    stopSet = StopFilter.makeStopSet(stopWords);
+    this(stopWords, null);
+  }
+
+  /** Builds an analyzer with the given stop words, whose {@link
+  DMLBSAccentFilter}s share <code>foldingCache</code> (none if null). */
+  public DMLBSAccentAnalyzer(String[] stopWords, DMLBSFoldingCache foldingCache) {
+    this(stopWords, foldingCache, false);
+  }
+
+  /** Builds an analyzer with the given stop words and folding cache which,
+  if <code>foldBeforeTokenizing</code>, folds the text with a {@link
+  DMLBSAccentCharFilter} before it is tokenized instead of folding the
+  tokens with a {@link DMLBSAccentFilter}. */
+  public DMLBSAccentAnalyzer(String[] stopWords, DMLBSFoldingCache foldingCache,
+                             boolean foldBeforeTokenizing) {
+    this(stopWords, DMLBSFoldingTable.getInstalled(), foldingCache, foldBeforeTokenizing);
+  }
+
+  /** Builds an analyzer folding with the profile <code>foldingTable</code>.
+  The folding cache, if any, must not be shared with analyzers folding
+  with another profile. */
+  public DMLBSAccentAnalyzer(String[] stopWords, DMLBSFoldingTable foldingTable,
+                             DMLBSFoldingCache foldingCache,
+                             boolean foldBeforeTokenizing) {
+    this(stopWords, foldingTable, foldingCache, foldBeforeTokenizing, false);
+  }
+
+  /** Builds an analyzer which, if <code>preserveOriginal</code>, indexes
+  each folded term together with its accented original at the same
+  position, so one analysis pass serves both accent-insensitive and
+  accent-sensitive search. The originals are lost when folding before
+  tokenizing, so the two cannot be combined. */
+  public DMLBSAccentAnalyzer(String[] stopWords, DMLBSFoldingTable foldingTable,
+                             DMLBSFoldingCache foldingCache,
+                             boolean foldBeforeTokenizing,
+                             boolean preserveOriginal) {
+    this(stopWords, foldingTable, foldingCache, foldBeforeTokenizing,
+         preserveOriginal, null);
+  }
+
+  /** Builds an analyzer which also rewrites spelling variants of the
+  folded terms with <code>spellingRules</code> (none if null), such as
+  {@link DMLBSSpellingRules#MEDIEVAL_LATIN}. A term the rules rewrite
+  keeps its original too when <code>preserveOriginal</code>, even if
+  folding left it unchanged. */
+  public DMLBSAccentAnalyzer(String[] stopWords, DMLBSFoldingTable foldingTable,
+                             DMLBSFoldingCache foldingCache,
+                             boolean foldBeforeTokenizing,
+                             boolean preserveOriginal,
+                             DMLBSSpellingRules spellingRules) {
+    this(stopWords, foldingTable, foldingCache, foldBeforeTokenizing,
+         preserveOriginal, spellingRules, 0, 0, null);
+  }
+
+  /** Builds an analyzer which analyzes each field named in
+  <code>fieldProfiles</code> (if not null) with its {@link FieldProfile},
+  and every other field with the full {@link FieldProfile#FOLDED} chain.
+  Each thread then keeps one stream chain per profile in use. The {@link
+  FieldProfile#PREFIX} fields also index the leading edge n-grams of each
+  folded term from <code>minGram</code> to <code>maxGram</code> chars
+  long with a {@link DMLBSEdgeNGramFilter}, for headword autocomplete;
+  query them with {@link #newPrefixQuery}. No other field gets n-grams. */
+  public DMLBSAccentAnalyzer(String[] stopWords, DMLBSFoldingTable foldingTable,
+                             DMLBSFoldingCache foldingCache,
+                             boolean foldBeforeTokenizing,
+                             boolean preserveOriginal,
+                             DMLBSSpellingRules spellingRules,
+                             int minGram, int maxGram,
+                             Map<String, FieldProfile> fieldProfiles) {
+    super(fieldProfiles == null || fieldProfiles.isEmpty()
+          ? GLOBAL_REUSE_STRATEGY : PROFILE_REUSE_STRATEGY);
+    if (maxGram > 0 && (minGram < 1 || minGram > maxGram))
+      throw new IllegalArgumentException("Bad n-gram bounds " + minGram + ".." + maxGram);
+    if (maxGram <= 0 && fieldProfiles != null
+        && fieldProfiles.containsValue(FieldProfile.PREFIX))
+      throw new IllegalArgumentException("Prefix fields need n-gram bounds");
+    if (foldBeforeTokenizing && preserveOriginal)
+      throw new IllegalArgumentException("Original terms cannot be preserved "
+                                         + "when folding before tokenizing");
+    stopSet = new DMLBSStopSet(stopWords, foldingTable);
+    this.foldingTable = foldingTable;
+    if (foldBeforeTokenizing) {
+      this.charFoldingTable = foldingTable.lowerCaseFirst();
+    } else {
+      final DMLBSFoldingTable untokenized = foldingTable.supplementaryAndPrivateUse();
+      this.charFoldingTable = untokenized == null ? null : untokenized.lowerCaseFirst();
+    }
+    this.foldingCache = foldingCache;
+    this.foldBeforeTokenizing = foldBeforeTokenizing;
+    this.preserveOriginal = preserveOriginal;
+    this.spellingRules = spellingRules;
+    this.minGram = minGram;
+    this.maxGram = maxGram;
+    this.fieldProfiles = fieldProfiles == null || fieldProfiles.isEmpty()
+      ? null : new HashMap<String, FieldProfile>(fieldProfiles);
+  }
+
+  /** Starts counting the work of this analyzer's {@link
+  DMLBSAccentFilter}s, if not yet counted, and publishes the counters as
+  the MBean <code>org.exist.indexing.lucene:type=DMLBSAccentAnalyzer,
+  instance=<i>n</i></code>. Only chains built from then on count, so call
+  it before the analyzer is first used. If the MBean cannot be
+  registered the counters are still kept, and the failure is logged. */
+  public synchronized DMLBSAccentFilterStats enableStats() {
+    if (stats != null)
+      return stats;
+    final DMLBSAccentFilterStats newStats = new DMLBSAccentFilterStats(foldingTable);
+    try {
+      final ObjectName name = new ObjectName(
+        "org.exist.indexing.lucene:type=DMLBSAccentAnalyzer,instance="
+        + instances.incrementAndGet());
+      ManagementFactory.getPlatformMBeanServer().registerMBean(newStats, name);
+      statsName = name;
+    } catch (JMException e) {
+      LOG.log(Level.WARNING, "Could not register analyzer statistics", e);
+    }
+    stats = newStats;
+    return newStats;
+  }
+
+  /** Returns the counters of this analyzer's {@link DMLBSAccentFilter}s,
+  or null unless {@link #enableStats} was called. */
+  public DMLBSAccentFilterStats getStats() {
+    return stats;
+  }
+
+  /** Releases the per-thread stream chains and unregisters the
+  statistics MBean, if any. */
+  public void close() {
+    super.close();
+    synchronized (this) {
+      if (statsName == null)
+        return;
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(statsName);
+      } catch (JMException e) {
+        // already gone
+      }
+      statsName = null;
+    }
+  }
+
+  /** Returns a 64-bit hash of everything that decides the tokens this
+  analyzer gives for a text: the folding profile, stop words, spelling
+  rules, n-gram bounds, field profiles and chain options. Token streams
+  saved under one fingerprint are only valid under the same one. */
+  public long getFingerprint() {
+    long h = DMLBSFingerprint.add(DMLBSFingerprint.START, foldingTable.fingerprint());
+    h = DMLBSFingerprint.add(h, stopSet.fingerprint());
+    h = DMLBSFingerprint.add(h, spellingRules == null ? 0 : spellingRules.fingerprint());
+    h = DMLBSFingerprint.add(h, (foldBeforeTokenizing ? 1 : 0) | (preserveOriginal ? 2 : 0));
+    h = DMLBSFingerprint.add(h, minGram);
+    h = DMLBSFingerprint.add(h, maxGram);
+    h = DMLBSFingerprint.add(h, CHAIN_VERSION);
+    h = DMLBSFingerprint.add(h, Version.LATEST.toString());
+    if (fieldProfiles != null) {
+      for (Map.Entry<String, FieldProfile> e
+             : new TreeMap<String, FieldProfile>(fieldProfiles).entrySet()) {
+        h = DMLBSFingerprint.add(h, e.getKey());
+        h = DMLBSFingerprint.add(h, e.getValue().ordinal());
+      }
+    }
+    return h;
+  }
+
+  /** Returns the profile <code>fieldName</code> is analyzed with. */
+  public FieldProfile getFieldProfile(String fieldName) {
+    if (fieldProfiles == null)
+      return FieldProfile.FOLDED;
+    final FieldProfile profile = fieldProfiles.get(fieldName);
+    return profile != null ? profile : FieldProfile.FOLDED;
+  }
+
+  /** Returns whether terms changed by folding or spelling rules are
+  indexed together with their originals. */
+  public boolean isPreservingOriginal() {
+    return preserveOriginal;
+  }
+
+  /** Returns the folding profile of this analyzer. */
+  public DMLBSFoldingTable getFoldingTable() {
+    return foldingTable;
+  }
+
+  /** Returns a normalizer for query terms that folds them exactly as this
+  analyzer folds indexed terms, caching up to <code>cacheSize</code> of
+  them (none if 0). Build one per analyzer and share it. */
+  public DMLBSQueryNormalizer newQueryNormalizer(int cacheSize) {
+    return new DMLBSQueryNormalizer(foldingTable, spellingRules, cacheSize);
+  }
+
+  /** Returns a query for the terms starting with <code>prefix</code>,
+  folded with <code>normalizer</code>, which must come from {@link
+  #newQueryNormalizer}. If <code>field</code> is a {@link
+  FieldProfile#PREFIX} field with edge n-grams long enough to cover the
+  folded prefix, that is a single {@link TermQuery} on the n-gram;
+  otherwise, or if the prefix is shorter than any n-gram, it is a {@link
+  PrefixQuery}. Under spelling rules the prefix may stand for
+  several forms (see {@link DMLBSQueryNormalizer#normalizePrefix}), and
+  the query then matches any of them. The prefix is only lower-cased for a
+  {@link FieldProfile#LOWERCASE} field, and taken as is for a {@link
+  FieldProfile#KEYWORD} one. */
+  public Query newPrefixQuery(String field, String prefix,
+                              DMLBSQueryNormalizer normalizer) {
+    final FieldProfile profile = getFieldProfile(field);
+    if (profile == FieldProfile.KEYWORD)
+      return new PrefixQuery(new Term(field, prefix));
+    if (profile == FieldProfile.LOWERCASE)
+      return new PrefixQuery(new Term(field, DMLBSStopSet.lowerCase(prefix)));
+    final String[] variants = normalizer.normalizePrefix(prefix);
+    final boolean grams = profile == FieldProfile.PREFIX && maxGram > 0;
+    if (variants.length == 1)
+      return newFoldedPrefixQuery(field, variants[0], grams);
+    final BooleanQuery query = new BooleanQuery(true);
+    for (String variant : variants)
+      query.add(newFoldedPrefixQuery(field, variant, grams), BooleanClause.Occur.SHOULD);
+    return query;
+  }
+
+  private Query newFoldedPrefixQuery(String field, String folded, boolean grams) {
+    if (grams && folded.length() >= minGram && folded.length() <= maxGram)
+      return new TermQuery(new Term(field, folded));
+    return new PrefixQuery(new Term(field, folded));
+  }
+
+  /** Returns the folding cache shared by this analyzer's filters, or null
+  if folded terms are not cached. */
+  public DMLBSFoldingCache getFoldingCache() {
+    return foldingCache;
+  }
+
+  /** Wraps the text of folded fields in a {@link DMLBSAccentCharFilter}
+  when folding before tokenizing, and otherwise when the table maps any
+  supplementary code point or private use char, which the tokenizer would
+  drop, folding only those. */
+  protected Reader initReader(String fieldName, Reader reader) {
+    final FieldProfile profile = getFieldProfile(fieldName);
+    return charFoldingTable != null
+      && (profile == FieldProfile.FOLDED || profile == FieldProfile.PREFIX)
+      ? new DMLBSAccentCharFilter(reader, charFoldingTable) : reader;
   }
 
-  /** Constructs a {@link StandardTokenizer} filtered by a {@link
-  StandardFilter}, a {@link LowerCaseFilter} and a {@link StopFilter}. */
-  public TokenStream tokenStream(String fieldName, Reader reader) {
-    TokenStream result = new StandardTokenizer(reader);
-    result = new StandardFilter(result);
+  /** Constructs a {@link ClassicTokenizer} filtered by a {@link
+  ClassicFilter}, a {@link LowerCaseFilter}, a {@link DMLBSStopFilter}
+  and a {@link DMLBSAccentFilter} (unless the text was folded before
+  tokenizing), then a {@link DMLBSSpellingFilter} if there are spelling
+  rules and, for a {@link FieldProfile#PREFIX} field, a {@link
+  DMLBSEdgeNGramFilter}. Stop words are matched as they would be folded, so they
+  are removed before the folding work is done.
+  Lucene keeps the chain per thread and reuses it, with the buffers held
+  by its filters, for every later field and document analyzed on that
+  thread, so the analyzer can be shared. Fields with another {@link
+  FieldProfile} get a {@link KeywordTokenizer} alone, or stop at the
+  {@link LowerCaseFilter}. */
+  protected TokenStreamComponents createComponents(String fieldName, Reader reader) {
+    final FieldProfile profile = getFieldProfile(fieldName);
+    if (profile == FieldProfile.KEYWORD)
+      return new TokenStreamComponents(new KeywordTokenizer(reader));
+    final Tokenizer source = new ClassicTokenizer(reader);
+    TokenStream result = new ClassicFilter(source);
     result = new LowerCaseFilter(result);
-    result = new org.exist.indexing.lucene.DMLBSAccentFilter(result);
+    if (profile == FieldProfile.LOWERCASE)
+      return new TokenStreamComponents(source, result);
+    result = new DMLBSStopFilter(result, stopSet);
+    if (!foldBeforeTokenizing)
+      result = new org.exist.indexing.lucene.DMLBSAccentFilter(result, foldingTable, foldingCache, stats,
+                                                              preserveOriginal);
+    if (spellingRules != null)
+      result = new DMLBSSpellingFilter(result, spellingRules, preserveOriginal);
+    if (profile == FieldProfile.PREFIX)
+      result = new DMLBSEdgeNGramFilter(result, minGram, maxGram);
     //result = new ASCIIFoldingFilter(result);
-    result = new StopFilter(result, stopSet);
-    return result;
+    return new TokenStreamComponents(source, result);
   }
 }
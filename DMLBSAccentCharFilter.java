@@ -0,0 +1,146 @@
+package org.exist.indexing.lucene;
+
+import org.apache.lucene.analysis.charfilter.BaseCharFilter;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Applies the {@link DMLBSAccentFilter} folding to the text itself, before
+ * it reaches the tokenizer, so that combining marks and modifier letters
+ * folded to nothing no longer split words into spurious tokens, and terms
+ * need no second pass once tokenized.
+ * <p>
+ * The text is folded in a single pass as it is read. Wherever a fold
+ * changes the length of the text an offset correction is recorded, so
+ * token offsets still point into the original text for highlighting.
+ * Chars are folded as {@link DMLBSFoldingTable#lowerCaseFirst} describes,
+ * so after the analyzer's {@link
+ * org.apache.lucene.analysis.core.LowerCaseFilter} every term comes out
+ * as it would from {@link DMLBSAccentFilter}.
+ * <p>
+ * A surrogate pair is never split across two reads of the input, so
+ * supplementary code points are folded like any other char.
+ */
+public final class DMLBSAccentCharFilter extends BaseCharFilter {
+
+  private static final DMLBSFoldingTable DEFAULT_TABLE =
+    DMLBSFoldingTable.getInstalled().lowerCaseFirst();
+
+  private final DMLBSFoldingTable table;
+
+  // One char more than is read at a time, for the low surrogate of a
+  // pair cut off at the end
+  private final char[] buffer = new char[1025];
+  private int bufferPos;
+  private int bufferLength;
+
+  // The rest of a multi-char replacement, not yet returned
+  private char[] pending;
+  private int pendingPos;
+
+  private int outputOffset;
+  private int cumulativeDiff;
+
+  public DMLBSAccentCharFilter(Reader input) {
+    this(input, DEFAULT_TABLE);
+  }
+
+  /** Builds a filter that folds with <code>table</code>, which should
+   *  come from {@link DMLBSFoldingTable#lowerCaseFirst} for the terms to
+   *  match those of a {@link DMLBSAccentFilter} folding with the profile. */
+  public DMLBSAccentCharFilter(Reader input, DMLBSFoldingTable table) {
+    super(input);
+    this.table = table;
+  }
+
+  public int read(char[] cbuf, int off, int len) throws IOException {
+    int count = 0;
+    while (count < len) {
+      if (pending != null) {
+        cbuf[off + count++] = pending[pendingPos++];
+        outputOffset++;
+        if (pendingPos == pending.length)
+          pending = null;
+        continue;
+      }
+
+      if (bufferPos == bufferLength) {
+        bufferLength = input.read(buffer, 0, buffer.length - 1);
+        bufferPos = 0;
+        if (bufferLength <= 0) {
+          bufferLength = 0;
+          break;
+        }
+        if (Character.isHighSurrogate(buffer[bufferLength - 1]))
+          readLowSurrogate();
+      }
+
+      // Copy the run of chars without a mapping in one go, or as much of
+      // it as fits
+      final int next = table.indexOfMapped(buffer, bufferPos, bufferLength);
+      if (next > bufferPos) {
+        final int run = Math.min(next - bufferPos, len - count);
+        System.arraycopy(buffer, bufferPos, cbuf, off + count, run);
+        bufferPos += run;
+        count += run;
+        outputOffset += run;
+        continue;
+      }
+
+      // A surrogate pair left as is was copied with the run
+      final char c = buffer[bufferPos++];
+      final char[] folded = table.lookupAt(buffer, bufferPos - 1, bufferLength);
+      final int width = Character.isHighSurrogate(c) ? 2 : 1;
+      bufferPos += width - 1;
+      if (folded.length == 0) {
+        // Whatever follows starts width chars further on in the input
+        cumulativeDiff += width;
+        addOffCorrectMap(outputOffset, cumulativeDiff);
+        continue;
+      }
+
+      cbuf[off + count++] = folded[0];
+      outputOffset++;
+      if (folded.length > width) {
+        // The extra chars all map back to the last folded char, and
+        // whatever follows to the char after it
+        for (int i = width; i < folded.length; i++)
+          addOffCorrectMap(outputOffset + i - 1, cumulativeDiff - (i - width + 1));
+        cumulativeDiff -= folded.length - width;
+      } else if (folded.length < width) {
+        // Whatever follows starts further on in the input
+        cumulativeDiff += width - folded.length;
+        addOffCorrectMap(outputOffset + folded.length - 1, cumulativeDiff);
+      }
+      if (folded.length > 1) {
+        pending = folded;
+        pendingPos = 1;
+      }
+    }
+    return count == 0 && len > 0 ? -1 : count;
+  }
+
+  /** Reads the char following the high surrogate that ends the buffer
+   *  into the spare slot, unless the input ends there. */
+  private void readLowSurrogate() throws IOException {
+    if (input.read(buffer, bufferLength, 1) > 0)
+      bufferLength++;
+  }
+}
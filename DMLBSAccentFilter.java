@@ -1,6 +1,12 @@
 package org.exist.indexing.lucene;
 
 import org.apache.lucene.analysis.*;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.FlagsAttribute;
+import org.apache.lucene.analysis.tokenattributes.KeywordAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.util.AttributeSource;
+import java.io.IOException;
 
 /**
  * Licensed to the Apache Software Foundation (ASF) under one or more
@@ -34,544 +40,290 @@ import org.apache.lucene.analysis.*;
 
 public class DMLBSAccentFilter extends TokenFilter {
   public DMLBSAccentFilter(TokenStream input) {
+    this(input, null);
+  }
+
+  /** Builds a filter that looks terms up in <code>cache</code> before
+   *  folding them, and caches the ones it has to fold. */
+  public DMLBSAccentFilter(TokenStream input, DMLBSFoldingCache cache) {
+    this(input, cache, null);
+  }
+
+  /** Builds a filter that also counts its work into <code>stats</code>
+   *  (nothing is counted if null). */
+  public DMLBSAccentFilter(TokenStream input, DMLBSFoldingCache cache,
+                           DMLBSAccentFilterStats stats) {
+    this(input, DMLBSFoldingTable.getInstalled(), cache, stats);
+  }
+
+  /** Builds a filter that folds with the profile <code>table</code>.
+   *  The cache, if any, must only be shared with filters folding with the
+   *  same table, and the stats must have been built for it. */
+  public DMLBSAccentFilter(TokenStream input, DMLBSFoldingTable table,
+                           DMLBSFoldingCache cache, DMLBSAccentFilterStats stats) {
+    this(input, table, cache, stats, false);
+  }
+
+  /** Builds a filter that, if <code>preserveOriginal</code>, follows each
+   *  term it folds with the original term at the same position (position
+   *  increment 0), for accent-sensitive search on the same field. The
+   *  original is marked as a keyword, so later filters leave it as is,
+   *  and the folded term carries the {@link #ORIGINAL_FOLLOWS} flag, so a
+   *  {@link DMLBSSpellingFilter} does not preserve it a second time. */
+  public DMLBSAccentFilter(TokenStream input, DMLBSFoldingTable table,
+                           DMLBSFoldingCache cache, DMLBSAccentFilterStats stats,
+                           boolean preserveOriginal) {
     super(input);
+    this.table = table;
+    this.preserveOriginal = preserveOriginal;
+    this.cache = cache;
+    this.stats = stats;
+    if (stats != null) {
+      counts = new long[5];
+      charCounts = new int[table.getMappedCount()];
+      countedChars = new int[charCounts.length];
+    } else {
+      counts = null;
+      charCounts = null;
+      countedChars = null;
+    }
   }
 
-  private char[] output = new char[256];
+  private final DMLBSFoldingTable table;
+
+  /** The flag set on a folded term whose original comes next. */
+  public static final int ORIGINAL_FOLLOWS = 1 << 16;
+
+  private static final int OUTPUT_SIZE = 256;
+
+  /** A longer output buffer, grown by a pathologically long token, is
+   *  dropped again rather than kept for the life of the filter. */
+  private static final int MAX_RETAINED_OUTPUT_SIZE = 4096;
+
+  private final DMLBSFoldingCache cache;
+  private final boolean preserveOriginal;
+
+  // The original of the term just folded, still to be returned
+  private AttributeSource.State original;
+
+  // Counted here, added to stats at the end of each stream and every
+  // FLUSH_INTERVAL tokens within one; the chars counted since are listed
+  // in countedChars, so only those are added
+  private final DMLBSAccentFilterStats stats;
+  private final long[] counts;
+  private final int[] charCounts;
+  private final int[] countedChars;
+  private int countedCharCount;
+
+  private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+  private final PositionIncrementAttribute posIncAtt =
+    addAttribute(PositionIncrementAttribute.class);
+  private final KeywordAttribute keywordAtt = addAttribute(KeywordAttribute.class);
+  private final FlagsAttribute flagsAtt = addAttribute(FlagsAttribute.class);
+
+  private char[] output = new char[OUTPUT_SIZE];
   private int outputPos;
 
-  public final Token next(final Token reusableToken) throws java.io.IOException {
-    assert reusableToken != null;
-    Token nextToken = input.next(reusableToken);
-    if (nextToken != null) {
-      final char[] buffer = nextToken.termBuffer();
-      final int length = nextToken.termLength();
-      // If no characters actually require rewriting then we
-      // just return token as-is:
-      for(int i=0;i<length;i++) {
-        final char c = buffer[i];
-        if (c >= '\u00c0' && c <= '\uFB06') {
-          removeAccents(buffer, length);
-          nextToken.setTermBuffer(output, 0, outputPos);
-          break;
-        }
+  public final boolean incrementToken() throws IOException {
+    if (original != null) {
+      restoreState(original);
+      original = null;
+      posIncAtt.setPositionIncrement(0);
+      keywordAtt.setKeyword(true);
+      return true;
+    }
+    if (!input.incrementToken())
+      return false;
+
+    final char[] buffer = termAtt.buffer();
+    final int length = termAtt.length();
+    // If no characters actually require rewriting then we
+    // just return token as-is:
+    final int i = table.indexOfMapped(buffer, 0, length);
+    if (i < length) {
+      if (stats != null)
+        counts[DMLBSAccentFilterStats.TOKENS_REWRITTEN]++;
+      if (preserveOriginal) {
+        original = captureState();
+        flagsAtt.setFlags(flagsAtt.getFlags() | ORIGINAL_FOLLOWS);
       }
-      return nextToken;
-    } else
-      return null;
+      if (cache == null)
+        foldTerm(buffer, i, length);
+      else
+        foldTermCached(buffer, i, length);
+    }
+    if (stats != null
+        && ++counts[DMLBSAccentFilterStats.TOKENS] >= DMLBSAccentFilterStats.FLUSH_INTERVAL)
+      flushStats();
+    return true;
+  }
+
+  public void reset() throws IOException {
+    original = null;
+    super.reset();
+  }
+
+  public void end() throws IOException {
+    super.end();
+    flushStats();
+  }
+
+  public void close() throws IOException {
+    flushStats();
+    super.close();
+  }
+
+  /** Adds what was counted since the last flush to the stats, if any. */
+  private void flushStats() {
+    if (stats == null)
+      return;
+    stats.add(counts, charCounts, countedChars, countedCharCount);
+    countedCharCount = 0;
+  }
+
+  /**
+   * Like {@link #foldTerm}, but takes the folded term from the cache when
+   * it is there, and otherwise adds it once folded.
+   */
+  private void foldTermCached(final char[] buffer, final int start,
+                              final int length) {
+    final char[] cached = cache.get(buffer, 0, length);
+    if (cached != null) {
+      if (stats != null)
+        countCached(buffer, start, length);
+      termAtt.copyBuffer(cached, 0, cached.length);
+      return;
+    }
+
+    final char[] term = new char[length];
+    System.arraycopy(buffer, 0, term, 0, length);
+    foldTerm(buffer, start, length);
+    final char[] folded = new char[termAtt.length()];
+    System.arraycopy(termAtt.buffer(), 0, folded, 0, folded.length);
+    cache.put(term, folded);
+  }
+
+  /**
+   * Folds the term in place, starting at
+   * <code>start</code>, the first char with a mapping; everything before
+   * it is left untouched. While
+   * replacements are no longer than the chars they replace the term buffer
+   * is rewritten directly. Only once a multi-char expansion (Æ, ﬀ, Ĳ...)
+   * comes up is the remainder of the term folded into <code>output</code>
+   * and copied back behind the part already folded. A supplementary code
+   * point is folded where {@link DMLBSFoldingTable#indexOfMapped} stops on
+   * its high surrogate, as both chars of the pair.
+   */
+  private void foldTerm(final char[] buffer, final int start,
+                        final int length) {
+    int pos = start;
+    int i = start;
+    while (i < length) {
+      final char c = buffer[i];
+      final int width = Character.isHighSurrogate(c) ? 2 : 1;
+      final char[] folded = table.lookupAt(buffer, i, length);
+      if (folded.length > width) {
+        removeAccents(buffer, i, length - i);
+        final char[] termBuffer = termAtt.resizeBuffer(pos + outputPos);
+        System.arraycopy(output, 0, termBuffer, pos, outputPos);
+        termAtt.setLength(pos + outputPos);
+        if (output.length > MAX_RETAINED_OUTPUT_SIZE)
+          output = new char[OUTPUT_SIZE];
+        return;
+      }
+
+      if (stats != null)
+        countFolded(buffer, i, folded);
+      for (int j = 0; j < folded.length; j++)
+        buffer[pos++] = folded[j];
+
+      // Move the run of chars up to the next one to fold in one go
+      final int next = table.indexOfMapped(buffer, i + width, length);
+      final int run = next - i - width;
+      if (run > 0 && pos != i + width)
+        System.arraycopy(buffer, i + width, buffer, pos, run);
+      pos += run;
+      i = next;
+    }
+    termAtt.setLength(pos);
   }
 
   /**
    * To replace accented characters in a String by unaccented equivalents.
+   * The replacements come from this filter's {@link DMLBSFoldingTable}.
    */
   public final void removeAccents(char[] input, int length) {
+    removeAccents(input, 0, length);
+  }
 
-    // Worst-case length required:
-    final int maxSizeNeeded = 2*length;
+  /**
+   * Like {@link #removeAccents(char[], int)}, for the <code>length</code>
+   * chars of <code>input</code> starting at <code>offset</code>.
+   */
+  public final void removeAccents(char[] input, int offset, int length) {
+
+    // Every char yields at least one char until an expansion comes up,
+    // which then grows output itself:
+    outputPos = 0;
+    if (output.length < length)
+      growOutput(length);
+
+    final int end = offset + length;
+    int pos = offset;
+    while (pos < end) {
+      // Copy the run of chars without a mapping in one go
+      final int next = table.indexOfMapped(input, pos, end);
+      System.arraycopy(input, pos, output, outputPos, next - pos);
+      outputPos += next - pos;
+      if (next == end)
+        break;
+
+      final int width = Character.isHighSurrogate(input[next]) ? 2 : 1;
+      final char[] folded = table.lookupAt(input, next, end);
+      if (stats != null)
+        countFolded(input, next, folded);
+      final int sizeNeeded = outputPos + folded.length + (end - next - width);
+      if (sizeNeeded > output.length)
+        growOutput(sizeNeeded);
+      for (int j=0; j<folded.length; j++)
+        output[outputPos++] = folded[j];
+      pos = next + width;
+    }
+  }
 
+  /** Grows output to at least <code>minSize</code>, keeping the chars
+   *  written so far. */
+  private void growOutput(final int minSize) {
+    if (stats != null)
+      counts[DMLBSAccentFilterStats.OUTPUT_GROWTHS]++;
     int size = output.length;
-    while (size < maxSizeNeeded)
+    while (size < minSize)
       size *= 2;
 
-    if (size != output.length)
-      output = new char[size];
-
-    outputPos = 0;
+    final char[] newOutput = new char[size];
+    System.arraycopy(output, 0, newOutput, 0, outputPos);
+    output = newOutput;
+  }
 
-    int pos = 0;
-
-    for (int i=0; i<length; i++, pos++) {
-      final char c = input[pos];
-
-      // Quick test: if it's not in range then just keep
-      // current character
-      if (c < '\u00c0' || c > '\uFB06')
-        output[outputPos++] = c;
-      else {
-        switch (c) {
-        case '\u00C0' : // À
-        case '\u00C1' : // Á
-        case '\u00C2' : // Â
-        case '\u00C3' : // Ã
-        case '\u00C4' : // Ä
-        case '\u00C5' : // Å
-        case '\u0100' : // A macron
-          output[outputPos++] = 'A';
-          break;
-          
-        case '\u00C6' : // Æ
-          output[outputPos++] = 'A';
-          output[outputPos++] = 'e';
-          break;
-          
-        case '\u00C7' : // Ç
-        case '\u010C' : // C caron
-          output[outputPos++] = 'C';
-          break;
-          
-        case '\u00C8' : // È
-        case '\u00C9' : // É
-        case '\u00CA' : // Ê
-        case '\u00CB' : // Ë
-          output[outputPos++] = 'E';
-          break;
-          
-        case '\u1E24' : // Ḥ — LATIN CAPITAL LETTER H WITH DOT BELOW
-          output[outputPos++] = 'H';
-          break;       
-        
-        case '\u00CC' : // Ì
-        case '\u00CD' : // Í
-        case '\u00CE' : // Î
-        case '\u00CF' : // Ï
-        case '\u012A' : // Ī
-        case '\u012C' : // Ĭ
-        case '\u0208' : // Ȉ — LATIN CAPITAL LETTER I WITH DOUBLE GRAVE
-          output[outputPos++] = 'I';
-          break;
-          
-        case '\u0132' : // Ĳ
-            output[outputPos++] = 'I';
-            output[outputPos++] = 'J';
-            break;
-            
-        case '\u00D0' : // Ð
-          output[outputPos++] = 'D';
-          break;
-          
-        case '\u00D1' : // Ñ
-          output[outputPos++] = 'N';
-          break;
-          
-        case '\u00D2' : // Ò
-        case '\u00D3' : // Ó
-        case '\u00D4' : // Ô
-        case '\u00D5' : // Õ
-        case '\u00D6' : // Ö
-        case '\u00D8' : // Ø
-          output[outputPos++] = 'O';
-          break;
-          
-        case '\u0152' : // Œ
-          output[outputPos++] = 'O';
-          output[outputPos++] = 'e';
-          break;
-          
-        //thorn, eth, wynn and yogh left as is.
-        //case '\u00DE' : // Þ
-        //  output[outputPos++] = 'T';
-        //  output[outputPos++] = 'H';
-        //  break;
-        
-        case '\u00D9' : // Ù
-        case '\u00DA' : // Ú
-        case '\u00DB' : // Û
-        case '\u00DC' : // Ü
-        case '\u016A' : // U macron
-          output[outputPos++] = 'U';
-          break;
-          
-        case '\u00DD' : // Ý
-        case '\u0178' : // Ÿ
-          output[outputPos++] = 'Y';
-          break;
-          
-        case '\u0179': // Z'
-        case '\u017D': // Z caron
-          output[outputPos++] = 'Z';
-          break;
-          
-        case '\u00DF' : // ß — LATIN SMALL LETTER SHARP S
-          output[outputPos++] = 's';
-          output[outputPos++] = 's';
-          break;
-          
-        case '\u00E0' : // à
-        case '\u00E1' : // á
-        case '\u00E2' : // â
-        case '\u00E3' : // ã
-        case '\u00E4' : // ä
-        case '\u00E5' : // å
-        case '\u0101' : // ā macron
-        case '\u0103' : // ă — LATIN SMALL LETTER A WITH BREVE
-        case '\u01CE' : // ǎ — LATIN SMALL LETTER A WITH CARON
-        case '\u0203' : // ȃ — LATIN SMALL LETTER A WITH INVERTED BREVE
-        case '\u1EA1' : // ạ — LATIN SMALL LETTER A WITH DOT BELOW
-          output[outputPos++] = 'a';
-          break;
-        case '\u00E6' : // æ
-        case '\u01E3' : // ǣ — LATIN SMALL LETTER AE WITH MACRON
-        case '\u01FD' : // ǽ — LATIN SMALL LETTER AE WITH ACUTE
-          output[outputPos++] = 'a';
-          output[outputPos++] = 'e';
-          break;
-          
-        case '\u00E7' : // ç
-        case '\u010D' : // č caron
-          output[outputPos++] = 'c';
-          break;
-          
-        case '\u010F' : // ď — LATIN SMALL LETTER D WITH CARON
-		case '\u0111' : // đ — LATIN SMALL LETTER D WITH STROKE
-		case '\u1E0D' : // ḍ — LATIN SMALL LETTER D WITH DOT BELOW
-          output[outputPos++] = 'd';
-          break;	
-          	
-        case '\u00E8' : // è
-        case '\u00E9' : // é
-        case '\u00EA' : // ê
-        case '\u00EB' : // ë
-        case '\u0113' : // ē — LATIN SMALL LETTER E WITH MACRON
-		case '\u0115' : // ĕ — LATIN SMALL LETTER E WITH BREVE
-		case '\u0119' : // ę — LATIN SMALL LETTER E WITH OGONEK
-		case '\u011B' : // ě — LATIN SMALL LETTER E WITH CARON
-          output[outputPos++] = 'e';
-          break;
-          
-        case '\u011D' : // ĝ — LATIN SMALL LETTER G WITH CIRCUMFLEX
-          output[outputPos++] = 'g';
-          break;    
-             
-		case '\u1E25' : // ḥ — LATIN SMALL LETTER H WITH DOT BELOW
-          output[outputPos++] = 'h';
-          break;            
-             
-        case '\u00EC' : // ì
-        case '\u00ED' : // í
-        case '\u00EE' : // î
-        case '\u00EF' : // ï
-        case '\u0129' : // ĩ — LATIN SMALL LETTER I WITH TILDE
-        case '\u012B' : // ī — LATIN SMALL LETTER I WITH MACRON
-        case '\u012D' : // ĭ — LATIN SMALL LETTER I WITH BREVE
-        case '\u01D0' : // ǐ — LATIN SMALL LETTER I WITH CARON
-          output[outputPos++] = 'i';
-          break;
-          
-        case '\u0133' : // ĳ
-            output[outputPos++] = 'i';
-            output[outputPos++] = 'j';
-            break;
-            
-        case '\u0237' : // ȷ — LATIN SMALL LETTER DOTLESS J
-            output[outputPos++] = 'j';
-            break;
-            
-		case '\u1E35' : // ḵ — LATIN SMALL LETTER K WITH LINE BELOW
-			output[outputPos++] = 'k';
-            break;
-                      
-        //thorn, eth, wynn and yogh left as is.
-        //case '\u00F0' : // ð
-        //  output[outputPos++] = 'd';
-        //  break;
-        
-        case '\u0142' : // ł — LATIN SMALL LETTER L WITH STROKE
-        case '\u1E37' : // ḷ — LATIN SMALL LETTER L WITH DOT BELOW
-          output[outputPos++] = 'l';
-          break;        
-        
-        case '\u00F1' : // ñ
-        case '\u0148' : // ň — LATIN SMALL LETTER N WITH CARON
-          output[outputPos++] = 'n';
-          break;
-        
-        case '\u00F2' : // ò
-        case '\u00F3' : // ó
-        case '\u00F4' : // ô
-        case '\u00F5' : // õ
-        case '\u00F6' : // ö
-        case '\u00F8' : // ø
-        case '\u014D' : // ō — LATIN SMALL LETTER O WITH MACRON
-		case '\u014F' : // ŏ — LATIN SMALL LETTER O WITH BREVE
-		case '\u0151' : // ő — LATIN SMALL LETTER O WITH DOUBLE ACUTE
-		case '\u01EB' : // ǫ — LATIN SMALL LETTER O WITH OGONEK
-          output[outputPos++] = 'o';
-          break;
-        
-        case '\u0161' : // š — LATIN SMALL LETTER S WITH CARON
-        case '\u1E61' : // ṡ — LATIN SMALL LETTER S WITH DOT ABOVE
-		case '\u1E63' : // ṣ — LATIN SMALL LETTER S WITH DOT BELOW
-          output[outputPos++] = 's';
-          break;
-        
-        case '\u1E6D' : // ṭ — LATIN SMALL LETTER T WITH DOT BELOW
-          output[outputPos++] = 't';
-          break;        
-          
-        //thorn, eth, wynn and yogh left as is.
-		//case '\u00FE' : // þ
-        //  output[outputPos++] = 't';
-        //  output[outputPos++] = 'h';
-        //  break;
-        
-        case '\u00F9' : // ù
-        case '\u00FA' : // ú
-        case '\u00FB' : // û
-        case '\u00FC' : // ü
-        case '\u0169' : // ũ — LATIN SMALL LETTER U WITH TILDE
-		case '\u016B' : // ū — LATIN SMALL LETTER U WITH MACRON
-		case '\u016D' : // ŭ — LATIN SMALL LETTER U WITH BREVE
-		case '\u0217' : // ȗ — LATIN SMALL LETTER U WITH INVERTED BREVE
-          output[outputPos++] = 'u';
-          break;
-          
-		case '\u0175' : // ŵ — LATIN SMALL LETTER W WITH CIRCUMFLEX
-          output[outputPos++] = 'w';
-          break;
-                    
-        case '\u00FD' : // ý
-        case '\u00FF' : // ÿ
-        case '\u0233' : // ȳ — LATIN SMALL LETTER Y WITH MACRON
-          output[outputPos++] = 'y';
-          break;
-          
-        case '\u0153' : // œ
-          output[outputPos++] = 'o';
-          output[outputPos++] = 'e';
-          break;
-
-        case '\u017A': // z'
-        case '\u017C' : // ż — LATIN SMALL LETTER Z WITH DOT ABOVE
-        case '\u017E': // z caron
-          output[outputPos++] = 'z';
-          break;
-          
-        case '\uFB00': // ﬀ
-            output[outputPos++] = 'f';
-            output[outputPos++] = 'f';
-            break;
-            
-        case '\uFB01': // ﬁ
-            output[outputPos++] = 'f';
-            output[outputPos++] = 'i';
-            break;
-            
-        case '\uFB02': // ﬂ
-            output[outputPos++] = 'f';
-            output[outputPos++] = 'l';
-            break;
-            
-        // following 2 are commented as they can break the maxSizeNeeded (and doing *3 could be expensive)
-//        case '\uFB03': // ﬃ
-//            output[outputPos++] = 'f';
-//            output[outputPos++] = 'f';
-//            output[outputPos++] = 'i';
-//            break;
-//        case '\uFB04': // ﬄ
-//            output[outputPos++] = 'f';
-//            output[outputPos++] = 'f';
-//            output[outputPos++] = 'l';
-//            break;
-
-        case '\uFB05': // ﬅ
-            output[outputPos++] = 'f';
-            output[outputPos++] = 't';
-            break;
-            
-        case '\uFB06': // ﬆ
-            output[outputPos++] = 's';
-            output[outputPos++] = 't';
-          break;
-          
-        case '\u00D7' : // × — MULTIPLICATION SIGN
-          output[outputPos++] = 'x';
-          break;
-          
-        case '\u00F7' : // ÷ — DIVISION SIGN
-          output[outputPos++] = '/';
-          break;
-        
-        
-        
-        case '\u1F08' : // Ἀ — GREEK CAPITAL LETTER ALPHA WITH PSILI
-		case '\u1F0C' : // Ἄ — GREEK CAPITAL LETTER ALPHA WITH PSILI AND OXIA
-          output[outputPos++] = 'Α';
-          break;
-        
-		case '\u1F18' : // Ἐ — GREEK CAPITAL LETTER EPSILON WITH PSILI
-          output[outputPos++] = 'Ε';
-          break;
-        
-        case '\u1F29' : // Ἡ — GREEK CAPITAL LETTER ETA WITH DASIA
-          output[outputPos++] = 'Η';
-          break;        
-        
-        case '\u1F38' : // Ἰ — GREEK CAPITAL LETTER IOTA WITH PSILI
-		case '\u1F39' : // Ἱ — GREEK CAPITAL LETTER IOTA WITH DASIA
-          output[outputPos++] = 'Ι';
-          break;
-        
-        case '\u1FEC' : // Ῥ — GREEK CAPITAL LETTER RHO WITH DASIA
-          output[outputPos++] = 'Ρ';
-          break;
-                          
-        case '\u1F59' : // Ὑ — GREEK CAPITAL LETTER UPSILON WITH DASIA
-          output[outputPos++] = 'Υ';
-          break;
-                            
-        case '\u03AC' : // ά — GREEK SMALL LETTER ALPHA WITH TONOS
-        case '\u1F00' : // ἀ — GREEK SMALL LETTER ALPHA WITH PSILI
-		case '\u1F01' : // ἁ — GREEK SMALL LETTER ALPHA WITH DASIA
-		case '\u1F03' : // ἃ — GREEK SMALL LETTER ALPHA WITH DASIA AND VARIA
-		case '\u1F04' : // ἄ — GREEK SMALL LETTER ALPHA WITH PSILI AND OXIA
-		case '\u1F05' : // ἅ — GREEK SMALL LETTER ALPHA WITH DASIA AND OXIA
-		case '\u1F70' : // ὰ — GREEK SMALL LETTER ALPHA WITH VARIA
-		case '\u1F85' : // ᾅ — GREEK SMALL LETTER ALPHA WITH DASIA AND OXIA AND YPOGEGRAMMENI
-		case '\u1FB1' : // ᾱ — GREEK SMALL LETTER ALPHA WITH MACRON
-		case '\u1FB3' : // ᾳ — GREEK SMALL LETTER ALPHA WITH YPOGEGRAMMENI
-		case '\u1FB4' : // ᾴ — GREEK SMALL LETTER ALPHA WITH OXIA AND YPOGEGRAMMENI
-		case '\u1FB6' : // ᾶ — GREEK SMALL LETTER ALPHA WITH PERISPOMENI
-          output[outputPos++] = 'α';
-          break;
-          
-        case '\u1F10' : // ἐ — GREEK SMALL LETTER EPSILON WITH PSILI
-		case '\u1F11' : // ἑ — GREEK SMALL LETTER EPSILON WITH DASIA
-		case '\u1F13' : // ἓ — GREEK SMALL LETTER EPSILON WITH DASIA AND VARIA
-		case '\u1F14' : // ἔ — GREEK SMALL LETTER EPSILON WITH PSILI AND OXIA
-		case '\u1F15' : // ἕ — GREEK SMALL LETTER EPSILON WITH DASIA AND OXIA
-		case '\u1F72' : // ὲ — GREEK SMALL LETTER EPSILON WITH VARIA
-		case '\u03AD' : // έ — GREEK SMALL LETTER EPSILON WITH TONOS
-		  output[outputPos++] = 'ε';
-		  break;
-
-		case '\u1F20' : // ἠ — GREEK SMALL LETTER ETA WITH PSILI
-		case '\u1F21' : // ἡ — GREEK SMALL LETTER ETA WITH DASIA
-		case '\u1F22' : // ἢ — GREEK SMALL LETTER ETA WITH PSILI AND VARIA
-		case '\u1F24' : // ἤ — GREEK SMALL LETTER ETA WITH PSILI AND OXIA
-		case '\u1F25' : // ἥ — GREEK SMALL LETTER ETA WITH DASIA AND OXIA
-		case '\u1F26' : // ἦ — GREEK SMALL LETTER ETA WITH PSILI AND PERISPOMENI
-		case '\u1F27' : // ἧ — GREEK SMALL LETTER ETA WITH DASIA AND PERISPOMENI
-		case '\u1F74' : // ὴ — GREEK SMALL LETTER ETA WITH VARIA
-		case '\u1FC3' : // ῃ — GREEK SMALL LETTER ETA WITH YPOGEGRAMMENI
-		case '\u1FC4' : // ῄ — GREEK SMALL LETTER ETA WITH OXIA AND YPOGEGRAMMENI
-		case '\u1FC6' : // ῆ — GREEK SMALL LETTER ETA WITH PERISPOMENI
-		case '\u1FC7' : // ῇ — GREEK SMALL LETTER ETA WITH PERISPOMENI AND YPOGEGRAMMENI
-		case '\u03AE' : // ή — GREEK SMALL LETTER ETA WITH TONOS
-		  output[outputPos++] = 'η';
-		  break;
-		
-		case '\u0390' : // ΐ — GREEK SMALL LETTER IOTA WITH DIALYTIKA AND TONOS
-		case '\u03AF' : // ί — GREEK SMALL LETTER IOTA WITH TONOS
-		case '\u03CA' : // ϊ — GREEK SMALL LETTER IOTA WITH DIALYTIKA
-		case '\u1F30' : // ἰ — GREEK SMALL LETTER IOTA WITH PSILI
-		case '\u1F31' : // ἱ — GREEK SMALL LETTER IOTA WITH DASIA
-		case '\u1F32' : // ἲ — GREEK SMALL LETTER IOTA WITH PSILI AND VARIA
-		case '\u1F34' : // ἴ — GREEK SMALL LETTER IOTA WITH PSILI AND OXIA
-		case '\u1F35' : // ἵ — GREEK SMALL LETTER IOTA WITH DASIA AND OXIA
-		case '\u1F36' : // ἶ — GREEK SMALL LETTER IOTA WITH PSILI AND PERISPOMENI
-		case '\u1F37' : // ἷ — GREEK SMALL LETTER IOTA WITH DASIA AND PERISPOMENI
-		case '\u1F76' : // ὶ — GREEK SMALL LETTER IOTA WITH VARIA
-		case '\u1FD0' : // ῐ — GREEK SMALL LETTER IOTA WITH VRACHY
-		case '\u1FD6' : // ῖ — GREEK SMALL LETTER IOTA WITH PERISPOMENI
-		  output[outputPos++] = 'ι';
-		  break;
-		  
-		case '\u03CC' : // ό — GREEK SMALL LETTER OMICRON WITH TONOS
-		case '\u1F40' : // ὀ — GREEK SMALL LETTER OMICRON WITH PSILI
-		case '\u1F41' : // ὁ — GREEK SMALL LETTER OMICRON WITH DASIA
-		case '\u1F42' : // ὂ — GREEK SMALL LETTER OMICRON WITH PSILI AND VARIA
-		case '\u1F44' : // ὄ — GREEK SMALL LETTER OMICRON WITH PSILI AND OXIA
-		case '\u1F45' : // ὅ — GREEK SMALL LETTER OMICRON WITH DASIA AND OXIA
-		case '\u1F78' : // ὸ — GREEK SMALL LETTER OMICRON WITH VARIA
-		  output[outputPos++] = 'ο';
-		  break;
-		
-		case '\u1FE4' : // ῤ — GREEK SMALL LETTER RHO WITH PSILI
-		case '\u1FE5' : // ῥ — GREEK SMALL LETTER RHO WITH DASIA    
-		  output[outputPos++] = 'ρ';
-		  break;
-		
-		case '\u03CB' : // ϋ — GREEK SMALL LETTER UPSILON WITH DIALYTIKA
-		case '\u03CD' : // ύ — GREEK SMALL LETTER UPSILON WITH TONOS
-		case '\u1F50' : // ὐ — GREEK SMALL LETTER UPSILON WITH PSILI
-		case '\u1F51' : // ὑ — GREEK SMALL LETTER UPSILON WITH DASIA
-		case '\u1F52' : // ὒ — GREEK SMALL LETTER UPSILON WITH PSILI AND VARIA
-		case '\u1F53' : // ὓ — GREEK SMALL LETTER UPSILON WITH DASIA AND VARIA
-		case '\u1F54' : // ὔ — GREEK SMALL LETTER UPSILON WITH PSILI AND OXIA
-		case '\u1F55' : // ὕ — GREEK SMALL LETTER UPSILON WITH DASIA AND OXIA
-		case '\u1F56' : // ὖ — GREEK SMALL LETTER UPSILON WITH PSILI AND PERISPOMENI
-		case '\u1F7A' : // ὺ — GREEK SMALL LETTER UPSILON WITH VARIA
-		case '\u1FE0' : // ῠ — GREEK SMALL LETTER UPSILON WITH VRACHY
-		case '\u1FE1' : // ῡ — GREEK SMALL LETTER UPSILON WITH MACRON
-		case '\u1FE6' : // ῦ — GREEK SMALL LETTER UPSILON WITH PERISPOMENI
-		  output[outputPos++] = 'υ';
-		  break;
-		
-		case '\u03D5' : // ϕ — GREEK PHI SYMBOL
-		  output[outputPos++] = 'φ';
-		  break;
-		
-		
-		case '\u03CE' : // ώ — GREEK SMALL LETTER OMEGA WITH TONOS
-		case '\u1F60' : // ὠ — GREEK SMALL LETTER OMEGA WITH PSILI
-		case '\u1F61' : // ὡ — GREEK SMALL LETTER OMEGA WITH DASIA
-		case '\u1F64' : // ὤ — GREEK SMALL LETTER OMEGA WITH PSILI AND OXIA
-		case '\u1F65' : // ὥ — GREEK SMALL LETTER OMEGA WITH DASIA AND OXIA
-		case '\u1F66' : // ὦ — GREEK SMALL LETTER OMEGA WITH PSILI AND PERISPOMENI
-		case '\u1F7C' : // ὼ — GREEK SMALL LETTER OMEGA WITH VARIA
-		case '\u1FA0' : // ᾠ — GREEK SMALL LETTER OMEGA WITH PSILI AND YPOGEGRAMMENI
-		case '\u1FF3' : // ῳ — GREEK SMALL LETTER OMEGA WITH YPOGEGRAMMENI
-		case '\u1FF4' : // ῴ — GREEK SMALL LETTER OMEGA WITH OXIA AND YPOGEGRAMMENI
-		case '\u1FF6' : // ῶ — GREEK SMALL LETTER OMEGA WITH PERISPOMENI
-		case '\u1FF7' : // ῷ — GREEK SMALL LETTER OMEGA WITH PERISPOMENI AND YPOGEGRAMMENI
-		  output[outputPos++] = 'ω';
-		  break;
-		
-		      
-        case '\u02B9' : // ʹ — MODIFIER LETTER PRIME
-		case '\u02BC' : // ʼ — MODIFIER LETTER APOSTROPHE
- 		case '\u02BF' : // ʿ — MODIFIER LETTER LEFT HALF RING
- 		case '\u02C8' : // ˈ — MODIFIER LETTER VERTICAL LINE
- 		case '\u02C9' : // ˉ — MODIFIER LETTER MACRON
- 		case '\u02D8' : // ˘ — BREVE
-		case '\u0301' : // ́ — COMBINING ACUTE ACCENT
-		case '\u0302' : // ̂ — COMBINING CIRCUMFLEX ACCENT
-		case '\u0303' : // ̃ — COMBINING TILDE
-		case '\u0304' : // ̄ — COMBINING MACRON
-		case '\u0305' : // ̅ — COMBINING OVERLINE
-		case '\u0306' : // ̆ — COMBINING BREVE
-		case '\u0307' : // ̇ — COMBINING DOT ABOVE
-		case '\u0313' : // ̓ — COMBINING COMMA ABOVE
-		case '\u0314' : // ̔ — COMBINING REVERSED COMMA ABOVE
-		case '\u0323' : // ̣ — COMBINING DOT BELOW
-		case '\u0342' : // ͂ — COMBINING GREEK PERISPOMENI
-		case '\u0345' : // ͅ — COMBINING GREEK YPOGEGRAMMENI
-		case '\u035E' : // ͞ — COMBINING DOUBLE MACRON
-		case '\u0375' : // ͵ — GREEK LOWER NUMERAL SIGN
-		case '\u1FBD' : // ᾽ — GREEK KORONIS
-          break;
-          
-        case '\u200A' : //   — HAIR SPACE
-          output[outputPos++] = ' ';
-          break;
-          
-		case '\u2012' : // ‒ — FIGURE DASH
-		case '\u2013' : // – — EN DASH
-		case '\u2014' : // — — EM DASH       
-          output[outputPos++] = '-';
-          break;
-          
-		case '\u2018' : // ‘ — LEFT SINGLE QUOTATION MARK
-		case '\u2019' : // ’ — RIGHT SINGLE QUOTATION MARK
-		case '\u201B' : // ‛ — SINGLE HIGH-REVERSED-9 QUOTATION MARK
-          output[outputPos++] = '\'';
-          break;
-          
-        case '\u201C' : // “ — LEFT DOUBLE QUOTATION MARK
-		case '\u201D' : // ” — RIGHT DOUBLE QUOTATION MARK
-          output[outputPos++] = '"';
-          break;
-          
-        case '\u2025' : // ‥ — TWO DOT LEADER
-		case '\u2026' : // … — HORIZONTAL ELLIPSIS
-          output[outputPos++] = ' ';
-          break;
-                                              		        	
-        default :
-          output[outputPos++] = c;
-          break;
-        }
-      }
+  /** Counts the chars of a term found in the cache as if it had been
+   *  folded. */
+  private void countCached(final char[] buffer, final int start, final int length) {
+    for (int i = start; i < length; ) {
+      countFolded(buffer, i, table.lookupAt(buffer, i, length));
+      i = table.indexOfMapped(buffer, i + (Character.isHighSurrogate(buffer[i]) ? 2 : 1),
+                              length);
     }
   }
+
+  private void countFolded(final char[] chars, final int i, final char[] folded) {
+    counts[DMLBSAccentFilterStats.CHARS_FOLDED]++;
+    if (folded.length == 0)
+      counts[DMLBSAccentFilterStats.CHARS_DROPPED]++;
+    final char c = chars[i];
+    final int index = Character.isHighSurrogate(c)
+      ? table.supplementaryIndex(Character.toCodePoint(c, chars[i + 1]))
+      : table.mappedIndex(c);
+    if (charCounts[index]++ == 0)
+      countedChars[countedCharCount++] = index;
+  }
 }
@@ -0,0 +1,135 @@
+package org.exist.indexing.lucene;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Counters for the {@link DMLBSAccentFilter}s of one analyzer, published
+ * over JMX once {@link DMLBSAccentAnalyzer#enableStats} is called.
+ * <p>
+ * Filters count into plain fields of their own and only add their counts
+ * here at the end of each stream, and every {@link #FLUSH_INTERVAL} tokens
+ * within a long one, into {@link DMLBSStripedCounter}s, and then only the
+ * chars they actually folded, so keeping the counters on costs a few adds
+ * per field value. Terms a filter takes from its folding cache are
+ * counted as if folded. Counts are complete once a stream has ended.
+ */
+public class DMLBSAccentFilterStats implements DMLBSAccentFilterStatsMBean {
+
+  /** Tokens a filter counts before adding its counts here. */
+  static final int FLUSH_INTERVAL = 1024;
+
+  private static final int TOP_FOLDED_CHARS = 20;
+
+  static final int TOKENS = 0;
+  static final int TOKENS_REWRITTEN = 1;
+  static final int CHARS_FOLDED = 2;
+  static final int CHARS_DROPPED = 3;
+  static final int OUTPUT_GROWTHS = 4;
+
+  private final DMLBSFoldingTable table;
+  private final DMLBSStripedCounter counters = new DMLBSStripedCounter(5);
+  private final DMLBSStripedCounter foldedChars;
+
+  private long sampleTime = System.nanoTime();
+  private long sampleTokens;
+
+  /** Builds counters for filters folding with <code>table</code>. */
+  public DMLBSAccentFilterStats(final DMLBSFoldingTable table) {
+    this.table = table;
+    this.foldedChars = new DMLBSStripedCounter(table.getMappedCount());
+  }
+
+  /**
+   * Adds a filter's counts: the five counters in the order of the
+   * constants above, and the number of times each mapped char was folded,
+   * indexed by {@link DMLBSFoldingTable#mappedIndex}, of which only the
+   * first <code>countedCount</code> listed in <code>countedChars</code>
+   * are not 0. The counts are cleared for the filter to count on.
+   */
+  void add(final long[] counts, final int[] charCounts,
+           final int[] countedChars, final int countedCount) {
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] != 0) {
+        counters.add(i, counts[i]);
+        counts[i] = 0;
+      }
+    }
+    for (int i = 0; i < countedCount; i++) {
+      final int c = countedChars[i];
+      foldedChars.add(c, charCounts[c]);
+      charCounts[c] = 0;
+    }
+  }
+
+  public long getTokensProcessed() {
+    return counters.get(TOKENS);
+  }
+
+  public synchronized double getTokensPerSecond() {
+    final long now = System.nanoTime();
+    final long tokens = counters.get(TOKENS);
+    final double rate = (tokens - sampleTokens) * 1e9 / Math.max(1, now - sampleTime);
+    sampleTime = now;
+    sampleTokens = tokens;
+    return rate;
+  }
+
+  public long getTokensRewritten() {
+    return counters.get(TOKENS_REWRITTEN);
+  }
+
+  public long getCharsFolded() {
+    return counters.get(CHARS_FOLDED);
+  }
+
+  public long getCharsDropped() {
+    return counters.get(CHARS_DROPPED);
+  }
+
+  public long getOutputBufferGrowths() {
+    return counters.get(OUTPUT_GROWTHS);
+  }
+
+  public String[] getTopFoldedChars() {
+    final List<long[]> counts = new ArrayList<long[]>();
+    for (int i = 0; i < foldedChars.size(); i++) {
+      final long count = foldedChars.get(i);
+      if (count > 0)
+        counts.add(new long[] { count, i });
+    }
+    Collections.sort(counts, new Comparator<long[]>() {
+      public int compare(final long[] a, final long[] b) {
+        return a[0] > b[0] ? -1 : a[0] < b[0] ? 1 : 0;
+      }
+    });
+
+    final String[] top = new String[Math.min(TOP_FOLDED_CHARS, counts.size())];
+    for (int i = 0; i < top.length; i++) {
+      final int c = table.mappedCodePoint((int) counts.get(i)[1]);
+      top[i] = String.format("U+%04X %s: %d", Integer.valueOf(c),
+                             new String(Character.toChars(c)),
+                             Long.valueOf(counts.get(i)[0]));
+    }
+    return top;
+  }
+}
@@ -0,0 +1,45 @@
+package org.exist.indexing.lucene;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Management interface of {@link DMLBSAccentFilterStats}.
+ */
+public interface DMLBSAccentFilterStatsMBean {
+
+  /** Tokens passed through the filters. */
+  long getTokensProcessed();
+
+  /** Tokens processed per second since this attribute was last read. */
+  double getTokensPerSecond();
+
+  /** Tokens that had at least one char folded. */
+  long getTokensRewritten();
+
+  /** Chars replaced (or dropped) by their folded form. */
+  long getCharsFolded();
+
+  /** Chars folded to nothing, such as combining marks. */
+  long getCharsDropped();
+
+  /** Times a filter had to grow its output buffer. */
+  long getOutputBufferGrowths();
+
+  /** The most often folded chars and their counts, most frequent first. */
+  String[] getTopFoldedChars();
+}
@@ -0,0 +1,239 @@
+package org.exist.indexing.lucene;
+
+import org.apache.lucene.analysis.*;
+import java.io.*;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Runs {@link DMLBSAccentAnalyzer} over a whole batch of documents in
+ * parallel, for offline reindexing of the dictionary, and writes the
+ * resulting token streams out in the {@link DMLBSTokenCodec} form.
+ * <p>
+ * Documents are analyzed on a pool of worker threads, each with its own
+ * reused analyzer chain, but their records are written strictly in input
+ * order. Each document's tokens are exactly those the analyzer's
+ * {@link Analyzer#tokenStream(String, Reader)} gives for it, so the output
+ * is the same whatever the number of threads.
+ * <p>
+ * The pool is a fixed one fed a bounded window of pending documents,
+ * drained in submission order, rather than a fork-join pool: documents
+ * are flat, independent tasks with nothing to split, and the window is
+ * what keeps the records in order while holding only a few of them in
+ * memory, however large the batch.
+ * <p>
+ * The output starts with a magic number and format version, followed by
+ * one record per document: its id, then the length and bytes of its
+ * encoded token stream. {@link RecordReader} reads it back.
+ * <p>
+ * With a {@link DMLBSTokenStreamCache}, documents whose text was analyzed
+ * in an earlier run are replayed from it instead.
+ */
+public class DMLBSBulkNormalizer {
+
+  static final int MAGIC = 0x444D4C54; // "DMLT"
+  static final int VERSION = 2;
+
+  private final Analyzer analyzer;
+  private final String fieldName;
+  private final int threads;
+  private final DMLBSTokenStreamCache cache;
+
+  /** A document to normalize: an id carried into the output, and its
+   *  text. */
+  public static abstract class Document {
+    private final String id;
+
+    protected Document(final String id) {
+      this.id = id;
+    }
+
+    public final String getId() {
+      return id;
+    }
+
+    public abstract Reader openReader() throws IOException;
+
+    /** A document held in memory. */
+    public static Document forText(final String id, final String text) {
+      return new Document(id) {
+        public Reader openReader() {
+          return new StringReader(text);
+        }
+      };
+    }
+
+    /** A UTF-8 text file, identified by its path. */
+    public static Document forFile(final File file) {
+      return new Document(file.getPath()) {
+        public Reader openReader() throws IOException {
+          return new BufferedReader(new InputStreamReader(
+            new FileInputStream(file), "UTF-8"));
+        }
+      };
+    }
+  }
+
+  /**
+   * Builds a normalizer analyzing the field <code>fieldName</code> with
+   * <code>analyzer</code> on <code>threads</code> worker threads.
+   */
+  public DMLBSBulkNormalizer(final Analyzer analyzer, final String fieldName,
+                             final int threads) {
+    this(analyzer, fieldName, threads, null);
+  }
+
+  /**
+   * Builds a normalizer that takes the tokens of documents from
+   * <code>cache</code> (none if null) when it has them, and adds those it
+   * has to analyze. The cache must have been opened for
+   * <code>analyzer</code>.
+   */
+  public DMLBSBulkNormalizer(final Analyzer analyzer, final String fieldName,
+                             final int threads, final DMLBSTokenStreamCache cache) {
+    if (threads < 1)
+      throw new IllegalArgumentException("threads must be at least 1: " + threads);
+    this.analyzer = analyzer;
+    this.fieldName = fieldName;
+    this.threads = threads;
+    this.cache = cache;
+  }
+
+  /**
+   * Analyzes every document from <code>documents</code> and writes the
+   * records to <code>out</code>, in the order the documents came. Only a
+   * few documents per thread are in flight at any time, so the batch can
+   * be far larger than memory.
+   */
+  public void normalize(final Iterator<? extends Document> documents,
+                        final OutputStream out) throws IOException {
+    final DataOutputStream data =
+      new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+
+    final ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      final LinkedList<Future<byte[]>> pending = new LinkedList<Future<byte[]>>();
+      final LinkedList<String> ids = new LinkedList<String>();
+      while (documents.hasNext() || !pending.isEmpty()) {
+        while (documents.hasNext() && pending.size() < 4 * threads) {
+          final Document document = documents.next();
+          ids.add(document.getId());
+          pending.add(pool.submit(new Callable<byte[]>() {
+            public byte[] call() throws IOException {
+              return analyze(document);
+            }
+          }));
+        }
+        final byte[] tokens = get(pending.removeFirst());
+        data.writeUTF(ids.removeFirst());
+        data.writeInt(tokens.length);
+        data.write(tokens);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    data.flush();
+  }
+
+  private byte[] analyze(final Document document) throws IOException {
+    final Reader reader = document.openReader();
+    try {
+      if (cache != null)
+        return cache.encode(fieldName, readText(reader));
+      return DMLBSTokenCodec.encode(analyzer.tokenStream(fieldName, reader));
+    } finally {
+      reader.close();
+    }
+  }
+
+  private static String readText(final Reader reader) throws IOException {
+    final StringBuilder text = new StringBuilder();
+    final char[] buffer = new char[4096];
+    int length;
+    while ((length = reader.read(buffer, 0, buffer.length)) != -1)
+      text.append(buffer, 0, length);
+    return text.toString();
+  }
+
+  private static byte[] get(final Future<byte[]> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while normalizing");
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException)
+        throw (IOException) cause;
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      if (cause instanceof Error)
+        throw (Error) cause;
+      throw new IOException(String.valueOf(cause));
+    }
+  }
+
+  /** Reads back the records written by {@link #normalize}. */
+  public static class RecordReader {
+    private final DataInputStream data;
+    private String id;
+    private byte[] tokens;
+
+    public RecordReader(final InputStream in) throws IOException {
+      data = new DataInputStream(new BufferedInputStream(in));
+      if (data.readInt() != MAGIC)
+        throw new IOException("Not a normalized token stream file");
+      final int version = data.readInt();
+      if (version != VERSION)
+        throw new IOException("Unsupported normalized token stream version: " + version);
+    }
+
+    /** Moves to the next record, returning false at the end of input. */
+    public boolean next() throws IOException {
+      try {
+        id = data.readUTF();
+      } catch (EOFException e) {
+        id = null;
+        tokens = null;
+        return false;
+      }
+      tokens = new byte[data.readInt()];
+      data.readFully(tokens);
+      return true;
+    }
+
+    /** Returns the id of the current document. */
+    public String getId() {
+      return id;
+    }
+
+    /** Returns the tokens of the current document, ready for indexing. */
+    public TokenStream getTokenStream() {
+      return DMLBSTokenCodec.decode(tokens);
+    }
+  }
+}
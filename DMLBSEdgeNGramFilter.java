@@ -0,0 +1,94 @@
+package org.exist.indexing.lucene;
+
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.KeywordAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import java.io.IOException;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Follows each term with its leading edge n-grams, from
+ * <code>minGram</code> to <code>maxGram</code> chars long, at the same
+ * position, so that a prefix of up to <code>maxGram</code> chars is found
+ * with a single term lookup instead of a {@link
+ * org.apache.lucene.search.PrefixQuery} enumerating every term it
+ * matches. It goes after the {@link DMLBSAccentFilter} (and any {@link
+ * DMLBSSpellingFilter}), so the n-grams are folded exactly as the terms
+ * and the query prefixes are.
+ * <p>
+ * The term itself is always kept, however short or long, so exact matches
+ * still work and a longer prefix falls back to a prefix query over fewer
+ * terms. An n-gram that would split a surrogate pair is skipped. Terms
+ * marked as keywords, such as preserved originals, get no n-grams.
+ */
+public final class DMLBSEdgeNGramFilter extends TokenFilter {
+
+  private final int minGram;
+  private final int maxGram;
+
+  private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+  private final PositionIncrementAttribute posIncAtt =
+    addAttribute(PositionIncrementAttribute.class);
+  private final KeywordAttribute keywordAtt = addAttribute(KeywordAttribute.class);
+
+  // The term whose n-grams are being returned, and the next n-gram length
+  private char[] term = new char[64];
+  private int termLength;
+  private int gramLength;
+
+  public DMLBSEdgeNGramFilter(TokenStream input, int minGram, int maxGram) {
+    super(input);
+    if (minGram < 1 || maxGram < minGram)
+      throw new IllegalArgumentException("Bad n-gram bounds " + minGram + ".." + maxGram);
+    this.minGram = minGram;
+    this.maxGram = maxGram;
+  }
+
+  public boolean incrementToken() throws IOException {
+    while (gramLength > 0) {
+      final int length = gramLength;
+      gramLength = length < maxGram && length + 1 < termLength ? length + 1 : 0;
+      if (Character.isHighSurrogate(term[length - 1]))
+        continue;
+      // The attributes still hold the term, apart from its chars
+      termAtt.copyBuffer(term, 0, length);
+      posIncAtt.setPositionIncrement(0);
+      return true;
+    }
+
+    if (!input.incrementToken())
+      return false;
+    final int length = termAtt.length();
+    if (!keywordAtt.isKeyword() && length > minGram) {
+      if (term.length < length)
+        term = new char[Math.max(length, 2 * term.length)];
+      System.arraycopy(termAtt.buffer(), 0, term, 0, length);
+      termLength = length;
+      gramLength = minGram;
+    }
+    return true;
+  }
+
+  public void reset() throws IOException {
+    super.reset();
+    gramLength = 0;
+  }
+}
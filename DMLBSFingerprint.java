@@ -0,0 +1,70 @@
+package org.exist.indexing.lucene;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * 64-bit FNV-1a hashing of analysis settings, for telling whether what
+ * was analyzed under one configuration still holds under another. The
+ * value depends only on the data hashed, so it is stable across JVMs.
+ */
+final class DMLBSFingerprint {
+
+  static final long START = 0xCBF29CE484222325L;
+  private static final long PRIME = 0x100000001B3L;
+
+  private DMLBSFingerprint() {
+  }
+
+  static long add(long h, final int value) {
+    for (int shift = 0; shift < 32; shift += 8) {
+      h ^= (value >>> shift) & 0xFF;
+      h *= PRIME;
+    }
+    return h;
+  }
+
+  static long add(long h, final long value) {
+    return add(add(h, (int) value), (int) (value >>> 32));
+  }
+
+  static long add(long h, final byte[] bytes) {
+    for (int i = 0; i < bytes.length; i++) {
+      h ^= bytes[i] & 0xFF;
+      h *= PRIME;
+    }
+    return h;
+  }
+
+  static long add(long h, final char[] chars) {
+    h = add(h, chars.length);
+    for (int i = 0; i < chars.length; i++)
+      h = add(h, chars[i]);
+    return h;
+  }
+
+  static long add(long h, final int[] values) {
+    h = add(h, values.length);
+    for (int i = 0; i < values.length; i++)
+      h = add(h, values[i]);
+    return h;
+  }
+
+  static long add(final long h, final String s) {
+    return add(h, s.toCharArray());
+  }
+}
@@ -0,0 +1,167 @@
+package org.exist.indexing.lucene;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A bounded cache of folded terms for {@link DMLBSAccentFilter}, keyed on
+ * the raw term chars. Dictionary text repeats the same lemma forms,
+ * abbreviations and sigla over and over, so a hit saves folding the term
+ * again.
+ * <p>
+ * The cache is a 4-way set-associative table: a term's hash picks a set
+ * of four slots, and when all four are taken the entry to replace is
+ * chosen by second chance (CLOCK), sparing entries hit since the hand last
+ * passed. Entries are immutable and slots are swapped atomically, so one
+ * cache can be shared by all indexing threads without locking; at worst
+ * two threads race to insert and one entry is lost. Lookups work straight
+ * on the term buffer and allocate nothing. The hit, miss and eviction
+ * counts are {@link DMLBSStripedCounter}s, so counting a lookup does not
+ * make the threads contend on one cache line either.
+ */
+public final class DMLBSFoldingCache {
+
+  private static final int WAYS = 4;
+
+  private static final class Entry {
+    final int hash;
+    final char[] term;
+    final char[] folded;
+    volatile boolean referenced;
+
+    Entry(final int hash, final char[] term, final char[] folded) {
+      this.hash = hash;
+      this.term = term;
+      this.folded = folded;
+    }
+  }
+
+  private final AtomicReferenceArray<Entry> slots;
+  private final int setMask;
+  private final byte[] hands;
+
+  private static final int HITS = 0;
+  private static final int MISSES = 1;
+  private static final int EVICTIONS = 2;
+  private final DMLBSStripedCounter counters = new DMLBSStripedCounter(3);
+
+  /** Builds a cache holding at most <code>maxEntries</code> terms (rounded
+   *  down to a power of two). */
+  public DMLBSFoldingCache(final int maxEntries) {
+    if (maxEntries < WAYS)
+      throw new IllegalArgumentException("maxEntries must be at least " + WAYS + ": " + maxEntries);
+    int sets = 1;
+    while (sets * 2 * WAYS <= maxEntries)
+      sets *= 2;
+    slots = new AtomicReferenceArray<Entry>(sets * WAYS);
+    setMask = sets - 1;
+    hands = new byte[sets];
+  }
+
+  /**
+   * Returns the folded form of the <code>length</code> chars of
+   * <code>term</code> from <code>offset</code>, or null if it is not
+   * cached. The returned array is shared and must not be modified.
+   */
+  public char[] get(final char[] term, final int offset, final int length) {
+    final int hash = hash(term, offset, length);
+    final int base = (hash & setMask) * WAYS;
+    for (int i = 0; i < WAYS; i++) {
+      final Entry entry = slots.get(base + i);
+      if (entry != null && entry.hash == hash
+          && equals(entry.term, term, offset, length)) {
+        if (!entry.referenced)
+          entry.referenced = true;
+        counters.add(HITS, 1);
+        return entry.folded;
+      }
+    }
+    counters.add(MISSES, 1);
+    return null;
+  }
+
+  /**
+   * Caches <code>folded</code> as the folded form of <code>term</code>.
+   * Both arrays are kept as they are and must not be modified afterwards.
+   */
+  public void put(final char[] term, final char[] folded) {
+    final int hash = hash(term, 0, term.length);
+    final int set = hash & setMask;
+    final int base = set * WAYS;
+    final Entry entry = new Entry(hash, term, folded);
+    for (int i = 0; i < WAYS; i++) {
+      if (slots.get(base + i) == null
+          && slots.compareAndSet(base + i, null, entry))
+        return;
+    }
+
+    // Set is full: advance the hand past recently used entries, giving
+    // each a second chance, and replace the first one that isn't.
+    int hand = hands[set];
+    for (int i = 0; i < 2 * WAYS; i++) {
+      final Entry victim = slots.get(base + hand);
+      if (victim != null && victim.referenced)
+        victim.referenced = false;
+      else
+        break;
+      hand = (hand + 1) & (WAYS - 1);
+    }
+    slots.set(base + hand, entry);
+    hands[set] = (byte) ((hand + 1) & (WAYS - 1));
+    counters.add(EVICTIONS, 1);
+  }
+
+  /** Returns the number of lookups that found the term cached. */
+  public long getHits() {
+    return counters.get(HITS);
+  }
+
+  /** Returns the number of lookups that did not find the term. */
+  public long getMisses() {
+    return counters.get(MISSES);
+  }
+
+  /** Returns the number of entries replaced to make room for others. */
+  public long getEvictions() {
+    return counters.get(EVICTIONS);
+  }
+
+  /** Returns the most terms this cache holds at once. */
+  public int getCapacity() {
+    return slots.length();
+  }
+
+  private static int hash(final char[] term, final int offset, final int length) {
+    int hash = 0;
+    for (int i = offset, end = offset + length; i < end; i++)
+      hash = 31 * hash + term[i];
+    // Spread the low bits, which pick the set
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean equals(final char[] key, final char[] term,
+                                final int offset, final int length) {
+    if (key.length != length)
+      return false;
+    for (int i = 0; i < length; i++)
+      if (key[i] != term[offset + i])
+        return false;
+    return true;
+  }
+}
@@ -0,0 +1,1326 @@
+package org.exist.indexing.lucene;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The folding rules used by {@link DMLBSAccentFilter}, precomputed into a
+ * compact lookup table.
+ * <p>
+ * The table is a two-level page table keyed by char: the high byte selects
+ * a page of 256 entries, the low byte an entry within it. Each entry is the
+ * id of an interned replacement sequence, 0 meaning the char is left as is.
+ * Pages without any mapping share one empty page, so the whole table costs
+ * a few KB and folding a char is a single array lookup.
+ * <p>
+ * Alongside it a bitmap, paged the same way, records exactly which chars
+ * have a mapping, so callers can test whether a term needs folding at all
+ * without touching the replacement sequences.
+ * <p>
+ * Code points outside the BMP, such as the mathematical letters or
+ * characters a profile assigns from the supplementary private use planes,
+ * are kept apart in a sparse sorted table. A second bitmap, the same as the
+ * first except that it also marks each high surrogate leading a mapped
+ * code point, is what {@link #indexOfMapped} scans, so that sparse table is
+ * only searched when a term contains such a high surrogate, and terms
+ * without one are scanned at the same cost as before.
+ * <p>
+ * {@link #getDefault()} combines the hand-written DMLBS rules with folds
+ * generated from the Unicode decomposition data by {@link
+ * DMLBSFoldingTableGenerator}, so the table grows with the coverage but
+ * the cost of a lookup does not. Other profiles are loaded from a mapping
+ * file with {@link #load(File)} and compiled into the same structure.
+ * <p>
+ * A compiled table can also be saved with {@link #write(File)} and mapped
+ * back with {@link #map(File)}, which skips compiling the rules at startup.
+ * The file is about 10 KB for the DMLBS rules, and is copied once into the
+ * same on-heap pages a compiled table has, so lookups never go through
+ * the mapping and cost exactly the same: what the JVMs on a host share is
+ * the compiling saved, not the few KB of pages each keeps.
+ */
+public final class DMLBSFoldingTable {
+
+  private static final char[] EMPTY_PAGE = new char[256];
+  private static final long[] EMPTY_BITS = new long[4];
+
+
+  /**
+   * The system property naming a compiled table file that {@link
+   * #getInstalled()} maps instead of using {@link #getDefault()}.
+   */
+  public static final String TABLE_FILE_PROPERTY =
+    "org.exist.indexing.lucene.DMLBSFoldingTable.file";
+
+  /** Starts a compiled table file: "DMLF". */
+  static final int MAGIC = 0x444D4C46;
+  /** The version of the compiled table format. Version 1 files, which
+   *  have no supplementary code points, can still be mapped. */
+  static final int VERSION = 2;
+
+  /** The longest replacement a mapping file may give a char. */
+  public static final int MAX_REPLACEMENT_LENGTH = 4;
+
+  private final char[][] pages = new char[256][];
+  private final long[][] bits = new long[256][];
+  private final long[][] stops = new long[256][];
+  private final int[] pageRanks = new int[256];
+  private final char[][] sequences;
+  private final char[] mappedChars;
+  private final int[] supplementaryCodePoints;
+  private final char[] supplementaryIds;
+  // The lowest char that has a mapping or starts a mapped pair, or 0x10000
+  private final int firstStop;
+
+  // Derived tables, worked out on first use; a race only works one out
+  // twice
+  private volatile DMLBSFoldingTable lowerCaseFirst;
+  private volatile DMLBSFoldingTable[] untokenized;
+
+  /**
+   * Compiles a table from <code>folds</code>, which holds the replacement
+   * for each char (indexed by char) or null where the char is left as is.
+   */
+  DMLBSFoldingTable(final String[] folds) {
+    this(folds, new TreeMap<Integer, String>());
+  }
+
+  /**
+   * Compiles a table from <code>folds</code>, as above, and the
+   * replacements of the supplementary code points in
+   * <code>supplementary</code>.
+   */
+  DMLBSFoldingTable(final String[] folds,
+                    final SortedMap<Integer, String> supplementary) {
+    final Map<String, Integer> ids = new HashMap<String, Integer>();
+    final List<char[]> seqs = new ArrayList<char[]>();
+    seqs.add(null); // id 0: not mapped
+    final StringBuilder mapped = new StringBuilder();
+    final StringBuilder mappedIds = new StringBuilder();
+
+    for (int c = 0; c < folds.length; c++) {
+      final String fold = folds[c];
+      if (fold == null)
+        continue;
+      mapped.append((char) c);
+      mappedIds.append((char) intern(fold, ids, seqs));
+    }
+    supplementaryCodePoints = new int[supplementary.size()];
+    supplementaryIds = new char[supplementary.size()];
+    int i = 0;
+    for (Map.Entry<Integer, String> e : supplementary.entrySet()) {
+      supplementaryCodePoints[i] = e.getKey().intValue();
+      supplementaryIds[i++] = (char) intern(e.getValue(), ids, seqs);
+    }
+    sequences = seqs.toArray(new char[seqs.size()][]);
+    mappedChars = mapped.toString().toCharArray();
+    firstStop = firstStop(mappedChars, supplementaryCodePoints);
+    index(mappedIds.toString().toCharArray());
+  }
+
+  private static int firstStop(final char[] mappedChars,
+                               final int[] supplementaryCodePoints) {
+    int first = mappedChars.length > 0 ? mappedChars[0] : 0x10000;
+    if (supplementaryCodePoints.length > 0)
+      first = Math.min(first, Character.highSurrogate(supplementaryCodePoints[0]));
+    return first;
+  }
+
+  private static int intern(final String fold, final Map<String, Integer> ids,
+                            final List<char[]> seqs) {
+    Integer id = ids.get(fold);
+    if (id == null) {
+      id = Integer.valueOf(seqs.size());
+      ids.put(fold, id);
+      seqs.add(fold.toCharArray());
+    }
+    return id.intValue();
+  }
+
+  /**
+   * Builds a table from its compiled form: the replacement sequences by
+   * id (0 unused), the mapped chars in ascending order and the id each
+   * of them maps to, then the same for the supplementary code points.
+   */
+  private DMLBSFoldingTable(final char[][] sequences, final char[] mappedChars,
+                            final char[] ids, final int[] supplementaryCodePoints,
+                            final char[] supplementaryIds) {
+    this.sequences = sequences;
+    this.mappedChars = mappedChars;
+    this.supplementaryCodePoints = supplementaryCodePoints;
+    this.supplementaryIds = supplementaryIds;
+    firstStop = firstStop(mappedChars, supplementaryCodePoints);
+    index(ids);
+  }
+
+  /** Fills in the page table and bitmaps from the mapped chars and code
+   *  points. */
+  private void index(final char[] ids) {
+    int next = 0;
+    for (int page = 0; page < 256; page++) {
+      pageRanks[page] = next;
+      char[] entries = EMPTY_PAGE;
+      long[] pageBits = EMPTY_BITS;
+      for (; next < mappedChars.length && mappedChars[next] >>> 8 == page; next++) {
+        final int i = mappedChars[next] & 0xFF;
+        if (entries == EMPTY_PAGE) {
+          entries = new char[256];
+          pageBits = new long[4];
+        }
+        entries[i] = ids[next];
+        pageBits[i >>> 6] |= 1L << i;
+      }
+      pages[page] = entries;
+      bits[page] = pageBits;
+      stops[page] = pageBits;
+    }
+
+    for (int i = 0; i < supplementaryCodePoints.length; i++) {
+      final char high = Character.highSurrogate(supplementaryCodePoints[i]);
+      final int page = high >>> 8;
+      if (stops[page] == bits[page])
+        stops[page] = bits[page].clone();
+      stops[page][(high >>> 6) & 3] |= 1L << high;
+    }
+  }
+
+  /**
+   * Saves this table in compiled form, for {@link #map(File)}: the magic
+   * number and format version, the replacement sequences, the mapped chars
+   * with the sequence each maps to, the same for the supplementary code
+   * points, and a CRC-32 of all that.
+   */
+  public void write(final File file) throws IOException {
+    final DataOutputStream out = new DataOutputStream(
+      new BufferedOutputStream(new FileOutputStream(file)));
+    try {
+      final byte[] body = toBytes();
+      final CRC32 crc = new CRC32();
+      crc.update(body, 0, body.length);
+      out.write(body);
+      out.writeInt((int) crc.getValue());
+    } finally {
+      out.close();
+    }
+  }
+
+  private byte[] toBytes() {
+    int size = 16;
+    for (int id = 1; id < sequences.length; id++)
+      size += 2 + 2 * sequences[id].length;
+    size += 4 * mappedChars.length + 4 + 6 * supplementaryCodePoints.length;
+
+    final ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.putInt(MAGIC).putInt(VERSION)
+          .putInt(sequences.length).putInt(mappedChars.length);
+    for (int id = 1; id < sequences.length; id++) {
+      buffer.putChar((char) sequences[id].length);
+      for (int i = 0; i < sequences[id].length; i++)
+        buffer.putChar(sequences[id][i]);
+    }
+    for (int i = 0; i < mappedChars.length; i++) {
+      final char c = mappedChars[i];
+      buffer.putChar(c).putChar(pages[c >>> 8][c & 0xFF]);
+    }
+    buffer.putInt(supplementaryCodePoints.length);
+    for (int i = 0; i < supplementaryCodePoints.length; i++)
+      buffer.putInt(supplementaryCodePoints[i]).putChar(supplementaryIds[i]);
+    return buffer.array();
+  }
+
+  /**
+   * Maps a table saved by {@link #write(File)} read-only, checks it and
+   * copies it into the pages of a new table, without compiling any rules
+   * (nor the DMLBS rules of {@link #getDefault()}).
+   *
+   * @throws IOException if the file cannot be read, is not a compiled
+   *   table of this version or version 1, or fails its checksum
+   */
+  public static DMLBSFoldingTable map(final File file) throws IOException {
+    final RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      final FileChannel channel = raf.getChannel();
+      final long size = channel.size();
+      if (size < 20 || size > Integer.MAX_VALUE)
+        throw new IOException(file + ": not a compiled folding table");
+      final ByteBuffer buffer =
+        channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+      if (buffer.getInt(0) != MAGIC)
+        throw new IOException(file + ": not a compiled folding table");
+      final int version = buffer.getInt(4);
+      if (version != VERSION && version != 1)
+        throw new IOException(file + ": folding table format " + version
+                              + ", expected " + VERSION);
+      // CRC32.update(ByteBuffer) is Java 8; go through a small array
+      final CRC32 crc = new CRC32();
+      final ByteBuffer body = buffer.duplicate();
+      body.limit((int) size - 4);
+      final byte[] chunk = new byte[8192];
+      while (body.hasRemaining()) {
+        final int n = Math.min(chunk.length, body.remaining());
+        body.get(chunk, 0, n);
+        crc.update(chunk, 0, n);
+      }
+      if ((int) crc.getValue() != buffer.getInt((int) size - 4))
+        throw new IOException(file + ": folding table checksum mismatch");
+
+      buffer.position(8);
+      buffer.limit((int) size - 4);
+      try {
+        return read(buffer, version);
+      } catch (BufferUnderflowException e) {
+        throw new IOException(file + ": truncated folding table");
+      }
+    } finally {
+      raf.close();
+    }
+  }
+
+  private static boolean isCompiled(final File file) throws IOException {
+    final RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      return raf.length() >= 4 && raf.readInt() == MAGIC;
+    } finally {
+      raf.close();
+    }
+  }
+
+  private static DMLBSFoldingTable read(final ByteBuffer buffer, final int version)
+    throws IOException {
+    final int sequenceCount = buffer.getInt();
+    final int mappedCount = buffer.getInt();
+    if (sequenceCount < 1 || sequenceCount > 0x10000
+        || mappedCount < 0 || mappedCount > 0x10000)
+      throw new IOException("corrupt folding table header");
+
+    final char[][] sequences = new char[sequenceCount][];
+    for (int id = 1; id < sequenceCount; id++) {
+      final char[] sequence = new char[buffer.getChar()];
+      buffer.asCharBuffer().get(sequence);
+      buffer.position(buffer.position() + 2 * sequence.length);
+      sequences[id] = sequence;
+    }
+    final char[] mappedChars = new char[mappedCount];
+    final char[] ids = new char[mappedCount];
+    for (int i = 0; i < mappedCount; i++) {
+      mappedChars[i] = buffer.getChar();
+      ids[i] = buffer.getChar();
+      if ((i > 0 && mappedChars[i] <= mappedChars[i - 1])
+          || ids[i] == 0 || ids[i] >= sequenceCount)
+        throw new IOException("corrupt folding table entry " + i);
+    }
+
+    final int supplementaryCount = version == 1 ? 0 : buffer.getInt();
+    if (supplementaryCount < 0 || supplementaryCount > 0x100000)
+      throw new IOException("corrupt folding table header");
+    final int[] codePoints = new int[supplementaryCount];
+    final char[] supplementaryIds = new char[supplementaryCount];
+    for (int i = 0; i < supplementaryCount; i++) {
+      codePoints[i] = buffer.getInt();
+      supplementaryIds[i] = buffer.getChar();
+      if (!Character.isSupplementaryCodePoint(codePoints[i])
+          || (i > 0 && codePoints[i] <= codePoints[i - 1])
+          || supplementaryIds[i] == 0 || supplementaryIds[i] >= sequenceCount)
+        throw new IOException("corrupt folding table entry " + (mappedCount + i));
+    }
+    if (buffer.hasRemaining())
+      throw new IOException("corrupt folding table: trailing data");
+    return new DMLBSFoldingTable(sequences, mappedChars, ids, codePoints,
+                                 supplementaryIds);
+  }
+
+  /**
+   * Like {@link #map(File)}, but falls back to {@link #getDefault()} if the
+   * file is missing, unreadable, of another format version or corrupt, so
+   * a bad file never stops indexing.
+   */
+  public static DMLBSFoldingTable mapOrDefault(final File file) {
+    if (!file.isFile())
+      return getDefault();
+    try {
+      return map(file);
+    } catch (IOException e) {
+      return getDefault();
+    }
+  }
+
+  /**
+   * Returns the DMLBS folding rules, compiled the first time they are
+   * asked for and then shared by the whole JVM. A JVM that maps its table
+   * from a file never compiles them.
+   */
+  public static DMLBSFoldingTable getDefault() {
+    return Default.TABLE;
+  }
+
+  private static final class Default {
+    static final DMLBSFoldingTable TABLE =
+      new DMLBSFoldingTable(defaultFolds(), defaultSupplementaryFolds());
+  }
+
+  /**
+   * Returns the table filters fold with unless given another: the one
+   * mapped from the file named by {@link #TABLE_FILE_PROPERTY}, if set,
+   * else (or if that file is bad) {@link #getDefault()}. It is looked up once
+   * per JVM.
+   */
+  public static DMLBSFoldingTable getInstalled() {
+    return Installed.TABLE;
+  }
+
+  private static final class Installed {
+    static final DMLBSFoldingTable TABLE;
+    static {
+      final String file = System.getProperty(TABLE_FILE_PROPERTY);
+      TABLE = file == null ? getDefault() : mapOrDefault(new File(file));
+    }
+  }
+
+  /**
+   * Loads a folding profile from <code>file</code>: either a table
+   * compiled by {@link #write(File)}, which is mapped, or a UTF-8 mapping
+   * file.
+   *
+   * @see #map(File)
+   * @see #load(Reader)
+   */
+  public static DMLBSFoldingTable load(final File file) throws IOException {
+    if (isCompiled(file))
+      return map(file);
+    final Reader reader =
+      new InputStreamReader(new FileInputStream(file), "UTF-8");
+    try {
+      return load(reader);
+    } catch (IOException e) {
+      throw new IOException(file + ": " + e.getMessage(), e);
+    } finally {
+      reader.close();
+    }
+  }
+
+  /**
+   * Loads a folding profile: the DMLBS rules of {@link #getDefault()}, changed
+   * by the mappings read from <code>reader</code>. Each line maps one char
+   * to its replacement, both quoted, with <code>&#92;uXXXX</code> (four
+   * hex digits),
+   * <code>\"</code> and <code>\\</code> escapes:
+   * <pre>
+   *   # keep macrons for the metrical index
+   *   "&#92;u0101" =&gt; "&#92;u0101"
+   *   "&#92;u017F" =&gt; "s"
+   *   "&#92;u0307" =&gt; ""
+   *   # a supplementary private use char, as its surrogate pair
+   *   "&#92;uDB80&#92;uDC01" =&gt; "ae"
+   * </pre>
+   * A char mapped to itself is left as is. A code point outside the BMP
+   * is given as its surrogate pair. Blank lines and lines starting with
+   * <code>#</code> are ignored.
+   *
+   * @throws IOException if a line is malformed, maps a lone surrogate,
+   *   gives a replacement longer than {@link #MAX_REPLACEMENT_LENGTH}, or
+   *   maps a char already mapped differently on an earlier line
+   */
+  public static DMLBSFoldingTable load(final Reader reader) throws IOException {
+    final String[] folds = defaultFolds();
+    final SortedMap<Integer, String> supplementary = defaultSupplementaryFolds();
+    final Map<Integer, Integer> definedAt = new HashMap<Integer, Integer>();
+    final Map<Integer, String> defined = new HashMap<Integer, String>();
+    final BufferedReader in = new BufferedReader(reader);
+    final int[] pos = new int[1];
+    String line;
+    for (int lineNo = 1; (line = in.readLine()) != null; lineNo++) {
+      pos[0] = skipSpace(line, 0);
+      if (pos[0] == line.length() || line.charAt(pos[0]) == '#')
+        continue;
+      final String from = parseLiteral(line, pos, lineNo);
+      pos[0] = skipSpace(line, pos[0]);
+      if (!line.startsWith("=>", pos[0]))
+        throw new IOException("line " + lineNo + ": expected =>");
+      pos[0] = skipSpace(line, pos[0] + 2);
+      final String to = parseLiteral(line, pos, lineNo);
+      if (skipSpace(line, pos[0]) != line.length())
+        throw new IOException("line " + lineNo + ": unexpected text after mapping");
+
+      if (from.length() == 0 || from.codePointCount(0, from.length()) != 1)
+        throw new IOException("line " + lineNo + ": \"" + from
+                              + "\" must be a single char");
+      final int c = from.codePointAt(0);
+      if (Character.isSurrogate(from.charAt(0)) && from.length() == 1)
+        throw new IOException("line " + lineNo + ": cannot map the lone surrogate "
+                              + hex(c));
+      if (to.length() > MAX_REPLACEMENT_LENGTH)
+        throw new IOException("line " + lineNo + ": replacement for " + hex(c)
+                              + " is longer than " + MAX_REPLACEMENT_LENGTH
+                              + " chars");
+      final Integer key = Integer.valueOf(c);
+      final String earlier = defined.get(key);
+      if (earlier != null && !earlier.equals(to))
+        throw new IOException("line " + lineNo + ": " + hex(c)
+                              + " is already mapped to \"" + earlier
+                              + "\" on line " + definedAt.get(key));
+      defined.put(key, to);
+      definedAt.put(key, Integer.valueOf(lineNo));
+      final String fold = to.equals(from) ? null : to;
+      if (c < 0x10000)
+        folds[c] = fold;
+      else if (fold == null)
+        supplementary.remove(key);
+      else
+        supplementary.put(key, fold);
+    }
+    return new DMLBSFoldingTable(folds, supplementary);
+  }
+
+  /**
+   * Compiles the DMLBS rules, or the mapping file given second, into the
+   * table file given first:
+   * <pre>
+   *   java org.exist.indexing.lucene.DMLBSFoldingTable dmlbs.fold [profile.txt]
+   * </pre>
+   */
+  public static void main(final String[] args) throws IOException {
+    if (args.length < 1 || args.length > 2) {
+      System.err.println("Usage: DMLBSFoldingTable <table file> [mapping file]");
+      System.exit(2);
+    }
+    final DMLBSFoldingTable table =
+      args.length == 2 ? load(new File(args[1])) : getDefault();
+    table.write(new File(args[0]));
+    System.out.println("Wrote " + table.getMappedCount() + " mappings to " + args[0]);
+  }
+
+  private static int skipSpace(final String line, int pos) {
+    while (pos < line.length() && Character.isWhitespace(line.charAt(pos)))
+      pos++;
+    return pos;
+  }
+
+  private static String parseLiteral(final String line, final int[] pos,
+                                     final int lineNo) throws IOException {
+    int i = pos[0];
+    if (i == line.length() || line.charAt(i) != '"')
+      throw new IOException("line " + lineNo + ": expected a quoted string");
+    final StringBuilder b = new StringBuilder();
+    for (i++; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        pos[0] = i + 1;
+        return b.toString();
+      }
+      if (c == '\\') {
+        if (++i == line.length())
+          break;
+        c = line.charAt(i);
+        if (c == 'u') {
+          if (i + 4 >= line.length())
+            throw new IOException("line " + lineNo + ": truncated \\u escape");
+          // Exactly four ASCII hex digits: no sign, as parseInt would
+          // take, and no other script's digits, as Character.digit would
+          int code = 0;
+          for (int j = i + 1; j <= i + 4; j++) {
+            final char h = line.charAt(j);
+            final int digit = h < 0x80 ? Character.digit(h, 16) : -1;
+            if (digit < 0)
+              throw new IOException("line " + lineNo + ": bad \\u escape \\u"
+                                    + line.substring(i + 1, i + 5));
+            code = code << 4 | digit;
+          }
+          c = (char) code;
+          i += 4;
+        } else if (c != '"' && c != '\\') {
+          throw new IOException("line " + lineNo + ": unknown escape \\" + c);
+        }
+      }
+      b.append(c);
+    }
+    throw new IOException("line " + lineNo + ": unterminated string");
+  }
+
+  private static String hex(final int c) {
+    return String.format("U+%04X", Integer.valueOf(c));
+  }
+
+  /**
+   * Returns a table that folds each char the way this one folds its lower
+   * case form, for folding ahead of a {@link
+   * org.apache.lucene.analysis.core.LowerCaseFilter}: lower-casing what
+   * the returned table gives for a char yields what this table gives for
+   * the lower-cased char. Chars whose lower case form has no mapping,
+   * and which have none themselves, are left as is. Supplementary code
+   * points are treated alike. The table is worked out once per table.
+   */
+  public DMLBSFoldingTable lowerCaseFirst() {
+    DMLBSFoldingTable table = lowerCaseFirst;
+    if (table == null)
+      lowerCaseFirst = table = computeLowerCaseFirst();
+    return table;
+  }
+
+  private DMLBSFoldingTable computeLowerCaseFirst() {
+    final String[] folds = new String[0x10000];
+    for (int c = 0; c < folds.length; c++) {
+      final char lower = Character.toLowerCase((char) c);
+      if (isMapped(lower))
+        folds[c] = new String(lookup(lower));
+      else if (isMapped((char) c))
+        folds[c] = String.valueOf(lower);
+    }
+    final SortedMap<Integer, String> supplementary = new TreeMap<Integer, String>();
+    for (int i = 0; i < supplementaryCodePoints.length; i++) {
+      final int c = supplementaryCodePoints[i];
+      final int lower = Character.toLowerCase(c);
+      final char[] folded = lookupCodePoint(lower);
+      supplementary.put(Integer.valueOf(c), folded != null
+                        ? new String(folded)
+                        : new String(Character.toChars(lower)));
+    }
+    // Supplementary code points whose lower case form alone is mapped;
+    // no plane above the first has case
+    for (int c = 0x10000; c <= 0x1FFFF; c++) {
+      final int lower = Character.toLowerCase(c);
+      if (lower != c && lower >= 0x10000 && supplementaryIndexOf(lower) >= 0)
+        supplementary.put(Integer.valueOf(c), new String(lookupCodePoint(lower)));
+    }
+    return new DMLBSFoldingTable(folds, supplementary);
+  }
+
+  /**
+   * Returns a table holding only this one's mappings for supplementary
+   * code points and for chars of the private use area, or null if it has
+   * none. The classic tokenizer takes neither kind of char for part of a
+   * word and drops them, so they have to be folded ahead of it, as by a
+   * {@link DMLBSAccentCharFilter}, for their mappings to take effect.
+   * The table is worked out once per table.
+   */
+  public DMLBSFoldingTable supplementaryAndPrivateUse() {
+    DMLBSFoldingTable[] table = untokenized;
+    if (table == null)
+      untokenized = table = new DMLBSFoldingTable[] { computeSupplementaryAndPrivateUse() };
+    return table[0];
+  }
+
+  private DMLBSFoldingTable computeSupplementaryAndPrivateUse() {
+    final String[] folds = new String[0x10000];
+    boolean any = supplementaryCodePoints.length > 0;
+    for (int c = 0xE000; c <= 0xF8FF; c++) {
+      if (isMapped((char) c)) {
+        folds[c] = new String(lookup((char) c));
+        any = true;
+      }
+    }
+    if (!any)
+      return null;
+    final SortedMap<Integer, String> supplementary = new TreeMap<Integer, String>();
+    for (int i = 0; i < supplementaryCodePoints.length; i++)
+      supplementary.put(Integer.valueOf(supplementaryCodePoints[i]),
+                        new String(sequences[supplementaryIds[i]]));
+    return new DMLBSFoldingTable(folds, supplementary);
+  }
+
+  /**
+   * Returns a 64-bit hash of the compiled table, the same for any two
+   * tables that fold alike, for noticing that the folding rules changed.
+   * It is worked out afresh on each call.
+   */
+  public long fingerprint() {
+    return DMLBSFingerprint.add(DMLBSFingerprint.START, toBytes());
+  }
+
+  /** Returns the number of chars and supplementary code points that have
+   *  a mapping. */
+  public int getMappedCount() {
+    return mappedChars.length + supplementaryCodePoints.length;
+  }
+
+  /**
+   * Returns the rank of the mapped char <code>c</code> among all mapped
+   * chars, from 0 to {@link #getMappedCount()} - 1, for keeping compact
+   * per-char statistics. Only meaningful if {@link #isMapped}.
+   */
+  public int mappedIndex(final char c) {
+    final long[] pageBits = bits[c >>> 8];
+    final int word = (c >>> 6) & 3;
+    int rank = pageRanks[c >>> 8] + Long.bitCount(pageBits[word] & ((1L << c) - 1));
+    for (int i = 0; i < word; i++)
+      rank += Long.bitCount(pageBits[i]);
+    return rank;
+  }
+
+  /**
+   * Returns the rank of the mapped supplementary code point
+   * <code>codePoint</code>, which follows the ranks of all mapped chars.
+   * Only meaningful if {@link #lookupSupplementary} maps it.
+   */
+  public int supplementaryIndex(final int codePoint) {
+    return mappedChars.length + supplementaryIndexOf(codePoint);
+  }
+
+  /** Returns the mapped char of rank <code>index</code>, which must be
+   *  below the number of mapped chars. */
+  public char mappedChar(final int index) {
+    return mappedChars[index];
+  }
+
+  /** Returns the mapped char or supplementary code point of rank
+   *  <code>index</code>. */
+  public int mappedCodePoint(final int index) {
+    return index < mappedChars.length
+      ? mappedChars[index]
+      : supplementaryCodePoints[index - mappedChars.length];
+  }
+
+  /** Returns true if <code>c</code> has a mapping in this table. */
+  public boolean isMapped(final char c) {
+    return (bits[c >>> 8][(c >>> 6) & 3] & (1L << c)) != 0;
+  }
+
+  /**
+   * Returns true if <code>c</code> has a mapping, or is the high surrogate
+   * of some mapped supplementary code point. This is the one bitmap test
+   * to make per char before looking further.
+   */
+  public boolean startsMapped(final char c) {
+    return (stops[c >>> 8][(c >>> 6) & 3] & (1L << c)) != 0;
+  }
+
+  /**
+   * Returns the index of the first char of <code>chars</code> from
+   * <code>from</code> up to <code>to</code> that has a mapping, or starts
+   * a surrogate pair that has, or <code>to</code> if there is none.
+   * <p>
+   * Unless the table maps ASCII chars, which the DMLBS rules do not, runs
+   * of ASCII are skipped four chars at a time: OR-ed together they have
+   * no bit above 0x7F, tested with one compare and no table lookup.
+   * Chars below the lowest one with a mapping are passed over with a
+   * compare as well, which leaves a table mapping only supplementary code
+   * points or private use chars next to nothing to look up. Only a char that passes {@link #startsMapped} is checked for being a
+   * high surrogate, so the supplementary table costs nothing until one
+   * turns up.
+   */
+  public int indexOfMapped(final char[] chars, int from, final int to) {
+    if (firstStop >= 0x80) {
+      final int last = to - 3;
+      while (from < last
+             && ((chars[from] | chars[from + 1] | chars[from + 2] | chars[from + 3])
+                 & 0xFF80) == 0)
+        from += 4;
+    }
+    for (; from < to; from++) {
+      final char c = chars[from];
+      if (c >= firstStop && startsMapped(c)
+          && (!Character.isHighSurrogate(c) || lookupAt(chars, from, to) != null))
+        return from;
+    }
+    return to;
+  }
+
+  /**
+   * Returns the replacement for <code>c</code> (possibly empty), or null
+   * if <code>c</code> is left as is. The returned array is shared and
+   * must not be modified.
+   */
+  public char[] lookup(final char c) {
+    return sequences[pages[c >>> 8][c & 0xFF]];
+  }
+
+  /**
+   * Returns the replacement for the supplementary code point
+   * <code>codePoint</code> (possibly empty), or null if it is left as is,
+   * found by binary search in the sparse supplementary table.
+   */
+  public char[] lookupSupplementary(final int codePoint) {
+    final int i = supplementaryIndexOf(codePoint);
+    return i >= 0 ? sequences[supplementaryIds[i]] : null;
+  }
+
+  /** Returns the replacement for any code point, or null if it is left
+   *  as is. */
+  public char[] lookupCodePoint(final int codePoint) {
+    return codePoint < 0x10000
+      ? lookup((char) codePoint)
+      : lookupSupplementary(codePoint);
+  }
+
+  /**
+   * Returns the replacement for the code point starting at
+   * <code>chars[i]</code>, which must be before <code>to</code>, or null
+   * if it is left as is. A replacement for a high surrogate is that of
+   * the pair it starts, which the caller has to step over; a lone
+   * surrogate is left as is.
+   */
+  public char[] lookupAt(final char[] chars, final int i, final int to) {
+    final char c = chars[i];
+    if (!Character.isHighSurrogate(c))
+      return lookup(c);
+    if (i + 1 == to || !Character.isLowSurrogate(chars[i + 1]))
+      return null;
+    return lookupSupplementary(Character.toCodePoint(c, chars[i + 1]));
+  }
+
+  private int supplementaryIndexOf(final int codePoint) {
+    return Arrays.binarySearch(supplementaryCodePoints, codePoint);
+  }
+
+  /**
+   * Returns <code>text</code> with every char folded, as {@link
+   * DMLBSAccentFilter} folds a term.
+   */
+  public String fold(final CharSequence text) {
+    final int length = text.length();
+    int i = 0;
+    while (i < length && !startsMapped(text.charAt(i)))
+      i++;
+    if (i == length)
+      return text.toString();
+
+    final StringBuilder folded = new StringBuilder(length + 8);
+    folded.append(text, 0, i);
+    for (; i < length; i++) {
+      final char c = text.charAt(i);
+      char[] replacement = null;
+      if (!Character.isHighSurrogate(c)) {
+        replacement = lookup(c);
+      } else if (i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+        replacement = lookupSupplementary(Character.toCodePoint(c, text.charAt(i + 1)));
+        if (replacement != null)
+          i++;
+      }
+      if (replacement == null)
+        folded.append(c);
+      else
+        folded.append(replacement);
+    }
+    return folded.toString();
+  }
+
+  private static void fold(final String[] folds, final String replacement,
+                           final char[] chars) {
+    for (int i = 0; i < chars.length; i++)
+      folds[chars[i]] = replacement;
+  }
+
+  /**
+   * Returns the DMLBS rules merged over {@link DMLBSGeneratedFolds}, so
+   * that a hand-written rule always wins over the decomposition data.
+   */
+  private static String[] defaultFolds() {
+    final String[] folds = dmlbsFolds();
+    final String[] generated = DMLBSGeneratedFolds.FOLDS;
+    for (int i = 0; i < generated.length; i += 2) {
+      final char c = generated[i].charAt(0);
+      if (folds[c] == null)
+        folds[c] = generated[i + 1];
+    }
+    return folds;
+  }
+
+  /** Returns the generated folds of supplementary code points, from
+   *  {@link DMLBSGeneratedFolds#SUPPLEMENTARY_FOLDS}. */
+  private static SortedMap<Integer, String> defaultSupplementaryFolds() {
+    final SortedMap<Integer, String> folds = new TreeMap<Integer, String>();
+    final String[] generated = DMLBSGeneratedFolds.SUPPLEMENTARY_FOLDS;
+    for (int i = 0; i < generated.length; i += 2)
+      folds.put(Integer.valueOf(generated[i].codePointAt(0)), generated[i + 1]);
+    return folds;
+  }
+
+  /** Returns the hand-written DMLBS rules alone, indexed by char. */
+  static String[] dmlbsFolds() {
+    final String[] folds = new String[0x10000];
+
+    fold(folds, "A", new char[] {
+      '\u00C0', // À
+      '\u00C1', // Á
+      '\u00C2', // Â
+      '\u00C3', // Ã
+      '\u00C4', // Ä
+      '\u00C5', // Å
+      '\u0100', // A macron
+    });
+
+    fold(folds, "Ae", new char[] {
+      '\u00C6', // Æ
+    });
+
+    fold(folds, "C", new char[] {
+      '\u00C7', // Ç
+      '\u010C', // C caron
+    });
+
+    fold(folds, "E", new char[] {
+      '\u00C8', // È
+      '\u00C9', // É
+      '\u00CA', // Ê
+      '\u00CB', // Ë
+    });
+
+    fold(folds, "H", new char[] {
+      '\u1E24', // Ḥ — LATIN CAPITAL LETTER H WITH DOT BELOW
+    });
+
+    fold(folds, "I", new char[] {
+      '\u00CC', // Ì
+      '\u00CD', // Í
+      '\u00CE', // Î
+      '\u00CF', // Ï
+      '\u012A', // Ī
+      '\u012C', // Ĭ
+      '\u0208', // Ȉ — LATIN CAPITAL LETTER I WITH DOUBLE GRAVE
+    });
+
+    fold(folds, "IJ", new char[] {
+      '\u0132', // Ĳ
+    });
+
+    fold(folds, "D", new char[] {
+      '\u00D0', // Ð
+    });
+
+    fold(folds, "N", new char[] {
+      '\u00D1', // Ñ
+    });
+
+    fold(folds, "O", new char[] {
+      '\u00D2', // Ò
+      '\u00D3', // Ó
+      '\u00D4', // Ô
+      '\u00D5', // Õ
+      '\u00D6', // Ö
+      '\u00D8', // Ø
+    });
+
+    fold(folds, "Oe", new char[] {
+      '\u0152', // Œ
+    });
+
+    //thorn, eth, wynn and yogh left as is.
+    //fold(folds, "TH", new char[] {
+    //  '\u00DE', // Þ
+    //});
+
+    fold(folds, "U", new char[] {
+      '\u00D9', // Ù
+      '\u00DA', // Ú
+      '\u00DB', // Û
+      '\u00DC', // Ü
+      '\u016A', // U macron
+    });
+
+    fold(folds, "Y", new char[] {
+      '\u00DD', // Ý
+      '\u0178', // Ÿ
+    });
+
+    fold(folds, "Z", new char[] {
+      '\u0179', // Z'
+      '\u017D', // Z caron
+    });
+
+    fold(folds, "ss", new char[] {
+      '\u00DF', // ß — LATIN SMALL LETTER SHARP S
+    });
+
+    fold(folds, "a", new char[] {
+      '\u00E0', // à
+      '\u00E1', // á
+      '\u00E2', // â
+      '\u00E3', // ã
+      '\u00E4', // ä
+      '\u00E5', // å
+      '\u0101', // ā macron
+      '\u0103', // ă — LATIN SMALL LETTER A WITH BREVE
+      '\u01CE', // ǎ — LATIN SMALL LETTER A WITH CARON
+      '\u0203', // ȃ — LATIN SMALL LETTER A WITH INVERTED BREVE
+      '\u1EA1', // ạ — LATIN SMALL LETTER A WITH DOT BELOW
+    });
+    fold(folds, "ae", new char[] {
+      '\u00E6', // æ
+      '\u01E3', // ǣ — LATIN SMALL LETTER AE WITH MACRON
+      '\u01FD', // ǽ — LATIN SMALL LETTER AE WITH ACUTE
+    });
+
+    fold(folds, "c", new char[] {
+      '\u00E7', // ç
+      '\u010D', // č caron
+    });
+
+    fold(folds, "d", new char[] {
+      '\u010F', // ď — LATIN SMALL LETTER D WITH CARON
+      '\u0111', // đ — LATIN SMALL LETTER D WITH STROKE
+      '\u1E0D', // ḍ — LATIN SMALL LETTER D WITH DOT BELOW
+    });
+
+    fold(folds, "e", new char[] {
+      '\u00E8', // è
+      '\u00E9', // é
+      '\u00EA', // ê
+      '\u00EB', // ë
+      '\u0113', // ē — LATIN SMALL LETTER E WITH MACRON
+      '\u0115', // ĕ — LATIN SMALL LETTER E WITH BREVE
+      '\u0119', // ę — LATIN SMALL LETTER E WITH OGONEK
+      '\u011B', // ě — LATIN SMALL LETTER E WITH CARON
+    });
+
+    fold(folds, "g", new char[] {
+      '\u011D', // ĝ — LATIN SMALL LETTER G WITH CIRCUMFLEX
+    });
+
+    fold(folds, "h", new char[] {
+      '\u1E25', // ḥ — LATIN SMALL LETTER H WITH DOT BELOW
+    });
+
+    fold(folds, "i", new char[] {
+      '\u00EC', // ì
+      '\u00ED', // í
+      '\u00EE', // î
+      '\u00EF', // ï
+      '\u0129', // ĩ — LATIN SMALL LETTER I WITH TILDE
+      '\u012B', // ī — LATIN SMALL LETTER I WITH MACRON
+      '\u012D', // ĭ — LATIN SMALL LETTER I WITH BREVE
+      '\u01D0', // ǐ — LATIN SMALL LETTER I WITH CARON
+    });
+
+    fold(folds, "ij", new char[] {
+      '\u0133', // ĳ
+    });
+
+    fold(folds, "j", new char[] {
+      '\u0237', // ȷ — LATIN SMALL LETTER DOTLESS J
+    });
+
+    fold(folds, "k", new char[] {
+      '\u1E35', // ḵ — LATIN SMALL LETTER K WITH LINE BELOW
+    });
+
+    //thorn, eth, wynn and yogh left as is.
+    //fold(folds, "d", new char[] {
+    //  '\u00F0', // ð
+    //});
+
+    fold(folds, "l", new char[] {
+      '\u0142', // ł — LATIN SMALL LETTER L WITH STROKE
+      '\u1E37', // ḷ — LATIN SMALL LETTER L WITH DOT BELOW
+    });
+
+    fold(folds, "n", new char[] {
+      '\u00F1', // ñ
+      '\u0148', // ň — LATIN SMALL LETTER N WITH CARON
+    });
+
+    fold(folds, "o", new char[] {
+      '\u00F2', // ò
+      '\u00F3', // ó
+      '\u00F4', // ô
+      '\u00F5', // õ
+      '\u00F6', // ö
+      '\u00F8', // ø
+      '\u014D', // ō — LATIN SMALL LETTER O WITH MACRON
+      '\u014F', // ŏ — LATIN SMALL LETTER O WITH BREVE
+      '\u0151', // ő — LATIN SMALL LETTER O WITH DOUBLE ACUTE
+      '\u01EB', // ǫ — LATIN SMALL LETTER O WITH OGONEK
+    });
+
+    fold(folds, "s", new char[] {
+      '\u0161', // š — LATIN SMALL LETTER S WITH CARON
+      '\u1E61', // ṡ — LATIN SMALL LETTER S WITH DOT ABOVE
+      '\u1E63', // ṣ — LATIN SMALL LETTER S WITH DOT BELOW
+    });
+
+    fold(folds, "t", new char[] {
+      '\u1E6D', // ṭ — LATIN SMALL LETTER T WITH DOT BELOW
+    });
+
+    //thorn, eth, wynn and yogh left as is.
+    //fold(folds, "th", new char[] {
+    //  '\u00FE', // þ
+    //});
+
+    fold(folds, "u", new char[] {
+      '\u00F9', // ù
+      '\u00FA', // ú
+      '\u00FB', // û
+      '\u00FC', // ü
+      '\u0169', // ũ — LATIN SMALL LETTER U WITH TILDE
+      '\u016B', // ū — LATIN SMALL LETTER U WITH MACRON
+      '\u016D', // ŭ — LATIN SMALL LETTER U WITH BREVE
+      '\u0217', // ȗ — LATIN SMALL LETTER U WITH INVERTED BREVE
+    });
+
+    fold(folds, "w", new char[] {
+      '\u0175', // ŵ — LATIN SMALL LETTER W WITH CIRCUMFLEX
+    });
+
+    fold(folds, "y", new char[] {
+      '\u00FD', // ý
+      '\u00FF', // ÿ
+      '\u0233', // ȳ — LATIN SMALL LETTER Y WITH MACRON
+    });
+
+    fold(folds, "oe", new char[] {
+      '\u0153', // œ
+    });
+
+    fold(folds, "z", new char[] {
+      '\u017A', // z'
+      '\u017C', // ż — LATIN SMALL LETTER Z WITH DOT ABOVE
+      '\u017E', // z caron
+    });
+
+    fold(folds, "ff", new char[] {
+      '\uFB00', // ﬀ
+    });
+
+    fold(folds, "fi", new char[] {
+      '\uFB01', // ﬁ
+    });
+
+    fold(folds, "fl", new char[] {
+      '\uFB02', // ﬂ
+    });
+
+    fold(folds, "ffi", new char[] {
+      '\uFB03', // ﬃ
+    });
+
+    fold(folds, "ffl", new char[] {
+      '\uFB04', // ﬄ
+    });
+
+    fold(folds, "ft", new char[] {
+      '\uFB05', // ﬅ
+    });
+
+    fold(folds, "st", new char[] {
+      '\uFB06', // ﬆ
+    });
+
+    fold(folds, "x", new char[] {
+      '\u00D7', // × — MULTIPLICATION SIGN
+    });
+
+    fold(folds, "/", new char[] {
+      '\u00F7', // ÷ — DIVISION SIGN
+    });
+
+    fold(folds, "Α", new char[] {
+      '\u1F08', // Ἀ — GREEK CAPITAL LETTER ALPHA WITH PSILI
+      '\u1F0C', // Ἄ — GREEK CAPITAL LETTER ALPHA WITH PSILI AND OXIA
+    });
+
+    fold(folds, "Ε", new char[] {
+      '\u1F18', // Ἐ — GREEK CAPITAL LETTER EPSILON WITH PSILI
+    });
+
+    fold(folds, "Η", new char[] {
+      '\u1F29', // Ἡ — GREEK CAPITAL LETTER ETA WITH DASIA
+    });
+
+    fold(folds, "Ι", new char[] {
+      '\u1F38', // Ἰ — GREEK CAPITAL LETTER IOTA WITH PSILI
+      '\u1F39', // Ἱ — GREEK CAPITAL LETTER IOTA WITH DASIA
+    });
+
+    fold(folds, "Ρ", new char[] {
+      '\u1FEC', // Ῥ — GREEK CAPITAL LETTER RHO WITH DASIA
+    });
+
+    fold(folds, "Υ", new char[] {
+      '\u1F59', // Ὑ — GREEK CAPITAL LETTER UPSILON WITH DASIA
+    });
+
+    fold(folds, "α", new char[] {
+      '\u03AC', // ά — GREEK SMALL LETTER ALPHA WITH TONOS
+      '\u1F00', // ἀ — GREEK SMALL LETTER ALPHA WITH PSILI
+      '\u1F01', // ἁ — GREEK SMALL LETTER ALPHA WITH DASIA
+      '\u1F03', // ἃ — GREEK SMALL LETTER ALPHA WITH DASIA AND VARIA
+      '\u1F04', // ἄ — GREEK SMALL LETTER ALPHA WITH PSILI AND OXIA
+      '\u1F05', // ἅ — GREEK SMALL LETTER ALPHA WITH DASIA AND OXIA
+      '\u1F70', // ὰ — GREEK SMALL LETTER ALPHA WITH VARIA
+      '\u1F85', // ᾅ — GREEK SMALL LETTER ALPHA WITH DASIA AND OXIA AND YPOGEGRAMMENI
+      '\u1FB1', // ᾱ — GREEK SMALL LETTER ALPHA WITH MACRON
+      '\u1FB3', // ᾳ — GREEK SMALL LETTER ALPHA WITH YPOGEGRAMMENI
+      '\u1FB4', // ᾴ — GREEK SMALL LETTER ALPHA WITH OXIA AND YPOGEGRAMMENI
+      '\u1FB6', // ᾶ — GREEK SMALL LETTER ALPHA WITH PERISPOMENI
+    });
+
+    fold(folds, "ε", new char[] {
+      '\u1F10', // ἐ — GREEK SMALL LETTER EPSILON WITH PSILI
+      '\u1F11', // ἑ — GREEK SMALL LETTER EPSILON WITH DASIA
+      '\u1F13', // ἓ — GREEK SMALL LETTER EPSILON WITH DASIA AND VARIA
+      '\u1F14', // ἔ — GREEK SMALL LETTER EPSILON WITH PSILI AND OXIA
+      '\u1F15', // ἕ — GREEK SMALL LETTER EPSILON WITH DASIA AND OXIA
+      '\u1F72', // ὲ — GREEK SMALL LETTER EPSILON WITH VARIA
+      '\u03AD', // έ — GREEK SMALL LETTER EPSILON WITH TONOS
+    });
+
+    fold(folds, "η", new char[] {
+      '\u1F20', // ἠ — GREEK SMALL LETTER ETA WITH PSILI
+      '\u1F21', // ἡ — GREEK SMALL LETTER ETA WITH DASIA
+      '\u1F22', // ἢ — GREEK SMALL LETTER ETA WITH PSILI AND VARIA
+      '\u1F24', // ἤ — GREEK SMALL LETTER ETA WITH PSILI AND OXIA
+      '\u1F25', // ἥ — GREEK SMALL LETTER ETA WITH DASIA AND OXIA
+      '\u1F26', // ἦ — GREEK SMALL LETTER ETA WITH PSILI AND PERISPOMENI
+      '\u1F27', // ἧ — GREEK SMALL LETTER ETA WITH DASIA AND PERISPOMENI
+      '\u1F74', // ὴ — GREEK SMALL LETTER ETA WITH VARIA
+      '\u1FC3', // ῃ — GREEK SMALL LETTER ETA WITH YPOGEGRAMMENI
+      '\u1FC4', // ῄ — GREEK SMALL LETTER ETA WITH OXIA AND YPOGEGRAMMENI
+      '\u1FC6', // ῆ — GREEK SMALL LETTER ETA WITH PERISPOMENI
+      '\u1FC7', // ῇ — GREEK SMALL LETTER ETA WITH PERISPOMENI AND YPOGEGRAMMENI
+      '\u03AE', // ή — GREEK SMALL LETTER ETA WITH TONOS
+    });
+
+    fold(folds, "ι", new char[] {
+      '\u0390', // ΐ — GREEK SMALL LETTER IOTA WITH DIALYTIKA AND TONOS
+      '\u03AF', // ί — GREEK SMALL LETTER IOTA WITH TONOS
+      '\u03CA', // ϊ — GREEK SMALL LETTER IOTA WITH DIALYTIKA
+      '\u1F30', // ἰ — GREEK SMALL LETTER IOTA WITH PSILI
+      '\u1F31', // ἱ — GREEK SMALL LETTER IOTA WITH DASIA
+      '\u1F32', // ἲ — GREEK SMALL LETTER IOTA WITH PSILI AND VARIA
+      '\u1F34', // ἴ — GREEK SMALL LETTER IOTA WITH PSILI AND OXIA
+      '\u1F35', // ἵ — GREEK SMALL LETTER IOTA WITH DASIA AND OXIA
+      '\u1F36', // ἶ — GREEK SMALL LETTER IOTA WITH PSILI AND PERISPOMENI
+      '\u1F37', // ἷ — GREEK SMALL LETTER IOTA WITH DASIA AND PERISPOMENI
+      '\u1F76', // ὶ — GREEK SMALL LETTER IOTA WITH VARIA
+      '\u1FD0', // ῐ — GREEK SMALL LETTER IOTA WITH VRACHY
+      '\u1FD6', // ῖ — GREEK SMALL LETTER IOTA WITH PERISPOMENI
+    });
+
+    fold(folds, "ο", new char[] {
+      '\u03CC', // ό — GREEK SMALL LETTER OMICRON WITH TONOS
+      '\u1F40', // ὀ — GREEK SMALL LETTER OMICRON WITH PSILI
+      '\u1F41', // ὁ — GREEK SMALL LETTER OMICRON WITH DASIA
+      '\u1F42', // ὂ — GREEK SMALL LETTER OMICRON WITH PSILI AND VARIA
+      '\u1F44', // ὄ — GREEK SMALL LETTER OMICRON WITH PSILI AND OXIA
+      '\u1F45', // ὅ — GREEK SMALL LETTER OMICRON WITH DASIA AND OXIA
+      '\u1F78', // ὸ — GREEK SMALL LETTER OMICRON WITH VARIA
+    });
+
+    fold(folds, "ρ", new char[] {
+      '\u1FE4', // ῤ — GREEK SMALL LETTER RHO WITH PSILI
+      '\u1FE5', // ῥ — GREEK SMALL LETTER RHO WITH DASIA
+    });
+
+    fold(folds, "υ", new char[] {
+      '\u03CB', // ϋ — GREEK SMALL LETTER UPSILON WITH DIALYTIKA
+      '\u03CD', // ύ — GREEK SMALL LETTER UPSILON WITH TONOS
+      '\u1F50', // ὐ — GREEK SMALL LETTER UPSILON WITH PSILI
+      '\u1F51', // ὑ — GREEK SMALL LETTER UPSILON WITH DASIA
+      '\u1F52', // ὒ — GREEK SMALL LETTER UPSILON WITH PSILI AND VARIA
+      '\u1F53', // ὓ — GREEK SMALL LETTER UPSILON WITH DASIA AND VARIA
+      '\u1F54', // ὔ — GREEK SMALL LETTER UPSILON WITH PSILI AND OXIA
+      '\u1F55', // ὕ — GREEK SMALL LETTER UPSILON WITH DASIA AND OXIA
+      '\u1F56', // ὖ — GREEK SMALL LETTER UPSILON WITH PSILI AND PERISPOMENI
+      '\u1F7A', // ὺ — GREEK SMALL LETTER UPSILON WITH VARIA
+      '\u1FE0', // ῠ — GREEK SMALL LETTER UPSILON WITH VRACHY
+      '\u1FE1', // ῡ — GREEK SMALL LETTER UPSILON WITH MACRON
+      '\u1FE6', // ῦ — GREEK SMALL LETTER UPSILON WITH PERISPOMENI
+    });
+
+    fold(folds, "φ", new char[] {
+      '\u03D5', // ϕ — GREEK PHI SYMBOL
+    });
+
+    fold(folds, "ω", new char[] {
+      '\u03CE', // ώ — GREEK SMALL LETTER OMEGA WITH TONOS
+      '\u1F60', // ὠ — GREEK SMALL LETTER OMEGA WITH PSILI
+      '\u1F61', // ὡ — GREEK SMALL LETTER OMEGA WITH DASIA
+      '\u1F64', // ὤ — GREEK SMALL LETTER OMEGA WITH PSILI AND OXIA
+      '\u1F65', // ὥ — GREEK SMALL LETTER OMEGA WITH DASIA AND OXIA
+      '\u1F66', // ὦ — GREEK SMALL LETTER OMEGA WITH PSILI AND PERISPOMENI
+      '\u1F7C', // ὼ — GREEK SMALL LETTER OMEGA WITH VARIA
+      '\u1FA0', // ᾠ — GREEK SMALL LETTER OMEGA WITH PSILI AND YPOGEGRAMMENI
+      '\u1FF3', // ῳ — GREEK SMALL LETTER OMEGA WITH YPOGEGRAMMENI
+      '\u1FF4', // ῴ — GREEK SMALL LETTER OMEGA WITH OXIA AND YPOGEGRAMMENI
+      '\u1FF6', // ῶ — GREEK SMALL LETTER OMEGA WITH PERISPOMENI
+      '\u1FF7', // ῷ — GREEK SMALL LETTER OMEGA WITH PERISPOMENI AND YPOGEGRAMMENI
+    });
+
+    fold(folds, "", new char[] {
+      '\u02B9', // ʹ — MODIFIER LETTER PRIME
+      '\u02BC', // ʼ — MODIFIER LETTER APOSTROPHE
+      '\u02BF', // ʿ — MODIFIER LETTER LEFT HALF RING
+      '\u02C8', // ˈ — MODIFIER LETTER VERTICAL LINE
+      '\u02C9', // ˉ — MODIFIER LETTER MACRON
+      '\u02D8', // ˘ — BREVE
+      '\u0301', // ́ — COMBINING ACUTE ACCENT
+      '\u0302', // ̂ — COMBINING CIRCUMFLEX ACCENT
+      '\u0303', // ̃ — COMBINING TILDE
+      '\u0304', // ̄ — COMBINING MACRON
+      '\u0305', // ̅ — COMBINING OVERLINE
+      '\u0306', // ̆ — COMBINING BREVE
+      '\u0307', // ̇ — COMBINING DOT ABOVE
+      '\u0313', // ̓ — COMBINING COMMA ABOVE
+      '\u0314', // ̔ — COMBINING REVERSED COMMA ABOVE
+      '\u0323', // ̣ — COMBINING DOT BELOW
+      '\u0342', // ͂ — COMBINING GREEK PERISPOMENI
+      '\u0345', // ͅ — COMBINING GREEK YPOGEGRAMMENI
+      '\u035E', // ͞ — COMBINING DOUBLE MACRON
+      '\u0375', // ͵ — GREEK LOWER NUMERAL SIGN
+      '\u1FBD', // ᾽ — GREEK KORONIS
+    });
+
+    fold(folds, " ", new char[] {
+      '\u200A', //   — HAIR SPACE
+    });
+
+    fold(folds, "-", new char[] {
+      '\u2012', // ‒ — FIGURE DASH
+      '\u2013', // – — EN DASH
+      '\u2014', // — — EM DASH
+    });
+
+    fold(folds, "'", new char[] {
+      '\u2018', // ‘ — LEFT SINGLE QUOTATION MARK
+      '\u2019', // ’ — RIGHT SINGLE QUOTATION MARK
+      '\u201B', // ‛ — SINGLE HIGH-REVERSED-9 QUOTATION MARK
+    });
+
+    fold(folds, "\"", new char[] {
+      '\u201C', // “ — LEFT DOUBLE QUOTATION MARK
+      '\u201D', // ” — RIGHT DOUBLE QUOTATION MARK
+    });
+
+    fold(folds, " ", new char[] {
+      '\u2025', // ‥ — TWO DOT LEADER
+      '\u2026', // … — HORIZONTAL ELLIPSIS
+    });
+
+    return folds;
+  }
+}
@@ -0,0 +1,208 @@
+package org.exist.indexing.lucene;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.text.Normalizer;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Generates {@link DMLBSGeneratedFolds} from the Unicode decomposition
+ * data of the running JVM. Run it whenever the JDK's Unicode version or
+ * the hand-written DMLBS rules change:
+ * <pre>
+ *   java org.exist.indexing.lucene.DMLBSFoldingTableGenerator DMLBSGeneratedFolds.java
+ * </pre>
+ * Each precomposed char of the Latin and Greek blocks the DMLBS uses is
+ * decomposed (NFD), its combining marks are dropped, and what is left is
+ * folded again by the DMLBS rules, so that for instance LATIN SMALL
+ * LETTER AE WITH ACUTE becomes "ae" like &aelig; itself. Chars the DMLBS
+ * rules already map are skipped, since those rules take precedence at run
+ * time anyway, as are chars built on thorn, eth, wynn or yogh, which the
+ * DMLBS leaves as is.
+ * <p>
+ * The mathematical alphanumeric symbols, the bold, italic, fraktur and
+ * double-struck letters editions use for sigla and apparatus, lie outside
+ * the BMP and only have compatibility decompositions, so they are
+ * decomposed with NFKD instead. Unicode gives them no case, so they would
+ * escape the lower-casing ahead of the filter; their folds are lower-cased
+ * here instead.
+ */
+public final class DMLBSFoldingTableGenerator {
+
+  /** The blocks covered, as inclusive ranges. */
+  private static final char[][] BLOCKS = {
+    { '\u00C0', '\u024F' }, // Latin-1 Supplement, Latin Extended-A and -B
+    { '\u0370', '\u03FF' }, // Greek and Coptic
+    { '\u1E00', '\u1EFF' }, // Latin Extended Additional
+    { '\u1F00', '\u1FFF' }, // Greek Extended
+  };
+
+  /** The supplementary blocks covered, as inclusive ranges. */
+  private static final int[][] SUPPLEMENTARY_BLOCKS = {
+    { 0x1D400, 0x1D7FF }, // Mathematical Alphanumeric Symbols
+  };
+
+  /** Thorn, eth, wynn and yogh, in both cases. */
+  private static final String LEFT_AS_IS =
+    "\u00DE\u00FE\u00D0\u00F0\u01F7\u01BF\u021C\u021D";
+
+  private DMLBSFoldingTableGenerator() {
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final String file = args.length > 0 ? args[0] : "DMLBSGeneratedFolds.java";
+    final PrintWriter out = new PrintWriter(new OutputStreamWriter(
+      new FileOutputStream(file), "UTF-8"));
+    try {
+      final int count = generate(out);
+      System.out.println("Wrote " + count + " folds to " + file);
+    } finally {
+      out.close();
+    }
+    if (out.checkError())
+      throw new IOException("Could not write " + file);
+  }
+
+  /**
+   * Returns the generated fold of <code>c</code>, or null if its
+   * decomposition gives nothing to fold.
+   */
+  static String decomposedFold(final char c, final String[] dmlbs) {
+    final String decomposed =
+      Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+    if (decomposed.length() == 1 && decomposed.charAt(0) == c)
+      return null;
+    final StringBuilder fold = new StringBuilder();
+    for (int i = 0; i < decomposed.length(); i++) {
+      final char d = decomposed.charAt(i);
+      if (Character.getType(d) == Character.NON_SPACING_MARK)
+        continue;
+      if (LEFT_AS_IS.indexOf(d) >= 0)
+        return null;
+      fold.append(dmlbs[d] != null ? dmlbs[d] : String.valueOf(d));
+    }
+    return fold.length() == 0 ? null : fold.toString();
+  }
+
+  /**
+   * Returns the generated fold of the supplementary code point
+   * <code>c</code>, lower-cased, or null if its compatibility
+   * decomposition gives nothing to fold.
+   */
+  static String compatibilityFold(final int c, final String[] dmlbs) {
+    final String decomposed =
+      Normalizer.normalize(new String(Character.toChars(c)), Normalizer.Form.NFKD);
+    if (decomposed.codePointCount(0, decomposed.length()) == 1
+        && decomposed.codePointAt(0) == c)
+      return null;
+    final StringBuilder fold = new StringBuilder();
+    for (int i = 0; i < decomposed.length(); i++) {
+      final char d = Character.toLowerCase(decomposed.charAt(i));
+      if (Character.getType(d) == Character.NON_SPACING_MARK)
+        continue;
+      fold.append(dmlbs[d] != null ? dmlbs[d] : String.valueOf(d));
+    }
+    return fold.length() == 0 ? null : fold.toString();
+  }
+
+  private static int generate(final PrintWriter out) {
+    final String[] dmlbs = DMLBSFoldingTable.dmlbsFolds();
+    out.println("package org.exist.indexing.lucene;");
+    out.println();
+    out.println(LICENSE);
+    out.println();
+    out.println("/**");
+    out.println(" * Folds derived from the Unicode decomposition data, as pairs of the");
+    out.println(" * folded char and its replacement. Generated by {@link");
+    out.println(" * DMLBSFoldingTableGenerator} from the Unicode data of Java "
+                + System.getProperty("java.specification.version")
+                + "; do not edit.");
+    out.println(" */");
+    out.println("final class DMLBSGeneratedFolds {");
+    out.println();
+    out.println("  static final String[] FOLDS = {");
+    int count = 0;
+    for (int b = 0; b < BLOCKS.length; b++) {
+      for (char c = BLOCKS[b][0]; c <= BLOCKS[b][1]; c++) {
+        if (dmlbs[c] != null)
+          continue;
+        final String fold = decomposedFold(c, dmlbs);
+        if (fold == null)
+          continue;
+        out.println("    " + literal(String.valueOf(c)) + ", " + literal(fold)
+                    + ", // " + Character.getName(c));
+        count++;
+      }
+    }
+    out.println("  };");
+    out.println();
+    out.println("  /** The same for supplementary code points, each given as its surrogate pair. */");
+    out.println("  static final String[] SUPPLEMENTARY_FOLDS = {");
+    for (int b = 0; b < SUPPLEMENTARY_BLOCKS.length; b++) {
+      for (int c = SUPPLEMENTARY_BLOCKS[b][0]; c <= SUPPLEMENTARY_BLOCKS[b][1]; c++) {
+        if (!Character.isDefined(c))
+          continue;
+        final String fold = compatibilityFold(c, dmlbs);
+        if (fold == null)
+          continue;
+        out.println("    " + literal(new String(Character.toChars(c))) + ", "
+                    + literal(fold) + ", // " + Character.getName(c));
+        count++;
+      }
+    }
+    out.println("  };");
+    out.println();
+    out.println("  private DMLBSGeneratedFolds() {");
+    out.println("  }");
+    out.println("}");
+    return count;
+  }
+
+  private static String literal(final String s) {
+    final StringBuilder b = new StringBuilder("\"");
+    for (int i = 0; i < s.length(); i++) {
+      final char c = s.charAt(i);
+      if (c >= 0x20 && c < 0x7F && c != '"' && c != '\\')
+        b.append(c);
+      else
+        b.append(String.format("\\u%04X", Integer.valueOf(c)));
+    }
+    return b.append('"').toString();
+  }
+
+  private static final String LICENSE =
+    "/**\n" +
+    " * Licensed to the Apache Software Foundation (ASF) under one or more\n" +
+    " * contributor license agreements.  See the NOTICE file distributed with\n" +
+    " * this work for additional information regarding copyright ownership.\n" +
+    " * The ASF licenses this file to You under the Apache License, Version 2.0\n" +
+    " * (the \"License\"); you may not use this file except in compliance with\n" +
+    " * the License.  You may obtain a copy of the License at\n" +
+    " *\n" +
+    " *     http://www.apache.org/licenses/LICENSE-2.0\n" +
+    " *\n" +
+    " * Unless required by applicable law or agreed to in writing, software\n" +
+    " * distributed under the License is distributed on an \"AS IS\" BASIS,\n" +
+    " * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.\n" +
+    " * See the License for the specific language governing permissions and\n" +
+    " * limitations under the License.\n" +
+    " */";
+}
@@ -0,0 +1,1593 @@
+package org.exist.indexing.lucene;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Folds derived from the Unicode decomposition data, as pairs of the
+ * folded char and its replacement. Generated by {@link
+ * DMLBSFoldingTableGenerator} from the Unicode data of Java 17; do not edit.
+ */
+final class DMLBSGeneratedFolds {
+
+  static final String[] FOLDS = {
+    "\u0102", "A", // LATIN CAPITAL LETTER A WITH BREVE
+    "\u0104", "A", // LATIN CAPITAL LETTER A WITH OGONEK
+    "\u0105", "a", // LATIN SMALL LETTER A WITH OGONEK
+    "\u0106", "C", // LATIN CAPITAL LETTER C WITH ACUTE
+    "\u0107", "c", // LATIN SMALL LETTER C WITH ACUTE
+    "\u0108", "C", // LATIN CAPITAL LETTER C WITH CIRCUMFLEX
+    "\u0109", "c", // LATIN SMALL LETTER C WITH CIRCUMFLEX
+    "\u010A", "C", // LATIN CAPITAL LETTER C WITH DOT ABOVE
+    "\u010B", "c", // LATIN SMALL LETTER C WITH DOT ABOVE
+    "\u010E", "D", // LATIN CAPITAL LETTER D WITH CARON
+    "\u0112", "E", // LATIN CAPITAL LETTER E WITH MACRON
+    "\u0114", "E", // LATIN CAPITAL LETTER E WITH BREVE
+    "\u0116", "E", // LATIN CAPITAL LETTER E WITH DOT ABOVE
+    "\u0117", "e", // LATIN SMALL LETTER E WITH DOT ABOVE
+    "\u0118", "E", // LATIN CAPITAL LETTER E WITH OGONEK
+    "\u011A", "E", // LATIN CAPITAL LETTER E WITH CARON
+    "\u011C", "G", // LATIN CAPITAL LETTER G WITH CIRCUMFLEX
+    "\u011E", "G", // LATIN CAPITAL LETTER G WITH BREVE
+    "\u011F", "g", // LATIN SMALL LETTER G WITH BREVE
+    "\u0120", "G", // LATIN CAPITAL LETTER G WITH DOT ABOVE
+    "\u0121", "g", // LATIN SMALL LETTER G WITH DOT ABOVE
+    "\u0122", "G", // LATIN CAPITAL LETTER G WITH CEDILLA
+    "\u0123", "g", // LATIN SMALL LETTER G WITH CEDILLA
+    "\u0124", "H", // LATIN CAPITAL LETTER H WITH CIRCUMFLEX
+    "\u0125", "h", // LATIN SMALL LETTER H WITH CIRCUMFLEX
+    "\u0128", "I", // LATIN CAPITAL LETTER I WITH TILDE
+    "\u012E", "I", // LATIN CAPITAL LETTER I WITH OGONEK
+    "\u012F", "i", // LATIN SMALL LETTER I WITH OGONEK
+    "\u0130", "I", // LATIN CAPITAL LETTER I WITH DOT ABOVE
+    "\u0134", "J", // LATIN CAPITAL LETTER J WITH CIRCUMFLEX
+    "\u0135", "j", // LATIN SMALL LETTER J WITH CIRCUMFLEX
+    "\u0136", "K", // LATIN CAPITAL LETTER K WITH CEDILLA
+    "\u0137", "k", // LATIN SMALL LETTER K WITH CEDILLA
+    "\u0139", "L", // LATIN CAPITAL LETTER L WITH ACUTE
+    "\u013A", "l", // LATIN SMALL LETTER L WITH ACUTE
+    "\u013B", "L", // LATIN CAPITAL LETTER L WITH CEDILLA
+    "\u013C", "l", // LATIN SMALL LETTER L WITH CEDILLA
+    "\u013D", "L", // LATIN CAPITAL LETTER L WITH CARON
+    "\u013E", "l", // LATIN SMALL LETTER L WITH CARON
+    "\u0143", "N", // LATIN CAPITAL LETTER N WITH ACUTE
+    "\u0144", "n", // LATIN SMALL LETTER N WITH ACUTE
+    "\u0145", "N", // LATIN CAPITAL LETTER N WITH CEDILLA
+    "\u0146", "n", // LATIN SMALL LETTER N WITH CEDILLA
+    "\u0147", "N", // LATIN CAPITAL LETTER N WITH CARON
+    "\u014C", "O", // LATIN CAPITAL LETTER O WITH MACRON
+    "\u014E", "O", // LATIN CAPITAL LETTER O WITH BREVE
+    "\u0150", "O", // LATIN CAPITAL LETTER O WITH DOUBLE ACUTE
+    "\u0154", "R", // LATIN CAPITAL LETTER R WITH ACUTE
+    "\u0155", "r", // LATIN SMALL LETTER R WITH ACUTE
+    "\u0156", "R", // LATIN CAPITAL LETTER R WITH CEDILLA
+    "\u0157", "r", // LATIN SMALL LETTER R WITH CEDILLA
+    "\u0158", "R", // LATIN CAPITAL LETTER R WITH CARON
+    "\u0159", "r", // LATIN SMALL LETTER R WITH CARON
+    "\u015A", "S", // LATIN CAPITAL LETTER S WITH ACUTE
+    "\u015B", "s", // LATIN SMALL LETTER S WITH ACUTE
+    "\u015C", "S", // LATIN CAPITAL LETTER S WITH CIRCUMFLEX
+    "\u015D", "s", // LATIN SMALL LETTER S WITH CIRCUMFLEX
+    "\u015E", "S", // LATIN CAPITAL LETTER S WITH CEDILLA
+    "\u015F", "s", // LATIN SMALL LETTER S WITH CEDILLA
+    "\u0160", "S", // LATIN CAPITAL LETTER S WITH CARON
+    "\u0162", "T", // LATIN CAPITAL LETTER T WITH CEDILLA
+    "\u0163", "t", // LATIN SMALL LETTER T WITH CEDILLA
+    "\u0164", "T", // LATIN CAPITAL LETTER T WITH CARON
+    "\u0165", "t", // LATIN SMALL LETTER T WITH CARON
+    "\u0168", "U", // LATIN CAPITAL LETTER U WITH TILDE
+    "\u016C", "U", // LATIN CAPITAL LETTER U WITH BREVE
+    "\u016E", "U", // LATIN CAPITAL LETTER U WITH RING ABOVE
+    "\u016F", "u", // LATIN SMALL LETTER U WITH RING ABOVE
+    "\u0170", "U", // LATIN CAPITAL LETTER U WITH DOUBLE ACUTE
+    "\u0171", "u", // LATIN SMALL LETTER U WITH DOUBLE ACUTE
+    "\u0172", "U", // LATIN CAPITAL LETTER U WITH OGONEK
+    "\u0173", "u", // LATIN SMALL LETTER U WITH OGONEK
+    "\u0174", "W", // LATIN CAPITAL LETTER W WITH CIRCUMFLEX
+    "\u0176", "Y", // LATIN CAPITAL LETTER Y WITH CIRCUMFLEX
+    "\u0177", "y", // LATIN SMALL LETTER Y WITH CIRCUMFLEX
+    "\u017B", "Z", // LATIN CAPITAL LETTER Z WITH DOT ABOVE
+    "\u01A0", "O", // LATIN CAPITAL LETTER O WITH HORN
+    "\u01A1", "o", // LATIN SMALL LETTER O WITH HORN
+    "\u01AF", "U", // LATIN CAPITAL LETTER U WITH HORN
+    "\u01B0", "u", // LATIN SMALL LETTER U WITH HORN
+    "\u01CD", "A", // LATIN CAPITAL LETTER A WITH CARON
+    "\u01CF", "I", // LATIN CAPITAL LETTER I WITH CARON
+    "\u01D1", "O", // LATIN CAPITAL LETTER O WITH CARON
+    "\u01D2", "o", // LATIN SMALL LETTER O WITH CARON
+    "\u01D3", "U", // LATIN CAPITAL LETTER U WITH CARON
+    "\u01D4", "u", // LATIN SMALL LETTER U WITH CARON
+    "\u01D5", "U", // LATIN CAPITAL LETTER U WITH DIAERESIS AND MACRON
+    "\u01D6", "u", // LATIN SMALL LETTER U WITH DIAERESIS AND MACRON
+    "\u01D7", "U", // LATIN CAPITAL LETTER U WITH DIAERESIS AND ACUTE
+    "\u01D8", "u", // LATIN SMALL LETTER U WITH DIAERESIS AND ACUTE
+    "\u01D9", "U", // LATIN CAPITAL LETTER U WITH DIAERESIS AND CARON
+    "\u01DA", "u", // LATIN SMALL LETTER U WITH DIAERESIS AND CARON
+    "\u01DB", "U", // LATIN CAPITAL LETTER U WITH DIAERESIS AND GRAVE
+    "\u01DC", "u", // LATIN SMALL LETTER U WITH DIAERESIS AND GRAVE
+    "\u01DE", "A", // LATIN CAPITAL LETTER A WITH DIAERESIS AND MACRON
+    "\u01DF", "a", // LATIN SMALL LETTER A WITH DIAERESIS AND MACRON
+    "\u01E0", "A", // LATIN CAPITAL LETTER A WITH DOT ABOVE AND MACRON
+    "\u01E1", "a", // LATIN SMALL LETTER A WITH DOT ABOVE AND MACRON
+    "\u01E2", "Ae", // LATIN CAPITAL LETTER AE WITH MACRON
+    "\u01E6", "G", // LATIN CAPITAL LETTER G WITH CARON
+    "\u01E7", "g", // LATIN SMALL LETTER G WITH CARON
+    "\u01E8", "K", // LATIN CAPITAL LETTER K WITH CARON
+    "\u01E9", "k", // LATIN SMALL LETTER K WITH CARON
+    "\u01EA", "O", // LATIN CAPITAL LETTER O WITH OGONEK
+    "\u01EC", "O", // LATIN CAPITAL LETTER O WITH OGONEK AND MACRON
+    "\u01ED", "o", // LATIN SMALL LETTER O WITH OGONEK AND MACRON
+    "\u01EE", "\u01B7", // LATIN CAPITAL LETTER EZH WITH CARON
+    "\u01EF", "\u0292", // LATIN SMALL LETTER EZH WITH CARON
+    "\u01F0", "j", // LATIN SMALL LETTER J WITH CARON
+    "\u01F4", "G", // LATIN CAPITAL LETTER G WITH ACUTE
+    "\u01F5", "g", // LATIN SMALL LETTER G WITH ACUTE
+    "\u01F8", "N", // LATIN CAPITAL LETTER N WITH GRAVE
+    "\u01F9", "n", // LATIN SMALL LETTER N WITH GRAVE
+    "\u01FA", "A", // LATIN CAPITAL LETTER A WITH RING ABOVE AND ACUTE
+    "\u01FB", "a", // LATIN SMALL LETTER A WITH RING ABOVE AND ACUTE
+    "\u01FC", "Ae", // LATIN CAPITAL LETTER AE WITH ACUTE
+    "\u01FE", "O", // LATIN CAPITAL LETTER O WITH STROKE AND ACUTE
+    "\u01FF", "o", // LATIN SMALL LETTER O WITH STROKE AND ACUTE
+    "\u0200", "A", // LATIN CAPITAL LETTER A WITH DOUBLE GRAVE
+    "\u0201", "a", // LATIN SMALL LETTER A WITH DOUBLE GRAVE
+    "\u0202", "A", // LATIN CAPITAL LETTER A WITH INVERTED BREVE
+    "\u0204", "E", // LATIN CAPITAL LETTER E WITH DOUBLE GRAVE
+    "\u0205", "e", // LATIN SMALL LETTER E WITH DOUBLE GRAVE
+    "\u0206", "E", // LATIN CAPITAL LETTER E WITH INVERTED BREVE
+    "\u0207", "e", // LATIN SMALL LETTER E WITH INVERTED BREVE
+    "\u0209", "i", // LATIN SMALL LETTER I WITH DOUBLE GRAVE
+    "\u020A", "I", // LATIN CAPITAL LETTER I WITH INVERTED BREVE
+    "\u020B", "i", // LATIN SMALL LETTER I WITH INVERTED BREVE
+    "\u020C", "O", // LATIN CAPITAL LETTER O WITH DOUBLE GRAVE
+    "\u020D", "o", // LATIN SMALL LETTER O WITH DOUBLE GRAVE
+    "\u020E", "O", // LATIN CAPITAL LETTER O WITH INVERTED BREVE
+    "\u020F", "o", // LATIN SMALL LETTER O WITH INVERTED BREVE
+    "\u0210", "R", // LATIN CAPITAL LETTER R WITH DOUBLE GRAVE
+    "\u0211", "r", // LATIN SMALL LETTER R WITH DOUBLE GRAVE
+    "\u0212", "R", // LATIN CAPITAL LETTER R WITH INVERTED BREVE
+    "\u0213", "r", // LATIN SMALL LETTER R WITH INVERTED BREVE
+    "\u0214", "U", // LATIN CAPITAL LETTER U WITH DOUBLE GRAVE
+    "\u0215", "u", // LATIN SMALL LETTER U WITH DOUBLE GRAVE
+    "\u0216", "U", // LATIN CAPITAL LETTER U WITH INVERTED BREVE
+    "\u0218", "S", // LATIN CAPITAL LETTER S WITH COMMA BELOW
+    "\u0219", "s", // LATIN SMALL LETTER S WITH COMMA BELOW
+    "\u021A", "T", // LATIN CAPITAL LETTER T WITH COMMA BELOW
+    "\u021B", "t", // LATIN SMALL LETTER T WITH COMMA BELOW
+    "\u021E", "H", // LATIN CAPITAL LETTER H WITH CARON
+    "\u021F", "h", // LATIN SMALL LETTER H WITH CARON
+    "\u0226", "A", // LATIN CAPITAL LETTER A WITH DOT ABOVE
+    "\u0227", "a", // LATIN SMALL LETTER A WITH DOT ABOVE
+    "\u0228", "E", // LATIN CAPITAL LETTER E WITH CEDILLA
+    "\u0229", "e", // LATIN SMALL LETTER E WITH CEDILLA
+    "\u022A", "O", // LATIN CAPITAL LETTER O WITH DIAERESIS AND MACRON
+    "\u022B", "o", // LATIN SMALL LETTER O WITH DIAERESIS AND MACRON
+    "\u022C", "O", // LATIN CAPITAL LETTER O WITH TILDE AND MACRON
+    "\u022D", "o", // LATIN SMALL LETTER O WITH TILDE AND MACRON
+    "\u022E", "O", // LATIN CAPITAL LETTER O WITH DOT ABOVE
+    "\u022F", "o", // LATIN SMALL LETTER O WITH DOT ABOVE
+    "\u0230", "O", // LATIN CAPITAL LETTER O WITH DOT ABOVE AND MACRON
+    "\u0231", "o", // LATIN SMALL LETTER O WITH DOT ABOVE AND MACRON
+    "\u0232", "Y", // LATIN CAPITAL LETTER Y WITH MACRON
+    "\u037E", ";", // GREEK QUESTION MARK
+    "\u0385", "\u00A8", // GREEK DIALYTIKA TONOS
+    "\u0386", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH TONOS
+    "\u0387", "\u00B7", // GREEK ANO TELEIA
+    "\u0388", "\u0395", // GREEK CAPITAL LETTER EPSILON WITH TONOS
+    "\u0389", "\u0397", // GREEK CAPITAL LETTER ETA WITH TONOS
+    "\u038A", "\u0399", // GREEK CAPITAL LETTER IOTA WITH TONOS
+    "\u038C", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH TONOS
+    "\u038E", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH TONOS
+    "\u038F", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH TONOS
+    "\u03AA", "\u0399", // GREEK CAPITAL LETTER IOTA WITH DIALYTIKA
+    "\u03AB", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH DIALYTIKA
+    "\u03B0", "\u03C5", // GREEK SMALL LETTER UPSILON WITH DIALYTIKA AND TONOS
+    "\u03D3", "\u03D2", // GREEK UPSILON WITH ACUTE AND HOOK SYMBOL
+    "\u03D4", "\u03D2", // GREEK UPSILON WITH DIAERESIS AND HOOK SYMBOL
+    "\u1E00", "A", // LATIN CAPITAL LETTER A WITH RING BELOW
+    "\u1E01", "a", // LATIN SMALL LETTER A WITH RING BELOW
+    "\u1E02", "B", // LATIN CAPITAL LETTER B WITH DOT ABOVE
+    "\u1E03", "b", // LATIN SMALL LETTER B WITH DOT ABOVE
+    "\u1E04", "B", // LATIN CAPITAL LETTER B WITH DOT BELOW
+    "\u1E05", "b", // LATIN SMALL LETTER B WITH DOT BELOW
+    "\u1E06", "B", // LATIN CAPITAL LETTER B WITH LINE BELOW
+    "\u1E07", "b", // LATIN SMALL LETTER B WITH LINE BELOW
+    "\u1E08", "C", // LATIN CAPITAL LETTER C WITH CEDILLA AND ACUTE
+    "\u1E09", "c", // LATIN SMALL LETTER C WITH CEDILLA AND ACUTE
+    "\u1E0A", "D", // LATIN CAPITAL LETTER D WITH DOT ABOVE
+    "\u1E0B", "d", // LATIN SMALL LETTER D WITH DOT ABOVE
+    "\u1E0C", "D", // LATIN CAPITAL LETTER D WITH DOT BELOW
+    "\u1E0E", "D", // LATIN CAPITAL LETTER D WITH LINE BELOW
+    "\u1E0F", "d", // LATIN SMALL LETTER D WITH LINE BELOW
+    "\u1E10", "D", // LATIN CAPITAL LETTER D WITH CEDILLA
+    "\u1E11", "d", // LATIN SMALL LETTER D WITH CEDILLA
+    "\u1E12", "D", // LATIN CAPITAL LETTER D WITH CIRCUMFLEX BELOW
+    "\u1E13", "d", // LATIN SMALL LETTER D WITH CIRCUMFLEX BELOW
+    "\u1E14", "E", // LATIN CAPITAL LETTER E WITH MACRON AND GRAVE
+    "\u1E15", "e", // LATIN SMALL LETTER E WITH MACRON AND GRAVE
+    "\u1E16", "E", // LATIN CAPITAL LETTER E WITH MACRON AND ACUTE
+    "\u1E17", "e", // LATIN SMALL LETTER E WITH MACRON AND ACUTE
+    "\u1E18", "E", // LATIN CAPITAL LETTER E WITH CIRCUMFLEX BELOW
+    "\u1E19", "e", // LATIN SMALL LETTER E WITH CIRCUMFLEX BELOW
+    "\u1E1A", "E", // LATIN CAPITAL LETTER E WITH TILDE BELOW
+    "\u1E1B", "e", // LATIN SMALL LETTER E WITH TILDE BELOW
+    "\u1E1C", "E", // LATIN CAPITAL LETTER E WITH CEDILLA AND BREVE
+    "\u1E1D", "e", // LATIN SMALL LETTER E WITH CEDILLA AND BREVE
+    "\u1E1E", "F", // LATIN CAPITAL LETTER F WITH DOT ABOVE
+    "\u1E1F", "f", // LATIN SMALL LETTER F WITH DOT ABOVE
+    "\u1E20", "G", // LATIN CAPITAL LETTER G WITH MACRON
+    "\u1E21", "g", // LATIN SMALL LETTER G WITH MACRON
+    "\u1E22", "H", // LATIN CAPITAL LETTER H WITH DOT ABOVE
+    "\u1E23", "h", // LATIN SMALL LETTER H WITH DOT ABOVE
+    "\u1E26", "H", // LATIN CAPITAL LETTER H WITH DIAERESIS
+    "\u1E27", "h", // LATIN SMALL LETTER H WITH DIAERESIS
+    "\u1E28", "H", // LATIN CAPITAL LETTER H WITH CEDILLA
+    "\u1E29", "h", // LATIN SMALL LETTER H WITH CEDILLA
+    "\u1E2A", "H", // LATIN CAPITAL LETTER H WITH BREVE BELOW
+    "\u1E2B", "h", // LATIN SMALL LETTER H WITH BREVE BELOW
+    "\u1E2C", "I", // LATIN CAPITAL LETTER I WITH TILDE BELOW
+    "\u1E2D", "i", // LATIN SMALL LETTER I WITH TILDE BELOW
+    "\u1E2E", "I", // LATIN CAPITAL LETTER I WITH DIAERESIS AND ACUTE
+    "\u1E2F", "i", // LATIN SMALL LETTER I WITH DIAERESIS AND ACUTE
+    "\u1E30", "K", // LATIN CAPITAL LETTER K WITH ACUTE
+    "\u1E31", "k", // LATIN SMALL LETTER K WITH ACUTE
+    "\u1E32", "K", // LATIN CAPITAL LETTER K WITH DOT BELOW
+    "\u1E33", "k", // LATIN SMALL LETTER K WITH DOT BELOW
+    "\u1E34", "K", // LATIN CAPITAL LETTER K WITH LINE BELOW
+    "\u1E36", "L", // LATIN CAPITAL LETTER L WITH DOT BELOW
+    "\u1E38", "L", // LATIN CAPITAL LETTER L WITH DOT BELOW AND MACRON
+    "\u1E39", "l", // LATIN SMALL LETTER L WITH DOT BELOW AND MACRON
+    "\u1E3A", "L", // LATIN CAPITAL LETTER L WITH LINE BELOW
+    "\u1E3B", "l", // LATIN SMALL LETTER L WITH LINE BELOW
+    "\u1E3C", "L", // LATIN CAPITAL LETTER L WITH CIRCUMFLEX BELOW
+    "\u1E3D", "l", // LATIN SMALL LETTER L WITH CIRCUMFLEX BELOW
+    "\u1E3E", "M", // LATIN CAPITAL LETTER M WITH ACUTE
+    "\u1E3F", "m", // LATIN SMALL LETTER M WITH ACUTE
+    "\u1E40", "M", // LATIN CAPITAL LETTER M WITH DOT ABOVE
+    "\u1E41", "m", // LATIN SMALL LETTER M WITH DOT ABOVE
+    "\u1E42", "M", // LATIN CAPITAL LETTER M WITH DOT BELOW
+    "\u1E43", "m", // LATIN SMALL LETTER M WITH DOT BELOW
+    "\u1E44", "N", // LATIN CAPITAL LETTER N WITH DOT ABOVE
+    "\u1E45", "n", // LATIN SMALL LETTER N WITH DOT ABOVE
+    "\u1E46", "N", // LATIN CAPITAL LETTER N WITH DOT BELOW
+    "\u1E47", "n", // LATIN SMALL LETTER N WITH DOT BELOW
+    "\u1E48", "N", // LATIN CAPITAL LETTER N WITH LINE BELOW
+    "\u1E49", "n", // LATIN SMALL LETTER N WITH LINE BELOW
+    "\u1E4A", "N", // LATIN CAPITAL LETTER N WITH CIRCUMFLEX BELOW
+    "\u1E4B", "n", // LATIN SMALL LETTER N WITH CIRCUMFLEX BELOW
+    "\u1E4C", "O", // LATIN CAPITAL LETTER O WITH TILDE AND ACUTE
+    "\u1E4D", "o", // LATIN SMALL LETTER O WITH TILDE AND ACUTE
+    "\u1E4E", "O", // LATIN CAPITAL LETTER O WITH TILDE AND DIAERESIS
+    "\u1E4F", "o", // LATIN SMALL LETTER O WITH TILDE AND DIAERESIS
+    "\u1E50", "O", // LATIN CAPITAL LETTER O WITH MACRON AND GRAVE
+    "\u1E51", "o", // LATIN SMALL LETTER O WITH MACRON AND GRAVE
+    "\u1E52", "O", // LATIN CAPITAL LETTER O WITH MACRON AND ACUTE
+    "\u1E53", "o", // LATIN SMALL LETTER O WITH MACRON AND ACUTE
+    "\u1E54", "P", // LATIN CAPITAL LETTER P WITH ACUTE
+    "\u1E55", "p", // LATIN SMALL LETTER P WITH ACUTE
+    "\u1E56", "P", // LATIN CAPITAL LETTER P WITH DOT ABOVE
+    "\u1E57", "p", // LATIN SMALL LETTER P WITH DOT ABOVE
+    "\u1E58", "R", // LATIN CAPITAL LETTER R WITH DOT ABOVE
+    "\u1E59", "r", // LATIN SMALL LETTER R WITH DOT ABOVE
+    "\u1E5A", "R", // LATIN CAPITAL LETTER R WITH DOT BELOW
+    "\u1E5B", "r", // LATIN SMALL LETTER R WITH DOT BELOW
+    "\u1E5C", "R", // LATIN CAPITAL LETTER R WITH DOT BELOW AND MACRON
+    "\u1E5D", "r", // LATIN SMALL LETTER R WITH DOT BELOW AND MACRON
+    "\u1E5E", "R", // LATIN CAPITAL LETTER R WITH LINE BELOW
+    "\u1E5F", "r", // LATIN SMALL LETTER R WITH LINE BELOW
+    "\u1E60", "S", // LATIN CAPITAL LETTER S WITH DOT ABOVE
+    "\u1E62", "S", // LATIN CAPITAL LETTER S WITH DOT BELOW
+    "\u1E64", "S", // LATIN CAPITAL LETTER S WITH ACUTE AND DOT ABOVE
+    "\u1E65", "s", // LATIN SMALL LETTER S WITH ACUTE AND DOT ABOVE
+    "\u1E66", "S", // LATIN CAPITAL LETTER S WITH CARON AND DOT ABOVE
+    "\u1E67", "s", // LATIN SMALL LETTER S WITH CARON AND DOT ABOVE
+    "\u1E68", "S", // LATIN CAPITAL LETTER S WITH DOT BELOW AND DOT ABOVE
+    "\u1E69", "s", // LATIN SMALL LETTER S WITH DOT BELOW AND DOT ABOVE
+    "\u1E6A", "T", // LATIN CAPITAL LETTER T WITH DOT ABOVE
+    "\u1E6B", "t", // LATIN SMALL LETTER T WITH DOT ABOVE
+    "\u1E6C", "T", // LATIN CAPITAL LETTER T WITH DOT BELOW
+    "\u1E6E", "T", // LATIN CAPITAL LETTER T WITH LINE BELOW
+    "\u1E6F", "t", // LATIN SMALL LETTER T WITH LINE BELOW
+    "\u1E70", "T", // LATIN CAPITAL LETTER T WITH CIRCUMFLEX BELOW
+    "\u1E71", "t", // LATIN SMALL LETTER T WITH CIRCUMFLEX BELOW
+    "\u1E72", "U", // LATIN CAPITAL LETTER U WITH DIAERESIS BELOW
+    "\u1E73", "u", // LATIN SMALL LETTER U WITH DIAERESIS BELOW
+    "\u1E74", "U", // LATIN CAPITAL LETTER U WITH TILDE BELOW
+    "\u1E75", "u", // LATIN SMALL LETTER U WITH TILDE BELOW
+    "\u1E76", "U", // LATIN CAPITAL LETTER U WITH CIRCUMFLEX BELOW
+    "\u1E77", "u", // LATIN SMALL LETTER U WITH CIRCUMFLEX BELOW
+    "\u1E78", "U", // LATIN CAPITAL LETTER U WITH TILDE AND ACUTE
+    "\u1E79", "u", // LATIN SMALL LETTER U WITH TILDE AND ACUTE
+    "\u1E7A", "U", // LATIN CAPITAL LETTER U WITH MACRON AND DIAERESIS
+    "\u1E7B", "u", // LATIN SMALL LETTER U WITH MACRON AND DIAERESIS
+    "\u1E7C", "V", // LATIN CAPITAL LETTER V WITH TILDE
+    "\u1E7D", "v", // LATIN SMALL LETTER V WITH TILDE
+    "\u1E7E", "V", // LATIN CAPITAL LETTER V WITH DOT BELOW
+    "\u1E7F", "v", // LATIN SMALL LETTER V WITH DOT BELOW
+    "\u1E80", "W", // LATIN CAPITAL LETTER W WITH GRAVE
+    "\u1E81", "w", // LATIN SMALL LETTER W WITH GRAVE
+    "\u1E82", "W", // LATIN CAPITAL LETTER W WITH ACUTE
+    "\u1E83", "w", // LATIN SMALL LETTER W WITH ACUTE
+    "\u1E84", "W", // LATIN CAPITAL LETTER W WITH DIAERESIS
+    "\u1E85", "w", // LATIN SMALL LETTER W WITH DIAERESIS
+    "\u1E86", "W", // LATIN CAPITAL LETTER W WITH DOT ABOVE
+    "\u1E87", "w", // LATIN SMALL LETTER W WITH DOT ABOVE
+    "\u1E88", "W", // LATIN CAPITAL LETTER W WITH DOT BELOW
+    "\u1E89", "w", // LATIN SMALL LETTER W WITH DOT BELOW
+    "\u1E8A", "X", // LATIN CAPITAL LETTER X WITH DOT ABOVE
+    "\u1E8B", "x", // LATIN SMALL LETTER X WITH DOT ABOVE
+    "\u1E8C", "X", // LATIN CAPITAL LETTER X WITH DIAERESIS
+    "\u1E8D", "x", // LATIN SMALL LETTER X WITH DIAERESIS
+    "\u1E8E", "Y", // LATIN CAPITAL LETTER Y WITH DOT ABOVE
+    "\u1E8F", "y", // LATIN SMALL LETTER Y WITH DOT ABOVE
+    "\u1E90", "Z", // LATIN CAPITAL LETTER Z WITH CIRCUMFLEX
+    "\u1E91", "z", // LATIN SMALL LETTER Z WITH CIRCUMFLEX
+    "\u1E92", "Z", // LATIN CAPITAL LETTER Z WITH DOT BELOW
+    "\u1E93", "z", // LATIN SMALL LETTER Z WITH DOT BELOW
+    "\u1E94", "Z", // LATIN CAPITAL LETTER Z WITH LINE BELOW
+    "\u1E95", "z", // LATIN SMALL LETTER Z WITH LINE BELOW
+    "\u1E96", "h", // LATIN SMALL LETTER H WITH LINE BELOW
+    "\u1E97", "t", // LATIN SMALL LETTER T WITH DIAERESIS
+    "\u1E98", "w", // LATIN SMALL LETTER W WITH RING ABOVE
+    "\u1E99", "y", // LATIN SMALL LETTER Y WITH RING ABOVE
+    "\u1E9B", "\u017F", // LATIN SMALL LETTER LONG S WITH DOT ABOVE
+    "\u1EA0", "A", // LATIN CAPITAL LETTER A WITH DOT BELOW
+    "\u1EA2", "A", // LATIN CAPITAL LETTER A WITH HOOK ABOVE
+    "\u1EA3", "a", // LATIN SMALL LETTER A WITH HOOK ABOVE
+    "\u1EA4", "A", // LATIN CAPITAL LETTER A WITH CIRCUMFLEX AND ACUTE
+    "\u1EA5", "a", // LATIN SMALL LETTER A WITH CIRCUMFLEX AND ACUTE
+    "\u1EA6", "A", // LATIN CAPITAL LETTER A WITH CIRCUMFLEX AND GRAVE
+    "\u1EA7", "a", // LATIN SMALL LETTER A WITH CIRCUMFLEX AND GRAVE
+    "\u1EA8", "A", // LATIN CAPITAL LETTER A WITH CIRCUMFLEX AND HOOK ABOVE
+    "\u1EA9", "a", // LATIN SMALL LETTER A WITH CIRCUMFLEX AND HOOK ABOVE
+    "\u1EAA", "A", // LATIN CAPITAL LETTER A WITH CIRCUMFLEX AND TILDE
+    "\u1EAB", "a", // LATIN SMALL LETTER A WITH CIRCUMFLEX AND TILDE
+    "\u1EAC", "A", // LATIN CAPITAL LETTER A WITH CIRCUMFLEX AND DOT BELOW
+    "\u1EAD", "a", // LATIN SMALL LETTER A WITH CIRCUMFLEX AND DOT BELOW
+    "\u1EAE", "A", // LATIN CAPITAL LETTER A WITH BREVE AND ACUTE
+    "\u1EAF", "a", // LATIN SMALL LETTER A WITH BREVE AND ACUTE
+    "\u1EB0", "A", // LATIN CAPITAL LETTER A WITH BREVE AND GRAVE
+    "\u1EB1", "a", // LATIN SMALL LETTER A WITH BREVE AND GRAVE
+    "\u1EB2", "A", // LATIN CAPITAL LETTER A WITH BREVE AND HOOK ABOVE
+    "\u1EB3", "a", // LATIN SMALL LETTER A WITH BREVE AND HOOK ABOVE
+    "\u1EB4", "A", // LATIN CAPITAL LETTER A WITH BREVE AND TILDE
+    "\u1EB5", "a", // LATIN SMALL LETTER A WITH BREVE AND TILDE
+    "\u1EB6", "A", // LATIN CAPITAL LETTER A WITH BREVE AND DOT BELOW
+    "\u1EB7", "a", // LATIN SMALL LETTER A WITH BREVE AND DOT BELOW
+    "\u1EB8", "E", // LATIN CAPITAL LETTER E WITH DOT BELOW
+    "\u1EB9", "e", // LATIN SMALL LETTER E WITH DOT BELOW
+    "\u1EBA", "E", // LATIN CAPITAL LETTER E WITH HOOK ABOVE
+    "\u1EBB", "e", // LATIN SMALL LETTER E WITH HOOK ABOVE
+    "\u1EBC", "E", // LATIN CAPITAL LETTER E WITH TILDE
+    "\u1EBD", "e", // LATIN SMALL LETTER E WITH TILDE
+    "\u1EBE", "E", // LATIN CAPITAL LETTER E WITH CIRCUMFLEX AND ACUTE
+    "\u1EBF", "e", // LATIN SMALL LETTER E WITH CIRCUMFLEX AND ACUTE
+    "\u1EC0", "E", // LATIN CAPITAL LETTER E WITH CIRCUMFLEX AND GRAVE
+    "\u1EC1", "e", // LATIN SMALL LETTER E WITH CIRCUMFLEX AND GRAVE
+    "\u1EC2", "E", // LATIN CAPITAL LETTER E WITH CIRCUMFLEX AND HOOK ABOVE
+    "\u1EC3", "e", // LATIN SMALL LETTER E WITH CIRCUMFLEX AND HOOK ABOVE
+    "\u1EC4", "E", // LATIN CAPITAL LETTER E WITH CIRCUMFLEX AND TILDE
+    "\u1EC5", "e", // LATIN SMALL LETTER E WITH CIRCUMFLEX AND TILDE
+    "\u1EC6", "E", // LATIN CAPITAL LETTER E WITH CIRCUMFLEX AND DOT BELOW
+    "\u1EC7", "e", // LATIN SMALL LETTER E WITH CIRCUMFLEX AND DOT BELOW
+    "\u1EC8", "I", // LATIN CAPITAL LETTER I WITH HOOK ABOVE
+    "\u1EC9", "i", // LATIN SMALL LETTER I WITH HOOK ABOVE
+    "\u1ECA", "I", // LATIN CAPITAL LETTER I WITH DOT BELOW
+    "\u1ECB", "i", // LATIN SMALL LETTER I WITH DOT BELOW
+    "\u1ECC", "O", // LATIN CAPITAL LETTER O WITH DOT BELOW
+    "\u1ECD", "o", // LATIN SMALL LETTER O WITH DOT BELOW
+    "\u1ECE", "O", // LATIN CAPITAL LETTER O WITH HOOK ABOVE
+    "\u1ECF", "o", // LATIN SMALL LETTER O WITH HOOK ABOVE
+    "\u1ED0", "O", // LATIN CAPITAL LETTER O WITH CIRCUMFLEX AND ACUTE
+    "\u1ED1", "o", // LATIN SMALL LETTER O WITH CIRCUMFLEX AND ACUTE
+    "\u1ED2", "O", // LATIN CAPITAL LETTER O WITH CIRCUMFLEX AND GRAVE
+    "\u1ED3", "o", // LATIN SMALL LETTER O WITH CIRCUMFLEX AND GRAVE
+    "\u1ED4", "O", // LATIN CAPITAL LETTER O WITH CIRCUMFLEX AND HOOK ABOVE
+    "\u1ED5", "o", // LATIN SMALL LETTER O WITH CIRCUMFLEX AND HOOK ABOVE
+    "\u1ED6", "O", // LATIN CAPITAL LETTER O WITH CIRCUMFLEX AND TILDE
+    "\u1ED7", "o", // LATIN SMALL LETTER O WITH CIRCUMFLEX AND TILDE
+    "\u1ED8", "O", // LATIN CAPITAL LETTER O WITH CIRCUMFLEX AND DOT BELOW
+    "\u1ED9", "o", // LATIN SMALL LETTER O WITH CIRCUMFLEX AND DOT BELOW
+    "\u1EDA", "O", // LATIN CAPITAL LETTER O WITH HORN AND ACUTE
+    "\u1EDB", "o", // LATIN SMALL LETTER O WITH HORN AND ACUTE
+    "\u1EDC", "O", // LATIN CAPITAL LETTER O WITH HORN AND GRAVE
+    "\u1EDD", "o", // LATIN SMALL LETTER O WITH HORN AND GRAVE
+    "\u1EDE", "O", // LATIN CAPITAL LETTER O WITH HORN AND HOOK ABOVE
+    "\u1EDF", "o", // LATIN SMALL LETTER O WITH HORN AND HOOK ABOVE
+    "\u1EE0", "O", // LATIN CAPITAL LETTER O WITH HORN AND TILDE
+    "\u1EE1", "o", // LATIN SMALL LETTER O WITH HORN AND TILDE
+    "\u1EE2", "O", // LATIN CAPITAL LETTER O WITH HORN AND DOT BELOW
+    "\u1EE3", "o", // LATIN SMALL LETTER O WITH HORN AND DOT BELOW
+    "\u1EE4", "U", // LATIN CAPITAL LETTER U WITH DOT BELOW
+    "\u1EE5", "u", // LATIN SMALL LETTER U WITH DOT BELOW
+    "\u1EE6", "U", // LATIN CAPITAL LETTER U WITH HOOK ABOVE
+    "\u1EE7", "u", // LATIN SMALL LETTER U WITH HOOK ABOVE
+    "\u1EE8", "U", // LATIN CAPITAL LETTER U WITH HORN AND ACUTE
+    "\u1EE9", "u", // LATIN SMALL LETTER U WITH HORN AND ACUTE
+    "\u1EEA", "U", // LATIN CAPITAL LETTER U WITH HORN AND GRAVE
+    "\u1EEB", "u", // LATIN SMALL LETTER U WITH HORN AND GRAVE
+    "\u1EEC", "U", // LATIN CAPITAL LETTER U WITH HORN AND HOOK ABOVE
+    "\u1EED", "u", // LATIN SMALL LETTER U WITH HORN AND HOOK ABOVE
+    "\u1EEE", "U", // LATIN CAPITAL LETTER U WITH HORN AND TILDE
+    "\u1EEF", "u", // LATIN SMALL LETTER U WITH HORN AND TILDE
+    "\u1EF0", "U", // LATIN CAPITAL LETTER U WITH HORN AND DOT BELOW
+    "\u1EF1", "u", // LATIN SMALL LETTER U WITH HORN AND DOT BELOW
+    "\u1EF2", "Y", // LATIN CAPITAL LETTER Y WITH GRAVE
+    "\u1EF3", "y", // LATIN SMALL LETTER Y WITH GRAVE
+    "\u1EF4", "Y", // LATIN CAPITAL LETTER Y WITH DOT BELOW
+    "\u1EF5", "y", // LATIN SMALL LETTER Y WITH DOT BELOW
+    "\u1EF6", "Y", // LATIN CAPITAL LETTER Y WITH HOOK ABOVE
+    "\u1EF7", "y", // LATIN SMALL LETTER Y WITH HOOK ABOVE
+    "\u1EF8", "Y", // LATIN CAPITAL LETTER Y WITH TILDE
+    "\u1EF9", "y", // LATIN SMALL LETTER Y WITH TILDE
+    "\u1F02", "\u03B1", // GREEK SMALL LETTER ALPHA WITH PSILI AND VARIA
+    "\u1F06", "\u03B1", // GREEK SMALL LETTER ALPHA WITH PSILI AND PERISPOMENI
+    "\u1F07", "\u03B1", // GREEK SMALL LETTER ALPHA WITH DASIA AND PERISPOMENI
+    "\u1F09", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH DASIA
+    "\u1F0A", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH PSILI AND VARIA
+    "\u1F0B", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH DASIA AND VARIA
+    "\u1F0D", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH DASIA AND OXIA
+    "\u1F0E", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH PSILI AND PERISPOMENI
+    "\u1F0F", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH DASIA AND PERISPOMENI
+    "\u1F12", "\u03B5", // GREEK SMALL LETTER EPSILON WITH PSILI AND VARIA
+    "\u1F19", "\u0395", // GREEK CAPITAL LETTER EPSILON WITH DASIA
+    "\u1F1A", "\u0395", // GREEK CAPITAL LETTER EPSILON WITH PSILI AND VARIA
+    "\u1F1B", "\u0395", // GREEK CAPITAL LETTER EPSILON WITH DASIA AND VARIA
+    "\u1F1C", "\u0395", // GREEK CAPITAL LETTER EPSILON WITH PSILI AND OXIA
+    "\u1F1D", "\u0395", // GREEK CAPITAL LETTER EPSILON WITH DASIA AND OXIA
+    "\u1F23", "\u03B7", // GREEK SMALL LETTER ETA WITH DASIA AND VARIA
+    "\u1F28", "\u0397", // GREEK CAPITAL LETTER ETA WITH PSILI
+    "\u1F2A", "\u0397", // GREEK CAPITAL LETTER ETA WITH PSILI AND VARIA
+    "\u1F2B", "\u0397", // GREEK CAPITAL LETTER ETA WITH DASIA AND VARIA
+    "\u1F2C", "\u0397", // GREEK CAPITAL LETTER ETA WITH PSILI AND OXIA
+    "\u1F2D", "\u0397", // GREEK CAPITAL LETTER ETA WITH DASIA AND OXIA
+    "\u1F2E", "\u0397", // GREEK CAPITAL LETTER ETA WITH PSILI AND PERISPOMENI
+    "\u1F2F", "\u0397", // GREEK CAPITAL LETTER ETA WITH DASIA AND PERISPOMENI
+    "\u1F33", "\u03B9", // GREEK SMALL LETTER IOTA WITH DASIA AND VARIA
+    "\u1F3A", "\u0399", // GREEK CAPITAL LETTER IOTA WITH PSILI AND VARIA
+    "\u1F3B", "\u0399", // GREEK CAPITAL LETTER IOTA WITH DASIA AND VARIA
+    "\u1F3C", "\u0399", // GREEK CAPITAL LETTER IOTA WITH PSILI AND OXIA
+    "\u1F3D", "\u0399", // GREEK CAPITAL LETTER IOTA WITH DASIA AND OXIA
+    "\u1F3E", "\u0399", // GREEK CAPITAL LETTER IOTA WITH PSILI AND PERISPOMENI
+    "\u1F3F", "\u0399", // GREEK CAPITAL LETTER IOTA WITH DASIA AND PERISPOMENI
+    "\u1F43", "\u03BF", // GREEK SMALL LETTER OMICRON WITH DASIA AND VARIA
+    "\u1F48", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH PSILI
+    "\u1F49", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH DASIA
+    "\u1F4A", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH PSILI AND VARIA
+    "\u1F4B", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH DASIA AND VARIA
+    "\u1F4C", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH PSILI AND OXIA
+    "\u1F4D", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH DASIA AND OXIA
+    "\u1F57", "\u03C5", // GREEK SMALL LETTER UPSILON WITH DASIA AND PERISPOMENI
+    "\u1F5B", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH DASIA AND VARIA
+    "\u1F5D", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH DASIA AND OXIA
+    "\u1F5F", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH DASIA AND PERISPOMENI
+    "\u1F62", "\u03C9", // GREEK SMALL LETTER OMEGA WITH PSILI AND VARIA
+    "\u1F63", "\u03C9", // GREEK SMALL LETTER OMEGA WITH DASIA AND VARIA
+    "\u1F67", "\u03C9", // GREEK SMALL LETTER OMEGA WITH DASIA AND PERISPOMENI
+    "\u1F68", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PSILI
+    "\u1F69", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH DASIA
+    "\u1F6A", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PSILI AND VARIA
+    "\u1F6B", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH DASIA AND VARIA
+    "\u1F6C", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PSILI AND OXIA
+    "\u1F6D", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH DASIA AND OXIA
+    "\u1F6E", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PSILI AND PERISPOMENI
+    "\u1F6F", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH DASIA AND PERISPOMENI
+    "\u1F71", "\u03B1", // GREEK SMALL LETTER ALPHA WITH OXIA
+    "\u1F73", "\u03B5", // GREEK SMALL LETTER EPSILON WITH OXIA
+    "\u1F75", "\u03B7", // GREEK SMALL LETTER ETA WITH OXIA
+    "\u1F77", "\u03B9", // GREEK SMALL LETTER IOTA WITH OXIA
+    "\u1F79", "\u03BF", // GREEK SMALL LETTER OMICRON WITH OXIA
+    "\u1F7B", "\u03C5", // GREEK SMALL LETTER UPSILON WITH OXIA
+    "\u1F7D", "\u03C9", // GREEK SMALL LETTER OMEGA WITH OXIA
+    "\u1F80", "\u03B1", // GREEK SMALL LETTER ALPHA WITH PSILI AND YPOGEGRAMMENI
+    "\u1F81", "\u03B1", // GREEK SMALL LETTER ALPHA WITH DASIA AND YPOGEGRAMMENI
+    "\u1F82", "\u03B1", // GREEK SMALL LETTER ALPHA WITH PSILI AND VARIA AND YPOGEGRAMMENI
+    "\u1F83", "\u03B1", // GREEK SMALL LETTER ALPHA WITH DASIA AND VARIA AND YPOGEGRAMMENI
+    "\u1F84", "\u03B1", // GREEK SMALL LETTER ALPHA WITH PSILI AND OXIA AND YPOGEGRAMMENI
+    "\u1F86", "\u03B1", // GREEK SMALL LETTER ALPHA WITH PSILI AND PERISPOMENI AND YPOGEGRAMMENI
+    "\u1F87", "\u03B1", // GREEK SMALL LETTER ALPHA WITH DASIA AND PERISPOMENI AND YPOGEGRAMMENI
+    "\u1F88", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH PSILI AND PROSGEGRAMMENI
+    "\u1F89", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH DASIA AND PROSGEGRAMMENI
+    "\u1F8A", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH PSILI AND VARIA AND PROSGEGRAMMENI
+    "\u1F8B", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH DASIA AND VARIA AND PROSGEGRAMMENI
+    "\u1F8C", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH PSILI AND OXIA AND PROSGEGRAMMENI
+    "\u1F8D", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH DASIA AND OXIA AND PROSGEGRAMMENI
+    "\u1F8E", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH PSILI AND PERISPOMENI AND PROSGEGRAMMENI
+    "\u1F8F", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH DASIA AND PERISPOMENI AND PROSGEGRAMMENI
+    "\u1F90", "\u03B7", // GREEK SMALL LETTER ETA WITH PSILI AND YPOGEGRAMMENI
+    "\u1F91", "\u03B7", // GREEK SMALL LETTER ETA WITH DASIA AND YPOGEGRAMMENI
+    "\u1F92", "\u03B7", // GREEK SMALL LETTER ETA WITH PSILI AND VARIA AND YPOGEGRAMMENI
+    "\u1F93", "\u03B7", // GREEK SMALL LETTER ETA WITH DASIA AND VARIA AND YPOGEGRAMMENI
+    "\u1F94", "\u03B7", // GREEK SMALL LETTER ETA WITH PSILI AND OXIA AND YPOGEGRAMMENI
+    "\u1F95", "\u03B7", // GREEK SMALL LETTER ETA WITH DASIA AND OXIA AND YPOGEGRAMMENI
+    "\u1F96", "\u03B7", // GREEK SMALL LETTER ETA WITH PSILI AND PERISPOMENI AND YPOGEGRAMMENI
+    "\u1F97", "\u03B7", // GREEK SMALL LETTER ETA WITH DASIA AND PERISPOMENI AND YPOGEGRAMMENI
+    "\u1F98", "\u0397", // GREEK CAPITAL LETTER ETA WITH PSILI AND PROSGEGRAMMENI
+    "\u1F99", "\u0397", // GREEK CAPITAL LETTER ETA WITH DASIA AND PROSGEGRAMMENI
+    "\u1F9A", "\u0397", // GREEK CAPITAL LETTER ETA WITH PSILI AND VARIA AND PROSGEGRAMMENI
+    "\u1F9B", "\u0397", // GREEK CAPITAL LETTER ETA WITH DASIA AND VARIA AND PROSGEGRAMMENI
+    "\u1F9C", "\u0397", // GREEK CAPITAL LETTER ETA WITH PSILI AND OXIA AND PROSGEGRAMMENI
+    "\u1F9D", "\u0397", // GREEK CAPITAL LETTER ETA WITH DASIA AND OXIA AND PROSGEGRAMMENI
+    "\u1F9E", "\u0397", // GREEK CAPITAL LETTER ETA WITH PSILI AND PERISPOMENI AND PROSGEGRAMMENI
+    "\u1F9F", "\u0397", // GREEK CAPITAL LETTER ETA WITH DASIA AND PERISPOMENI AND PROSGEGRAMMENI
+    "\u1FA1", "\u03C9", // GREEK SMALL LETTER OMEGA WITH DASIA AND YPOGEGRAMMENI
+    "\u1FA2", "\u03C9", // GREEK SMALL LETTER OMEGA WITH PSILI AND VARIA AND YPOGEGRAMMENI
+    "\u1FA3", "\u03C9", // GREEK SMALL LETTER OMEGA WITH DASIA AND VARIA AND YPOGEGRAMMENI
+    "\u1FA4", "\u03C9", // GREEK SMALL LETTER OMEGA WITH PSILI AND OXIA AND YPOGEGRAMMENI
+    "\u1FA5", "\u03C9", // GREEK SMALL LETTER OMEGA WITH DASIA AND OXIA AND YPOGEGRAMMENI
+    "\u1FA6", "\u03C9", // GREEK SMALL LETTER OMEGA WITH PSILI AND PERISPOMENI AND YPOGEGRAMMENI
+    "\u1FA7", "\u03C9", // GREEK SMALL LETTER OMEGA WITH DASIA AND PERISPOMENI AND YPOGEGRAMMENI
+    "\u1FA8", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PSILI AND PROSGEGRAMMENI
+    "\u1FA9", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH DASIA AND PROSGEGRAMMENI
+    "\u1FAA", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PSILI AND VARIA AND PROSGEGRAMMENI
+    "\u1FAB", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH DASIA AND VARIA AND PROSGEGRAMMENI
+    "\u1FAC", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PSILI AND OXIA AND PROSGEGRAMMENI
+    "\u1FAD", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH DASIA AND OXIA AND PROSGEGRAMMENI
+    "\u1FAE", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PSILI AND PERISPOMENI AND PROSGEGRAMMENI
+    "\u1FAF", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH DASIA AND PERISPOMENI AND PROSGEGRAMMENI
+    "\u1FB0", "\u03B1", // GREEK SMALL LETTER ALPHA WITH VRACHY
+    "\u1FB2", "\u03B1", // GREEK SMALL LETTER ALPHA WITH VARIA AND YPOGEGRAMMENI
+    "\u1FB7", "\u03B1", // GREEK SMALL LETTER ALPHA WITH PERISPOMENI AND YPOGEGRAMMENI
+    "\u1FB8", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH VRACHY
+    "\u1FB9", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH MACRON
+    "\u1FBA", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH VARIA
+    "\u1FBB", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH OXIA
+    "\u1FBC", "\u0391", // GREEK CAPITAL LETTER ALPHA WITH PROSGEGRAMMENI
+    "\u1FBE", "\u03B9", // GREEK PROSGEGRAMMENI
+    "\u1FC1", "\u00A8", // GREEK DIALYTIKA AND PERISPOMENI
+    "\u1FC2", "\u03B7", // GREEK SMALL LETTER ETA WITH VARIA AND YPOGEGRAMMENI
+    "\u1FC8", "\u0395", // GREEK CAPITAL LETTER EPSILON WITH VARIA
+    "\u1FC9", "\u0395", // GREEK CAPITAL LETTER EPSILON WITH OXIA
+    "\u1FCA", "\u0397", // GREEK CAPITAL LETTER ETA WITH VARIA
+    "\u1FCB", "\u0397", // GREEK CAPITAL LETTER ETA WITH OXIA
+    "\u1FCC", "\u0397", // GREEK CAPITAL LETTER ETA WITH PROSGEGRAMMENI
+    "\u1FCD", "\u1FBF", // GREEK PSILI AND VARIA
+    "\u1FCE", "\u1FBF", // GREEK PSILI AND OXIA
+    "\u1FCF", "\u1FBF", // GREEK PSILI AND PERISPOMENI
+    "\u1FD1", "\u03B9", // GREEK SMALL LETTER IOTA WITH MACRON
+    "\u1FD2", "\u03B9", // GREEK SMALL LETTER IOTA WITH DIALYTIKA AND VARIA
+    "\u1FD3", "\u03B9", // GREEK SMALL LETTER IOTA WITH DIALYTIKA AND OXIA
+    "\u1FD7", "\u03B9", // GREEK SMALL LETTER IOTA WITH DIALYTIKA AND PERISPOMENI
+    "\u1FD8", "\u0399", // GREEK CAPITAL LETTER IOTA WITH VRACHY
+    "\u1FD9", "\u0399", // GREEK CAPITAL LETTER IOTA WITH MACRON
+    "\u1FDA", "\u0399", // GREEK CAPITAL LETTER IOTA WITH VARIA
+    "\u1FDB", "\u0399", // GREEK CAPITAL LETTER IOTA WITH OXIA
+    "\u1FDD", "\u1FFE", // GREEK DASIA AND VARIA
+    "\u1FDE", "\u1FFE", // GREEK DASIA AND OXIA
+    "\u1FDF", "\u1FFE", // GREEK DASIA AND PERISPOMENI
+    "\u1FE2", "\u03C5", // GREEK SMALL LETTER UPSILON WITH DIALYTIKA AND VARIA
+    "\u1FE3", "\u03C5", // GREEK SMALL LETTER UPSILON WITH DIALYTIKA AND OXIA
+    "\u1FE7", "\u03C5", // GREEK SMALL LETTER UPSILON WITH DIALYTIKA AND PERISPOMENI
+    "\u1FE8", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH VRACHY
+    "\u1FE9", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH MACRON
+    "\u1FEA", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH VARIA
+    "\u1FEB", "\u03A5", // GREEK CAPITAL LETTER UPSILON WITH OXIA
+    "\u1FED", "\u00A8", // GREEK DIALYTIKA AND VARIA
+    "\u1FEE", "\u00A8", // GREEK DIALYTIKA AND OXIA
+    "\u1FEF", "`", // GREEK VARIA
+    "\u1FF2", "\u03C9", // GREEK SMALL LETTER OMEGA WITH VARIA AND YPOGEGRAMMENI
+    "\u1FF8", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH VARIA
+    "\u1FF9", "\u039F", // GREEK CAPITAL LETTER OMICRON WITH OXIA
+    "\u1FFA", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH VARIA
+    "\u1FFB", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH OXIA
+    "\u1FFC", "\u03A9", // GREEK CAPITAL LETTER OMEGA WITH PROSGEGRAMMENI
+    "\u1FFD", "\u00B4", // GREEK OXIA
+  };
+
+  /** The same for supplementary code points, each given as its surrogate pair. */
+  static final String[] SUPPLEMENTARY_FOLDS = {
+    "\uD835\uDC00", "a", // MATHEMATICAL BOLD CAPITAL A
+    "\uD835\uDC01", "b", // MATHEMATICAL BOLD CAPITAL B
+    "\uD835\uDC02", "c", // MATHEMATICAL BOLD CAPITAL C
+    "\uD835\uDC03", "d", // MATHEMATICAL BOLD CAPITAL D
+    "\uD835\uDC04", "e", // MATHEMATICAL BOLD CAPITAL E
+    "\uD835\uDC05", "f", // MATHEMATICAL BOLD CAPITAL F
+    "\uD835\uDC06", "g", // MATHEMATICAL BOLD CAPITAL G
+    "\uD835\uDC07", "h", // MATHEMATICAL BOLD CAPITAL H
+    "\uD835\uDC08", "i", // MATHEMATICAL BOLD CAPITAL I
+    "\uD835\uDC09", "j", // MATHEMATICAL BOLD CAPITAL J
+    "\uD835\uDC0A", "k", // MATHEMATICAL BOLD CAPITAL K
+    "\uD835\uDC0B", "l", // MATHEMATICAL BOLD CAPITAL L
+    "\uD835\uDC0C", "m", // MATHEMATICAL BOLD CAPITAL M
+    "\uD835\uDC0D", "n", // MATHEMATICAL BOLD CAPITAL N
+    "\uD835\uDC0E", "o", // MATHEMATICAL BOLD CAPITAL O
+    "\uD835\uDC0F", "p", // MATHEMATICAL BOLD CAPITAL P
+    "\uD835\uDC10", "q", // MATHEMATICAL BOLD CAPITAL Q
+    "\uD835\uDC11", "r", // MATHEMATICAL BOLD CAPITAL R
+    "\uD835\uDC12", "s", // MATHEMATICAL BOLD CAPITAL S
+    "\uD835\uDC13", "t", // MATHEMATICAL BOLD CAPITAL T
+    "\uD835\uDC14", "u", // MATHEMATICAL BOLD CAPITAL U
+    "\uD835\uDC15", "v", // MATHEMATICAL BOLD CAPITAL V
+    "\uD835\uDC16", "w", // MATHEMATICAL BOLD CAPITAL W
+    "\uD835\uDC17", "x", // MATHEMATICAL BOLD CAPITAL X
+    "\uD835\uDC18", "y", // MATHEMATICAL BOLD CAPITAL Y
+    "\uD835\uDC19", "z", // MATHEMATICAL BOLD CAPITAL Z
+    "\uD835\uDC1A", "a", // MATHEMATICAL BOLD SMALL A
+    "\uD835\uDC1B", "b", // MATHEMATICAL BOLD SMALL B
+    "\uD835\uDC1C", "c", // MATHEMATICAL BOLD SMALL C
+    "\uD835\uDC1D", "d", // MATHEMATICAL BOLD SMALL D
+    "\uD835\uDC1E", "e", // MATHEMATICAL BOLD SMALL E
+    "\uD835\uDC1F", "f", // MATHEMATICAL BOLD SMALL F
+    "\uD835\uDC20", "g", // MATHEMATICAL BOLD SMALL G
+    "\uD835\uDC21", "h", // MATHEMATICAL BOLD SMALL H
+    "\uD835\uDC22", "i", // MATHEMATICAL BOLD SMALL I
+    "\uD835\uDC23", "j", // MATHEMATICAL BOLD SMALL J
+    "\uD835\uDC24", "k", // MATHEMATICAL BOLD SMALL K
+    "\uD835\uDC25", "l", // MATHEMATICAL BOLD SMALL L
+    "\uD835\uDC26", "m", // MATHEMATICAL BOLD SMALL M
+    "\uD835\uDC27", "n", // MATHEMATICAL BOLD SMALL N
+    "\uD835\uDC28", "o", // MATHEMATICAL BOLD SMALL O
+    "\uD835\uDC29", "p", // MATHEMATICAL BOLD SMALL P
+    "\uD835\uDC2A", "q", // MATHEMATICAL BOLD SMALL Q
+    "\uD835\uDC2B", "r", // MATHEMATICAL BOLD SMALL R
+    "\uD835\uDC2C", "s", // MATHEMATICAL BOLD SMALL S
+    "\uD835\uDC2D", "t", // MATHEMATICAL BOLD SMALL T
+    "\uD835\uDC2E", "u", // MATHEMATICAL BOLD SMALL U
+    "\uD835\uDC2F", "v", // MATHEMATICAL BOLD SMALL V
+    "\uD835\uDC30", "w", // MATHEMATICAL BOLD SMALL W
+    "\uD835\uDC31", "x", // MATHEMATICAL BOLD SMALL X
+    "\uD835\uDC32", "y", // MATHEMATICAL BOLD SMALL Y
+    "\uD835\uDC33", "z", // MATHEMATICAL BOLD SMALL Z
+    "\uD835\uDC34", "a", // MATHEMATICAL ITALIC CAPITAL A
+    "\uD835\uDC35", "b", // MATHEMATICAL ITALIC CAPITAL B
+    "\uD835\uDC36", "c", // MATHEMATICAL ITALIC CAPITAL C
+    "\uD835\uDC37", "d", // MATHEMATICAL ITALIC CAPITAL D
+    "\uD835\uDC38", "e", // MATHEMATICAL ITALIC CAPITAL E
+    "\uD835\uDC39", "f", // MATHEMATICAL ITALIC CAPITAL F
+    "\uD835\uDC3A", "g", // MATHEMATICAL ITALIC CAPITAL G
+    "\uD835\uDC3B", "h", // MATHEMATICAL ITALIC CAPITAL H
+    "\uD835\uDC3C", "i", // MATHEMATICAL ITALIC CAPITAL I
+    "\uD835\uDC3D", "j", // MATHEMATICAL ITALIC CAPITAL J
+    "\uD835\uDC3E", "k", // MATHEMATICAL ITALIC CAPITAL K
+    "\uD835\uDC3F", "l", // MATHEMATICAL ITALIC CAPITAL L
+    "\uD835\uDC40", "m", // MATHEMATICAL ITALIC CAPITAL M
+    "\uD835\uDC41", "n", // MATHEMATICAL ITALIC CAPITAL N
+    "\uD835\uDC42", "o", // MATHEMATICAL ITALIC CAPITAL O
+    "\uD835\uDC43", "p", // MATHEMATICAL ITALIC CAPITAL P
+    "\uD835\uDC44", "q", // MATHEMATICAL ITALIC CAPITAL Q
+    "\uD835\uDC45", "r", // MATHEMATICAL ITALIC CAPITAL R
+    "\uD835\uDC46", "s", // MATHEMATICAL ITALIC CAPITAL S
+    "\uD835\uDC47", "t", // MATHEMATICAL ITALIC CAPITAL T
+    "\uD835\uDC48", "u", // MATHEMATICAL ITALIC CAPITAL U
+    "\uD835\uDC49", "v", // MATHEMATICAL ITALIC CAPITAL V
+    "\uD835\uDC4A", "w", // MATHEMATICAL ITALIC CAPITAL W
+    "\uD835\uDC4B", "x", // MATHEMATICAL ITALIC CAPITAL X
+    "\uD835\uDC4C", "y", // MATHEMATICAL ITALIC CAPITAL Y
+    "\uD835\uDC4D", "z", // MATHEMATICAL ITALIC CAPITAL Z
+    "\uD835\uDC4E", "a", // MATHEMATICAL ITALIC SMALL A
+    "\uD835\uDC4F", "b", // MATHEMATICAL ITALIC SMALL B
+    "\uD835\uDC50", "c", // MATHEMATICAL ITALIC SMALL C
+    "\uD835\uDC51", "d", // MATHEMATICAL ITALIC SMALL D
+    "\uD835\uDC52", "e", // MATHEMATICAL ITALIC SMALL E
+    "\uD835\uDC53", "f", // MATHEMATICAL ITALIC SMALL F
+    "\uD835\uDC54", "g", // MATHEMATICAL ITALIC SMALL G
+    "\uD835\uDC56", "i", // MATHEMATICAL ITALIC SMALL I
+    "\uD835\uDC57", "j", // MATHEMATICAL ITALIC SMALL J
+    "\uD835\uDC58", "k", // MATHEMATICAL ITALIC SMALL K
+    "\uD835\uDC59", "l", // MATHEMATICAL ITALIC SMALL L
+    "\uD835\uDC5A", "m", // MATHEMATICAL ITALIC SMALL M
+    "\uD835\uDC5B", "n", // MATHEMATICAL ITALIC SMALL N
+    "\uD835\uDC5C", "o", // MATHEMATICAL ITALIC SMALL O
+    "\uD835\uDC5D", "p", // MATHEMATICAL ITALIC SMALL P
+    "\uD835\uDC5E", "q", // MATHEMATICAL ITALIC SMALL Q
+    "\uD835\uDC5F", "r", // MATHEMATICAL ITALIC SMALL R
+    "\uD835\uDC60", "s", // MATHEMATICAL ITALIC SMALL S
+    "\uD835\uDC61", "t", // MATHEMATICAL ITALIC SMALL T
+    "\uD835\uDC62", "u", // MATHEMATICAL ITALIC SMALL U
+    "\uD835\uDC63", "v", // MATHEMATICAL ITALIC SMALL V
+    "\uD835\uDC64", "w", // MATHEMATICAL ITALIC SMALL W
+    "\uD835\uDC65", "x", // MATHEMATICAL ITALIC SMALL X
+    "\uD835\uDC66", "y", // MATHEMATICAL ITALIC SMALL Y
+    "\uD835\uDC67", "z", // MATHEMATICAL ITALIC SMALL Z
+    "\uD835\uDC68", "a", // MATHEMATICAL BOLD ITALIC CAPITAL A
+    "\uD835\uDC69", "b", // MATHEMATICAL BOLD ITALIC CAPITAL B
+    "\uD835\uDC6A", "c", // MATHEMATICAL BOLD ITALIC CAPITAL C
+    "\uD835\uDC6B", "d", // MATHEMATICAL BOLD ITALIC CAPITAL D
+    "\uD835\uDC6C", "e", // MATHEMATICAL BOLD ITALIC CAPITAL E
+    "\uD835\uDC6D", "f", // MATHEMATICAL BOLD ITALIC CAPITAL F
+    "\uD835\uDC6E", "g", // MATHEMATICAL BOLD ITALIC CAPITAL G
+    "\uD835\uDC6F", "h", // MATHEMATICAL BOLD ITALIC CAPITAL H
+    "\uD835\uDC70", "i", // MATHEMATICAL BOLD ITALIC CAPITAL I
+    "\uD835\uDC71", "j", // MATHEMATICAL BOLD ITALIC CAPITAL J
+    "\uD835\uDC72", "k", // MATHEMATICAL BOLD ITALIC CAPITAL K
+    "\uD835\uDC73", "l", // MATHEMATICAL BOLD ITALIC CAPITAL L
+    "\uD835\uDC74", "m", // MATHEMATICAL BOLD ITALIC CAPITAL M
+    "\uD835\uDC75", "n", // MATHEMATICAL BOLD ITALIC CAPITAL N
+    "\uD835\uDC76", "o", // MATHEMATICAL BOLD ITALIC CAPITAL O
+    "\uD835\uDC77", "p", // MATHEMATICAL BOLD ITALIC CAPITAL P
+    "\uD835\uDC78", "q", // MATHEMATICAL BOLD ITALIC CAPITAL Q
+    "\uD835\uDC79", "r", // MATHEMATICAL BOLD ITALIC CAPITAL R
+    "\uD835\uDC7A", "s", // MATHEMATICAL BOLD ITALIC CAPITAL S
+    "\uD835\uDC7B", "t", // MATHEMATICAL BOLD ITALIC CAPITAL T
+    "\uD835\uDC7C", "u", // MATHEMATICAL BOLD ITALIC CAPITAL U
+    "\uD835\uDC7D", "v", // MATHEMATICAL BOLD ITALIC CAPITAL V
+    "\uD835\uDC7E", "w", // MATHEMATICAL BOLD ITALIC CAPITAL W
+    "\uD835\uDC7F", "x", // MATHEMATICAL BOLD ITALIC CAPITAL X
+    "\uD835\uDC80", "y", // MATHEMATICAL BOLD ITALIC CAPITAL Y
+    "\uD835\uDC81", "z", // MATHEMATICAL BOLD ITALIC CAPITAL Z
+    "\uD835\uDC82", "a", // MATHEMATICAL BOLD ITALIC SMALL A
+    "\uD835\uDC83", "b", // MATHEMATICAL BOLD ITALIC SMALL B
+    "\uD835\uDC84", "c", // MATHEMATICAL BOLD ITALIC SMALL C
+    "\uD835\uDC85", "d", // MATHEMATICAL BOLD ITALIC SMALL D
+    "\uD835\uDC86", "e", // MATHEMATICAL BOLD ITALIC SMALL E
+    "\uD835\uDC87", "f", // MATHEMATICAL BOLD ITALIC SMALL F
+    "\uD835\uDC88", "g", // MATHEMATICAL BOLD ITALIC SMALL G
+    "\uD835\uDC89", "h", // MATHEMATICAL BOLD ITALIC SMALL H
+    "\uD835\uDC8A", "i", // MATHEMATICAL BOLD ITALIC SMALL I
+    "\uD835\uDC8B", "j", // MATHEMATICAL BOLD ITALIC SMALL J
+    "\uD835\uDC8C", "k", // MATHEMATICAL BOLD ITALIC SMALL K
+    "\uD835\uDC8D", "l", // MATHEMATICAL BOLD ITALIC SMALL L
+    "\uD835\uDC8E", "m", // MATHEMATICAL BOLD ITALIC SMALL M
+    "\uD835\uDC8F", "n", // MATHEMATICAL BOLD ITALIC SMALL N
+    "\uD835\uDC90", "o", // MATHEMATICAL BOLD ITALIC SMALL O
+    "\uD835\uDC91", "p", // MATHEMATICAL BOLD ITALIC SMALL P
+    "\uD835\uDC92", "q", // MATHEMATICAL BOLD ITALIC SMALL Q
+    "\uD835\uDC93", "r", // MATHEMATICAL BOLD ITALIC SMALL R
+    "\uD835\uDC94", "s", // MATHEMATICAL BOLD ITALIC SMALL S
+    "\uD835\uDC95", "t", // MATHEMATICAL BOLD ITALIC SMALL T
+    "\uD835\uDC96", "u", // MATHEMATICAL BOLD ITALIC SMALL U
+    "\uD835\uDC97", "v", // MATHEMATICAL BOLD ITALIC SMALL V
+    "\uD835\uDC98", "w", // MATHEMATICAL BOLD ITALIC SMALL W
+    "\uD835\uDC99", "x", // MATHEMATICAL BOLD ITALIC SMALL X
+    "\uD835\uDC9A", "y", // MATHEMATICAL BOLD ITALIC SMALL Y
+    "\uD835\uDC9B", "z", // MATHEMATICAL BOLD ITALIC SMALL Z
+    "\uD835\uDC9C", "a", // MATHEMATICAL SCRIPT CAPITAL A
+    "\uD835\uDC9E", "c", // MATHEMATICAL SCRIPT CAPITAL C
+    "\uD835\uDC9F", "d", // MATHEMATICAL SCRIPT CAPITAL D
+    "\uD835\uDCA2", "g", // MATHEMATICAL SCRIPT CAPITAL G
+    "\uD835\uDCA5", "j", // MATHEMATICAL SCRIPT CAPITAL J
+    "\uD835\uDCA6", "k", // MATHEMATICAL SCRIPT CAPITAL K
+    "\uD835\uDCA9", "n", // MATHEMATICAL SCRIPT CAPITAL N
+    "\uD835\uDCAA", "o", // MATHEMATICAL SCRIPT CAPITAL O
+    "\uD835\uDCAB", "p", // MATHEMATICAL SCRIPT CAPITAL P
+    "\uD835\uDCAC", "q", // MATHEMATICAL SCRIPT CAPITAL Q
+    "\uD835\uDCAE", "s", // MATHEMATICAL SCRIPT CAPITAL S
+    "\uD835\uDCAF", "t", // MATHEMATICAL SCRIPT CAPITAL T
+    "\uD835\uDCB0", "u", // MATHEMATICAL SCRIPT CAPITAL U
+    "\uD835\uDCB1", "v", // MATHEMATICAL SCRIPT CAPITAL V
+    "\uD835\uDCB2", "w", // MATHEMATICAL SCRIPT CAPITAL W
+    "\uD835\uDCB3", "x", // MATHEMATICAL SCRIPT CAPITAL X
+    "\uD835\uDCB4", "y", // MATHEMATICAL SCRIPT CAPITAL Y
+    "\uD835\uDCB5", "z", // MATHEMATICAL SCRIPT CAPITAL Z
+    "\uD835\uDCB6", "a", // MATHEMATICAL SCRIPT SMALL A
+    "\uD835\uDCB7", "b", // MATHEMATICAL SCRIPT SMALL B
+    "\uD835\uDCB8", "c", // MATHEMATICAL SCRIPT SMALL C
+    "\uD835\uDCB9", "d", // MATHEMATICAL SCRIPT SMALL D
+    "\uD835\uDCBB", "f", // MATHEMATICAL SCRIPT SMALL F
+    "\uD835\uDCBD", "h", // MATHEMATICAL SCRIPT SMALL H
+    "\uD835\uDCBE", "i", // MATHEMATICAL SCRIPT SMALL I
+    "\uD835\uDCBF", "j", // MATHEMATICAL SCRIPT SMALL J
+    "\uD835\uDCC0", "k", // MATHEMATICAL SCRIPT SMALL K
+    "\uD835\uDCC1", "l", // MATHEMATICAL SCRIPT SMALL L
+    "\uD835\uDCC2", "m", // MATHEMATICAL SCRIPT SMALL M
+    "\uD835\uDCC3", "n", // MATHEMATICAL SCRIPT SMALL N
+    "\uD835\uDCC5", "p", // MATHEMATICAL SCRIPT SMALL P
+    "\uD835\uDCC6", "q", // MATHEMATICAL SCRIPT SMALL Q
+    "\uD835\uDCC7", "r", // MATHEMATICAL SCRIPT SMALL R
+    "\uD835\uDCC8", "s", // MATHEMATICAL SCRIPT SMALL S
+    "\uD835\uDCC9", "t", // MATHEMATICAL SCRIPT SMALL T
+    "\uD835\uDCCA", "u", // MATHEMATICAL SCRIPT SMALL U
+    "\uD835\uDCCB", "v", // MATHEMATICAL SCRIPT SMALL V
+    "\uD835\uDCCC", "w", // MATHEMATICAL SCRIPT SMALL W
+    "\uD835\uDCCD", "x", // MATHEMATICAL SCRIPT SMALL X
+    "\uD835\uDCCE", "y", // MATHEMATICAL SCRIPT SMALL Y
+    "\uD835\uDCCF", "z", // MATHEMATICAL SCRIPT SMALL Z
+    "\uD835\uDCD0", "a", // MATHEMATICAL BOLD SCRIPT CAPITAL A
+    "\uD835\uDCD1", "b", // MATHEMATICAL BOLD SCRIPT CAPITAL B
+    "\uD835\uDCD2", "c", // MATHEMATICAL BOLD SCRIPT CAPITAL C
+    "\uD835\uDCD3", "d", // MATHEMATICAL BOLD SCRIPT CAPITAL D
+    "\uD835\uDCD4", "e", // MATHEMATICAL BOLD SCRIPT CAPITAL E
+    "\uD835\uDCD5", "f", // MATHEMATICAL BOLD SCRIPT CAPITAL F
+    "\uD835\uDCD6", "g", // MATHEMATICAL BOLD SCRIPT CAPITAL G
+    "\uD835\uDCD7", "h", // MATHEMATICAL BOLD SCRIPT CAPITAL H
+    "\uD835\uDCD8", "i", // MATHEMATICAL BOLD SCRIPT CAPITAL I
+    "\uD835\uDCD9", "j", // MATHEMATICAL BOLD SCRIPT CAPITAL J
+    "\uD835\uDCDA", "k", // MATHEMATICAL BOLD SCRIPT CAPITAL K
+    "\uD835\uDCDB", "l", // MATHEMATICAL BOLD SCRIPT CAPITAL L
+    "\uD835\uDCDC", "m", // MATHEMATICAL BOLD SCRIPT CAPITAL M
+    "\uD835\uDCDD", "n", // MATHEMATICAL BOLD SCRIPT CAPITAL N
+    "\uD835\uDCDE", "o", // MATHEMATICAL BOLD SCRIPT CAPITAL O
+    "\uD835\uDCDF", "p", // MATHEMATICAL BOLD SCRIPT CAPITAL P
+    "\uD835\uDCE0", "q", // MATHEMATICAL BOLD SCRIPT CAPITAL Q
+    "\uD835\uDCE1", "r", // MATHEMATICAL BOLD SCRIPT CAPITAL R
+    "\uD835\uDCE2", "s", // MATHEMATICAL BOLD SCRIPT CAPITAL S
+    "\uD835\uDCE3", "t", // MATHEMATICAL BOLD SCRIPT CAPITAL T
+    "\uD835\uDCE4", "u", // MATHEMATICAL BOLD SCRIPT CAPITAL U
+    "\uD835\uDCE5", "v", // MATHEMATICAL BOLD SCRIPT CAPITAL V
+    "\uD835\uDCE6", "w", // MATHEMATICAL BOLD SCRIPT CAPITAL W
+    "\uD835\uDCE7", "x", // MATHEMATICAL BOLD SCRIPT CAPITAL X
+    "\uD835\uDCE8", "y", // MATHEMATICAL BOLD SCRIPT CAPITAL Y
+    "\uD835\uDCE9", "z", // MATHEMATICAL BOLD SCRIPT CAPITAL Z
+    "\uD835\uDCEA", "a", // MATHEMATICAL BOLD SCRIPT SMALL A
+    "\uD835\uDCEB", "b", // MATHEMATICAL BOLD SCRIPT SMALL B
+    "\uD835\uDCEC", "c", // MATHEMATICAL BOLD SCRIPT SMALL C
+    "\uD835\uDCED", "d", // MATHEMATICAL BOLD SCRIPT SMALL D
+    "\uD835\uDCEE", "e", // MATHEMATICAL BOLD SCRIPT SMALL E
+    "\uD835\uDCEF", "f", // MATHEMATICAL BOLD SCRIPT SMALL F
+    "\uD835\uDCF0", "g", // MATHEMATICAL BOLD SCRIPT SMALL G
+    "\uD835\uDCF1", "h", // MATHEMATICAL BOLD SCRIPT SMALL H
+    "\uD835\uDCF2", "i", // MATHEMATICAL BOLD SCRIPT SMALL I
+    "\uD835\uDCF3", "j", // MATHEMATICAL BOLD SCRIPT SMALL J
+    "\uD835\uDCF4", "k", // MATHEMATICAL BOLD SCRIPT SMALL K
+    "\uD835\uDCF5", "l", // MATHEMATICAL BOLD SCRIPT SMALL L
+    "\uD835\uDCF6", "m", // MATHEMATICAL BOLD SCRIPT SMALL M
+    "\uD835\uDCF7", "n", // MATHEMATICAL BOLD SCRIPT SMALL N
+    "\uD835\uDCF8", "o", // MATHEMATICAL BOLD SCRIPT SMALL O
+    "\uD835\uDCF9", "p", // MATHEMATICAL BOLD SCRIPT SMALL P
+    "\uD835\uDCFA", "q", // MATHEMATICAL BOLD SCRIPT SMALL Q
+    "\uD835\uDCFB", "r", // MATHEMATICAL BOLD SCRIPT SMALL R
+    "\uD835\uDCFC", "s", // MATHEMATICAL BOLD SCRIPT SMALL S
+    "\uD835\uDCFD", "t", // MATHEMATICAL BOLD SCRIPT SMALL T
+    "\uD835\uDCFE", "u", // MATHEMATICAL BOLD SCRIPT SMALL U
+    "\uD835\uDCFF", "v", // MATHEMATICAL BOLD SCRIPT SMALL V
+    "\uD835\uDD00", "w", // MATHEMATICAL BOLD SCRIPT SMALL W
+    "\uD835\uDD01", "x", // MATHEMATICAL BOLD SCRIPT SMALL X
+    "\uD835\uDD02", "y", // MATHEMATICAL BOLD SCRIPT SMALL Y
+    "\uD835\uDD03", "z", // MATHEMATICAL BOLD SCRIPT SMALL Z
+    "\uD835\uDD04", "a", // MATHEMATICAL FRAKTUR CAPITAL A
+    "\uD835\uDD05", "b", // MATHEMATICAL FRAKTUR CAPITAL B
+    "\uD835\uDD07", "d", // MATHEMATICAL FRAKTUR CAPITAL D
+    "\uD835\uDD08", "e", // MATHEMATICAL FRAKTUR CAPITAL E
+    "\uD835\uDD09", "f", // MATHEMATICAL FRAKTUR CAPITAL F
+    "\uD835\uDD0A", "g", // MATHEMATICAL FRAKTUR CAPITAL G
+    "\uD835\uDD0D", "j", // MATHEMATICAL FRAKTUR CAPITAL J
+    "\uD835\uDD0E", "k", // MATHEMATICAL FRAKTUR CAPITAL K
+    "\uD835\uDD0F", "l", // MATHEMATICAL FRAKTUR CAPITAL L
+    "\uD835\uDD10", "m", // MATHEMATICAL FRAKTUR CAPITAL M
+    "\uD835\uDD11", "n", // MATHEMATICAL FRAKTUR CAPITAL N
+    "\uD835\uDD12", "o", // MATHEMATICAL FRAKTUR CAPITAL O
+    "\uD835\uDD13", "p", // MATHEMATICAL FRAKTUR CAPITAL P
+    "\uD835\uDD14", "q", // MATHEMATICAL FRAKTUR CAPITAL Q
+    "\uD835\uDD16", "s", // MATHEMATICAL FRAKTUR CAPITAL S
+    "\uD835\uDD17", "t", // MATHEMATICAL FRAKTUR CAPITAL T
+    "\uD835\uDD18", "u", // MATHEMATICAL FRAKTUR CAPITAL U
+    "\uD835\uDD19", "v", // MATHEMATICAL FRAKTUR CAPITAL V
+    "\uD835\uDD1A", "w", // MATHEMATICAL FRAKTUR CAPITAL W
+    "\uD835\uDD1B", "x", // MATHEMATICAL FRAKTUR CAPITAL X
+    "\uD835\uDD1C", "y", // MATHEMATICAL FRAKTUR CAPITAL Y
+    "\uD835\uDD1E", "a", // MATHEMATICAL FRAKTUR SMALL A
+    "\uD835\uDD1F", "b", // MATHEMATICAL FRAKTUR SMALL B
+    "\uD835\uDD20", "c", // MATHEMATICAL FRAKTUR SMALL C
+    "\uD835\uDD21", "d", // MATHEMATICAL FRAKTUR SMALL D
+    "\uD835\uDD22", "e", // MATHEMATICAL FRAKTUR SMALL E
+    "\uD835\uDD23", "f", // MATHEMATICAL FRAKTUR SMALL F
+    "\uD835\uDD24", "g", // MATHEMATICAL FRAKTUR SMALL G
+    "\uD835\uDD25", "h", // MATHEMATICAL FRAKTUR SMALL H
+    "\uD835\uDD26", "i", // MATHEMATICAL FRAKTUR SMALL I
+    "\uD835\uDD27", "j", // MATHEMATICAL FRAKTUR SMALL J
+    "\uD835\uDD28", "k", // MATHEMATICAL FRAKTUR SMALL K
+    "\uD835\uDD29", "l", // MATHEMATICAL FRAKTUR SMALL L
+    "\uD835\uDD2A", "m", // MATHEMATICAL FRAKTUR SMALL M
+    "\uD835\uDD2B", "n", // MATHEMATICAL FRAKTUR SMALL N
+    "\uD835\uDD2C", "o", // MATHEMATICAL FRAKTUR SMALL O
+    "\uD835\uDD2D", "p", // MATHEMATICAL FRAKTUR SMALL P
+    "\uD835\uDD2E", "q", // MATHEMATICAL FRAKTUR SMALL Q
+    "\uD835\uDD2F", "r", // MATHEMATICAL FRAKTUR SMALL R
+    "\uD835\uDD30", "s", // MATHEMATICAL FRAKTUR SMALL S
+    "\uD835\uDD31", "t", // MATHEMATICAL FRAKTUR SMALL T
+    "\uD835\uDD32", "u", // MATHEMATICAL FRAKTUR SMALL U
+    "\uD835\uDD33", "v", // MATHEMATICAL FRAKTUR SMALL V
+    "\uD835\uDD34", "w", // MATHEMATICAL FRAKTUR SMALL W
+    "\uD835\uDD35", "x", // MATHEMATICAL FRAKTUR SMALL X
+    "\uD835\uDD36", "y", // MATHEMATICAL FRAKTUR SMALL Y
+    "\uD835\uDD37", "z", // MATHEMATICAL FRAKTUR SMALL Z
+    "\uD835\uDD38", "a", // MATHEMATICAL DOUBLE-STRUCK CAPITAL A
+    "\uD835\uDD39", "b", // MATHEMATICAL DOUBLE-STRUCK CAPITAL B
+    "\uD835\uDD3B", "d", // MATHEMATICAL DOUBLE-STRUCK CAPITAL D
+    "\uD835\uDD3C", "e", // MATHEMATICAL DOUBLE-STRUCK CAPITAL E
+    "\uD835\uDD3D", "f", // MATHEMATICAL DOUBLE-STRUCK CAPITAL F
+    "\uD835\uDD3E", "g", // MATHEMATICAL DOUBLE-STRUCK CAPITAL G
+    "\uD835\uDD40", "i", // MATHEMATICAL DOUBLE-STRUCK CAPITAL I
+    "\uD835\uDD41", "j", // MATHEMATICAL DOUBLE-STRUCK CAPITAL J
+    "\uD835\uDD42", "k", // MATHEMATICAL DOUBLE-STRUCK CAPITAL K
+    "\uD835\uDD43", "l", // MATHEMATICAL DOUBLE-STRUCK CAPITAL L
+    "\uD835\uDD44", "m", // MATHEMATICAL DOUBLE-STRUCK CAPITAL M
+    "\uD835\uDD46", "o", // MATHEMATICAL DOUBLE-STRUCK CAPITAL O
+    "\uD835\uDD4A", "s", // MATHEMATICAL DOUBLE-STRUCK CAPITAL S
+    "\uD835\uDD4B", "t", // MATHEMATICAL DOUBLE-STRUCK CAPITAL T
+    "\uD835\uDD4C", "u", // MATHEMATICAL DOUBLE-STRUCK CAPITAL U
+    "\uD835\uDD4D", "v", // MATHEMATICAL DOUBLE-STRUCK CAPITAL V
+    "\uD835\uDD4E", "w", // MATHEMATICAL DOUBLE-STRUCK CAPITAL W
+    "\uD835\uDD4F", "x", // MATHEMATICAL DOUBLE-STRUCK CAPITAL X
+    "\uD835\uDD50", "y", // MATHEMATICAL DOUBLE-STRUCK CAPITAL Y
+    "\uD835\uDD52", "a", // MATHEMATICAL DOUBLE-STRUCK SMALL A
+    "\uD835\uDD53", "b", // MATHEMATICAL DOUBLE-STRUCK SMALL B
+    "\uD835\uDD54", "c", // MATHEMATICAL DOUBLE-STRUCK SMALL C
+    "\uD835\uDD55", "d", // MATHEMATICAL DOUBLE-STRUCK SMALL D
+    "\uD835\uDD56", "e", // MATHEMATICAL DOUBLE-STRUCK SMALL E
+    "\uD835\uDD57", "f", // MATHEMATICAL DOUBLE-STRUCK SMALL F
+    "\uD835\uDD58", "g", // MATHEMATICAL DOUBLE-STRUCK SMALL G
+    "\uD835\uDD59", "h", // MATHEMATICAL DOUBLE-STRUCK SMALL H
+    "\uD835\uDD5A", "i", // MATHEMATICAL DOUBLE-STRUCK SMALL I
+    "\uD835\uDD5B", "j", // MATHEMATICAL DOUBLE-STRUCK SMALL J
+    "\uD835\uDD5C", "k", // MATHEMATICAL DOUBLE-STRUCK SMALL K
+    "\uD835\uDD5D", "l", // MATHEMATICAL DOUBLE-STRUCK SMALL L
+    "\uD835\uDD5E", "m", // MATHEMATICAL DOUBLE-STRUCK SMALL M
+    "\uD835\uDD5F", "n", // MATHEMATICAL DOUBLE-STRUCK SMALL N
+    "\uD835\uDD60", "o", // MATHEMATICAL DOUBLE-STRUCK SMALL O
+    "\uD835\uDD61", "p", // MATHEMATICAL DOUBLE-STRUCK SMALL P
+    "\uD835\uDD62", "q", // MATHEMATICAL DOUBLE-STRUCK SMALL Q
+    "\uD835\uDD63", "r", // MATHEMATICAL DOUBLE-STRUCK SMALL R
+    "\uD835\uDD64", "s", // MATHEMATICAL DOUBLE-STRUCK SMALL S
+    "\uD835\uDD65", "t", // MATHEMATICAL DOUBLE-STRUCK SMALL T
+    "\uD835\uDD66", "u", // MATHEMATICAL DOUBLE-STRUCK SMALL U
+    "\uD835\uDD67", "v", // MATHEMATICAL DOUBLE-STRUCK SMALL V
+    "\uD835\uDD68", "w", // MATHEMATICAL DOUBLE-STRUCK SMALL W
+    "\uD835\uDD69", "x", // MATHEMATICAL DOUBLE-STRUCK SMALL X
+    "\uD835\uDD6A", "y", // MATHEMATICAL DOUBLE-STRUCK SMALL Y
+    "\uD835\uDD6B", "z", // MATHEMATICAL DOUBLE-STRUCK SMALL Z
+    "\uD835\uDD6C", "a", // MATHEMATICAL BOLD FRAKTUR CAPITAL A
+    "\uD835\uDD6D", "b", // MATHEMATICAL BOLD FRAKTUR CAPITAL B
+    "\uD835\uDD6E", "c", // MATHEMATICAL BOLD FRAKTUR CAPITAL C
+    "\uD835\uDD6F", "d", // MATHEMATICAL BOLD FRAKTUR CAPITAL D
+    "\uD835\uDD70", "e", // MATHEMATICAL BOLD FRAKTUR CAPITAL E
+    "\uD835\uDD71", "f", // MATHEMATICAL BOLD FRAKTUR CAPITAL F
+    "\uD835\uDD72", "g", // MATHEMATICAL BOLD FRAKTUR CAPITAL G
+    "\uD835\uDD73", "h", // MATHEMATICAL BOLD FRAKTUR CAPITAL H
+    "\uD835\uDD74", "i", // MATHEMATICAL BOLD FRAKTUR CAPITAL I
+    "\uD835\uDD75", "j", // MATHEMATICAL BOLD FRAKTUR CAPITAL J
+    "\uD835\uDD76", "k", // MATHEMATICAL BOLD FRAKTUR CAPITAL K
+    "\uD835\uDD77", "l", // MATHEMATICAL BOLD FRAKTUR CAPITAL L
+    "\uD835\uDD78", "m", // MATHEMATICAL BOLD FRAKTUR CAPITAL M
+    "\uD835\uDD79", "n", // MATHEMATICAL BOLD FRAKTUR CAPITAL N
+    "\uD835\uDD7A", "o", // MATHEMATICAL BOLD FRAKTUR CAPITAL O
+    "\uD835\uDD7B", "p", // MATHEMATICAL BOLD FRAKTUR CAPITAL P
+    "\uD835\uDD7C", "q", // MATHEMATICAL BOLD FRAKTUR CAPITAL Q
+    "\uD835\uDD7D", "r", // MATHEMATICAL BOLD FRAKTUR CAPITAL R
+    "\uD835\uDD7E", "s", // MATHEMATICAL BOLD FRAKTUR CAPITAL S
+    "\uD835\uDD7F", "t", // MATHEMATICAL BOLD FRAKTUR CAPITAL T
+    "\uD835\uDD80", "u", // MATHEMATICAL BOLD FRAKTUR CAPITAL U
+    "\uD835\uDD81", "v", // MATHEMATICAL BOLD FRAKTUR CAPITAL V
+    "\uD835\uDD82", "w", // MATHEMATICAL BOLD FRAKTUR CAPITAL W
+    "\uD835\uDD83", "x", // MATHEMATICAL BOLD FRAKTUR CAPITAL X
+    "\uD835\uDD84", "y", // MATHEMATICAL BOLD FRAKTUR CAPITAL Y
+    "\uD835\uDD85", "z", // MATHEMATICAL BOLD FRAKTUR CAPITAL Z
+    "\uD835\uDD86", "a", // MATHEMATICAL BOLD FRAKTUR SMALL A
+    "\uD835\uDD87", "b", // MATHEMATICAL BOLD FRAKTUR SMALL B
+    "\uD835\uDD88", "c", // MATHEMATICAL BOLD FRAKTUR SMALL C
+    "\uD835\uDD89", "d", // MATHEMATICAL BOLD FRAKTUR SMALL D
+    "\uD835\uDD8A", "e", // MATHEMATICAL BOLD FRAKTUR SMALL E
+    "\uD835\uDD8B", "f", // MATHEMATICAL BOLD FRAKTUR SMALL F
+    "\uD835\uDD8C", "g", // MATHEMATICAL BOLD FRAKTUR SMALL G
+    "\uD835\uDD8D", "h", // MATHEMATICAL BOLD FRAKTUR SMALL H
+    "\uD835\uDD8E", "i", // MATHEMATICAL BOLD FRAKTUR SMALL I
+    "\uD835\uDD8F", "j", // MATHEMATICAL BOLD FRAKTUR SMALL J
+    "\uD835\uDD90", "k", // MATHEMATICAL BOLD FRAKTUR SMALL K
+    "\uD835\uDD91", "l", // MATHEMATICAL BOLD FRAKTUR SMALL L
+    "\uD835\uDD92", "m", // MATHEMATICAL BOLD FRAKTUR SMALL M
+    "\uD835\uDD93", "n", // MATHEMATICAL BOLD FRAKTUR SMALL N
+    "\uD835\uDD94", "o", // MATHEMATICAL BOLD FRAKTUR SMALL O
+    "\uD835\uDD95", "p", // MATHEMATICAL BOLD FRAKTUR SMALL P
+    "\uD835\uDD96", "q", // MATHEMATICAL BOLD FRAKTUR SMALL Q
+    "\uD835\uDD97", "r", // MATHEMATICAL BOLD FRAKTUR SMALL R
+    "\uD835\uDD98", "s", // MATHEMATICAL BOLD FRAKTUR SMALL S
+    "\uD835\uDD99", "t", // MATHEMATICAL BOLD FRAKTUR SMALL T
+    "\uD835\uDD9A", "u", // MATHEMATICAL BOLD FRAKTUR SMALL U
+    "\uD835\uDD9B", "v", // MATHEMATICAL BOLD FRAKTUR SMALL V
+    "\uD835\uDD9C", "w", // MATHEMATICAL BOLD FRAKTUR SMALL W
+    "\uD835\uDD9D", "x", // MATHEMATICAL BOLD FRAKTUR SMALL X
+    "\uD835\uDD9E", "y", // MATHEMATICAL BOLD FRAKTUR SMALL Y
+    "\uD835\uDD9F", "z", // MATHEMATICAL BOLD FRAKTUR SMALL Z
+    "\uD835\uDDA0", "a", // MATHEMATICAL SANS-SERIF CAPITAL A
+    "\uD835\uDDA1", "b", // MATHEMATICAL SANS-SERIF CAPITAL B
+    "\uD835\uDDA2", "c", // MATHEMATICAL SANS-SERIF CAPITAL C
+    "\uD835\uDDA3", "d", // MATHEMATICAL SANS-SERIF CAPITAL D
+    "\uD835\uDDA4", "e", // MATHEMATICAL SANS-SERIF CAPITAL E
+    "\uD835\uDDA5", "f", // MATHEMATICAL SANS-SERIF CAPITAL F
+    "\uD835\uDDA6", "g", // MATHEMATICAL SANS-SERIF CAPITAL G
+    "\uD835\uDDA7", "h", // MATHEMATICAL SANS-SERIF CAPITAL H
+    "\uD835\uDDA8", "i", // MATHEMATICAL SANS-SERIF CAPITAL I
+    "\uD835\uDDA9", "j", // MATHEMATICAL SANS-SERIF CAPITAL J
+    "\uD835\uDDAA", "k", // MATHEMATICAL SANS-SERIF CAPITAL K
+    "\uD835\uDDAB", "l", // MATHEMATICAL SANS-SERIF CAPITAL L
+    "\uD835\uDDAC", "m", // MATHEMATICAL SANS-SERIF CAPITAL M
+    "\uD835\uDDAD", "n", // MATHEMATICAL SANS-SERIF CAPITAL N
+    "\uD835\uDDAE", "o", // MATHEMATICAL SANS-SERIF CAPITAL O
+    "\uD835\uDDAF", "p", // MATHEMATICAL SANS-SERIF CAPITAL P
+    "\uD835\uDDB0", "q", // MATHEMATICAL SANS-SERIF CAPITAL Q
+    "\uD835\uDDB1", "r", // MATHEMATICAL SANS-SERIF CAPITAL R
+    "\uD835\uDDB2", "s", // MATHEMATICAL SANS-SERIF CAPITAL S
+    "\uD835\uDDB3", "t", // MATHEMATICAL SANS-SERIF CAPITAL T
+    "\uD835\uDDB4", "u", // MATHEMATICAL SANS-SERIF CAPITAL U
+    "\uD835\uDDB5", "v", // MATHEMATICAL SANS-SERIF CAPITAL V
+    "\uD835\uDDB6", "w", // MATHEMATICAL SANS-SERIF CAPITAL W
+    "\uD835\uDDB7", "x", // MATHEMATICAL SANS-SERIF CAPITAL X
+    "\uD835\uDDB8", "y", // MATHEMATICAL SANS-SERIF CAPITAL Y
+    "\uD835\uDDB9", "z", // MATHEMATICAL SANS-SERIF CAPITAL Z
+    "\uD835\uDDBA", "a", // MATHEMATICAL SANS-SERIF SMALL A
+    "\uD835\uDDBB", "b", // MATHEMATICAL SANS-SERIF SMALL B
+    "\uD835\uDDBC", "c", // MATHEMATICAL SANS-SERIF SMALL C
+    "\uD835\uDDBD", "d", // MATHEMATICAL SANS-SERIF SMALL D
+    "\uD835\uDDBE", "e", // MATHEMATICAL SANS-SERIF SMALL E
+    "\uD835\uDDBF", "f", // MATHEMATICAL SANS-SERIF SMALL F
+    "\uD835\uDDC0", "g", // MATHEMATICAL SANS-SERIF SMALL G
+    "\uD835\uDDC1", "h", // MATHEMATICAL SANS-SERIF SMALL H
+    "\uD835\uDDC2", "i", // MATHEMATICAL SANS-SERIF SMALL I
+    "\uD835\uDDC3", "j", // MATHEMATICAL SANS-SERIF SMALL J
+    "\uD835\uDDC4", "k", // MATHEMATICAL SANS-SERIF SMALL K
+    "\uD835\uDDC5", "l", // MATHEMATICAL SANS-SERIF SMALL L
+    "\uD835\uDDC6", "m", // MATHEMATICAL SANS-SERIF SMALL M
+    "\uD835\uDDC7", "n", // MATHEMATICAL SANS-SERIF SMALL N
+    "\uD835\uDDC8", "o", // MATHEMATICAL SANS-SERIF SMALL O
+    "\uD835\uDDC9", "p", // MATHEMATICAL SANS-SERIF SMALL P
+    "\uD835\uDDCA", "q", // MATHEMATICAL SANS-SERIF SMALL Q
+    "\uD835\uDDCB", "r", // MATHEMATICAL SANS-SERIF SMALL R
+    "\uD835\uDDCC", "s", // MATHEMATICAL SANS-SERIF SMALL S
+    "\uD835\uDDCD", "t", // MATHEMATICAL SANS-SERIF SMALL T
+    "\uD835\uDDCE", "u", // MATHEMATICAL SANS-SERIF SMALL U
+    "\uD835\uDDCF", "v", // MATHEMATICAL SANS-SERIF SMALL V
+    "\uD835\uDDD0", "w", // MATHEMATICAL SANS-SERIF SMALL W
+    "\uD835\uDDD1", "x", // MATHEMATICAL SANS-SERIF SMALL X
+    "\uD835\uDDD2", "y", // MATHEMATICAL SANS-SERIF SMALL Y
+    "\uD835\uDDD3", "z", // MATHEMATICAL SANS-SERIF SMALL Z
+    "\uD835\uDDD4", "a", // MATHEMATICAL SANS-SERIF BOLD CAPITAL A
+    "\uD835\uDDD5", "b", // MATHEMATICAL SANS-SERIF BOLD CAPITAL B
+    "\uD835\uDDD6", "c", // MATHEMATICAL SANS-SERIF BOLD CAPITAL C
+    "\uD835\uDDD7", "d", // MATHEMATICAL SANS-SERIF BOLD CAPITAL D
+    "\uD835\uDDD8", "e", // MATHEMATICAL SANS-SERIF BOLD CAPITAL E
+    "\uD835\uDDD9", "f", // MATHEMATICAL SANS-SERIF BOLD CAPITAL F
+    "\uD835\uDDDA", "g", // MATHEMATICAL SANS-SERIF BOLD CAPITAL G
+    "\uD835\uDDDB", "h", // MATHEMATICAL SANS-SERIF BOLD CAPITAL H
+    "\uD835\uDDDC", "i", // MATHEMATICAL SANS-SERIF BOLD CAPITAL I
+    "\uD835\uDDDD", "j", // MATHEMATICAL SANS-SERIF BOLD CAPITAL J
+    "\uD835\uDDDE", "k", // MATHEMATICAL SANS-SERIF BOLD CAPITAL K
+    "\uD835\uDDDF", "l", // MATHEMATICAL SANS-SERIF BOLD CAPITAL L
+    "\uD835\uDDE0", "m", // MATHEMATICAL SANS-SERIF BOLD CAPITAL M
+    "\uD835\uDDE1", "n", // MATHEMATICAL SANS-SERIF BOLD CAPITAL N
+    "\uD835\uDDE2", "o", // MATHEMATICAL SANS-SERIF BOLD CAPITAL O
+    "\uD835\uDDE3", "p", // MATHEMATICAL SANS-SERIF BOLD CAPITAL P
+    "\uD835\uDDE4", "q", // MATHEMATICAL SANS-SERIF BOLD CAPITAL Q
+    "\uD835\uDDE5", "r", // MATHEMATICAL SANS-SERIF BOLD CAPITAL R
+    "\uD835\uDDE6", "s", // MATHEMATICAL SANS-SERIF BOLD CAPITAL S
+    "\uD835\uDDE7", "t", // MATHEMATICAL SANS-SERIF BOLD CAPITAL T
+    "\uD835\uDDE8", "u", // MATHEMATICAL SANS-SERIF BOLD CAPITAL U
+    "\uD835\uDDE9", "v", // MATHEMATICAL SANS-SERIF BOLD CAPITAL V
+    "\uD835\uDDEA", "w", // MATHEMATICAL SANS-SERIF BOLD CAPITAL W
+    "\uD835\uDDEB", "x", // MATHEMATICAL SANS-SERIF BOLD CAPITAL X
+    "\uD835\uDDEC", "y", // MATHEMATICAL SANS-SERIF BOLD CAPITAL Y
+    "\uD835\uDDED", "z", // MATHEMATICAL SANS-SERIF BOLD CAPITAL Z
+    "\uD835\uDDEE", "a", // MATHEMATICAL SANS-SERIF BOLD SMALL A
+    "\uD835\uDDEF", "b", // MATHEMATICAL SANS-SERIF BOLD SMALL B
+    "\uD835\uDDF0", "c", // MATHEMATICAL SANS-SERIF BOLD SMALL C
+    "\uD835\uDDF1", "d", // MATHEMATICAL SANS-SERIF BOLD SMALL D
+    "\uD835\uDDF2", "e", // MATHEMATICAL SANS-SERIF BOLD SMALL E
+    "\uD835\uDDF3", "f", // MATHEMATICAL SANS-SERIF BOLD SMALL F
+    "\uD835\uDDF4", "g", // MATHEMATICAL SANS-SERIF BOLD SMALL G
+    "\uD835\uDDF5", "h", // MATHEMATICAL SANS-SERIF BOLD SMALL H
+    "\uD835\uDDF6", "i", // MATHEMATICAL SANS-SERIF BOLD SMALL I
+    "\uD835\uDDF7", "j", // MATHEMATICAL SANS-SERIF BOLD SMALL J
+    "\uD835\uDDF8", "k", // MATHEMATICAL SANS-SERIF BOLD SMALL K
+    "\uD835\uDDF9", "l", // MATHEMATICAL SANS-SERIF BOLD SMALL L
+    "\uD835\uDDFA", "m", // MATHEMATICAL SANS-SERIF BOLD SMALL M
+    "\uD835\uDDFB", "n", // MATHEMATICAL SANS-SERIF BOLD SMALL N
+    "\uD835\uDDFC", "o", // MATHEMATICAL SANS-SERIF BOLD SMALL O
+    "\uD835\uDDFD", "p", // MATHEMATICAL SANS-SERIF BOLD SMALL P
+    "\uD835\uDDFE", "q", // MATHEMATICAL SANS-SERIF BOLD SMALL Q
+    "\uD835\uDDFF", "r", // MATHEMATICAL SANS-SERIF BOLD SMALL R
+    "\uD835\uDE00", "s", // MATHEMATICAL SANS-SERIF BOLD SMALL S
+    "\uD835\uDE01", "t", // MATHEMATICAL SANS-SERIF BOLD SMALL T
+    "\uD835\uDE02", "u", // MATHEMATICAL SANS-SERIF BOLD SMALL U
+    "\uD835\uDE03", "v", // MATHEMATICAL SANS-SERIF BOLD SMALL V
+    "\uD835\uDE04", "w", // MATHEMATICAL SANS-SERIF BOLD SMALL W
+    "\uD835\uDE05", "x", // MATHEMATICAL SANS-SERIF BOLD SMALL X
+    "\uD835\uDE06", "y", // MATHEMATICAL SANS-SERIF BOLD SMALL Y
+    "\uD835\uDE07", "z", // MATHEMATICAL SANS-SERIF BOLD SMALL Z
+    "\uD835\uDE08", "a", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL A
+    "\uD835\uDE09", "b", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL B
+    "\uD835\uDE0A", "c", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL C
+    "\uD835\uDE0B", "d", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL D
+    "\uD835\uDE0C", "e", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL E
+    "\uD835\uDE0D", "f", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL F
+    "\uD835\uDE0E", "g", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL G
+    "\uD835\uDE0F", "h", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL H
+    "\uD835\uDE10", "i", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL I
+    "\uD835\uDE11", "j", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL J
+    "\uD835\uDE12", "k", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL K
+    "\uD835\uDE13", "l", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL L
+    "\uD835\uDE14", "m", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL M
+    "\uD835\uDE15", "n", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL N
+    "\uD835\uDE16", "o", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL O
+    "\uD835\uDE17", "p", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL P
+    "\uD835\uDE18", "q", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL Q
+    "\uD835\uDE19", "r", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL R
+    "\uD835\uDE1A", "s", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL S
+    "\uD835\uDE1B", "t", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL T
+    "\uD835\uDE1C", "u", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL U
+    "\uD835\uDE1D", "v", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL V
+    "\uD835\uDE1E", "w", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL W
+    "\uD835\uDE1F", "x", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL X
+    "\uD835\uDE20", "y", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL Y
+    "\uD835\uDE21", "z", // MATHEMATICAL SANS-SERIF ITALIC CAPITAL Z
+    "\uD835\uDE22", "a", // MATHEMATICAL SANS-SERIF ITALIC SMALL A
+    "\uD835\uDE23", "b", // MATHEMATICAL SANS-SERIF ITALIC SMALL B
+    "\uD835\uDE24", "c", // MATHEMATICAL SANS-SERIF ITALIC SMALL C
+    "\uD835\uDE25", "d", // MATHEMATICAL SANS-SERIF ITALIC SMALL D
+    "\uD835\uDE26", "e", // MATHEMATICAL SANS-SERIF ITALIC SMALL E
+    "\uD835\uDE27", "f", // MATHEMATICAL SANS-SERIF ITALIC SMALL F
+    "\uD835\uDE28", "g", // MATHEMATICAL SANS-SERIF ITALIC SMALL G
+    "\uD835\uDE29", "h", // MATHEMATICAL SANS-SERIF ITALIC SMALL H
+    "\uD835\uDE2A", "i", // MATHEMATICAL SANS-SERIF ITALIC SMALL I
+    "\uD835\uDE2B", "j", // MATHEMATICAL SANS-SERIF ITALIC SMALL J
+    "\uD835\uDE2C", "k", // MATHEMATICAL SANS-SERIF ITALIC SMALL K
+    "\uD835\uDE2D", "l", // MATHEMATICAL SANS-SERIF ITALIC SMALL L
+    "\uD835\uDE2E", "m", // MATHEMATICAL SANS-SERIF ITALIC SMALL M
+    "\uD835\uDE2F", "n", // MATHEMATICAL SANS-SERIF ITALIC SMALL N
+    "\uD835\uDE30", "o", // MATHEMATICAL SANS-SERIF ITALIC SMALL O
+    "\uD835\uDE31", "p", // MATHEMATICAL SANS-SERIF ITALIC SMALL P
+    "\uD835\uDE32", "q", // MATHEMATICAL SANS-SERIF ITALIC SMALL Q
+    "\uD835\uDE33", "r", // MATHEMATICAL SANS-SERIF ITALIC SMALL R
+    "\uD835\uDE34", "s", // MATHEMATICAL SANS-SERIF ITALIC SMALL S
+    "\uD835\uDE35", "t", // MATHEMATICAL SANS-SERIF ITALIC SMALL T
+    "\uD835\uDE36", "u", // MATHEMATICAL SANS-SERIF ITALIC SMALL U
+    "\uD835\uDE37", "v", // MATHEMATICAL SANS-SERIF ITALIC SMALL V
+    "\uD835\uDE38", "w", // MATHEMATICAL SANS-SERIF ITALIC SMALL W
+    "\uD835\uDE39", "x", // MATHEMATICAL SANS-SERIF ITALIC SMALL X
+    "\uD835\uDE3A", "y", // MATHEMATICAL SANS-SERIF ITALIC SMALL Y
+    "\uD835\uDE3B", "z", // MATHEMATICAL SANS-SERIF ITALIC SMALL Z
+    "\uD835\uDE3C", "a", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL A
+    "\uD835\uDE3D", "b", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL B
+    "\uD835\uDE3E", "c", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL C
+    "\uD835\uDE3F", "d", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL D
+    "\uD835\uDE40", "e", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL E
+    "\uD835\uDE41", "f", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL F
+    "\uD835\uDE42", "g", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL G
+    "\uD835\uDE43", "h", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL H
+    "\uD835\uDE44", "i", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL I
+    "\uD835\uDE45", "j", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL J
+    "\uD835\uDE46", "k", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL K
+    "\uD835\uDE47", "l", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL L
+    "\uD835\uDE48", "m", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL M
+    "\uD835\uDE49", "n", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL N
+    "\uD835\uDE4A", "o", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL O
+    "\uD835\uDE4B", "p", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL P
+    "\uD835\uDE4C", "q", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL Q
+    "\uD835\uDE4D", "r", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL R
+    "\uD835\uDE4E", "s", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL S
+    "\uD835\uDE4F", "t", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL T
+    "\uD835\uDE50", "u", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL U
+    "\uD835\uDE51", "v", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL V
+    "\uD835\uDE52", "w", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL W
+    "\uD835\uDE53", "x", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL X
+    "\uD835\uDE54", "y", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL Y
+    "\uD835\uDE55", "z", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL Z
+    "\uD835\uDE56", "a", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL A
+    "\uD835\uDE57", "b", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL B
+    "\uD835\uDE58", "c", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL C
+    "\uD835\uDE59", "d", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL D
+    "\uD835\uDE5A", "e", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL E
+    "\uD835\uDE5B", "f", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL F
+    "\uD835\uDE5C", "g", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL G
+    "\uD835\uDE5D", "h", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL H
+    "\uD835\uDE5E", "i", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL I
+    "\uD835\uDE5F", "j", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL J
+    "\uD835\uDE60", "k", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL K
+    "\uD835\uDE61", "l", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL L
+    "\uD835\uDE62", "m", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL M
+    "\uD835\uDE63", "n", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL N
+    "\uD835\uDE64", "o", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL O
+    "\uD835\uDE65", "p", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL P
+    "\uD835\uDE66", "q", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL Q
+    "\uD835\uDE67", "r", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL R
+    "\uD835\uDE68", "s", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL S
+    "\uD835\uDE69", "t", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL T
+    "\uD835\uDE6A", "u", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL U
+    "\uD835\uDE6B", "v", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL V
+    "\uD835\uDE6C", "w", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL W
+    "\uD835\uDE6D", "x", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL X
+    "\uD835\uDE6E", "y", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL Y
+    "\uD835\uDE6F", "z", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL Z
+    "\uD835\uDE70", "a", // MATHEMATICAL MONOSPACE CAPITAL A
+    "\uD835\uDE71", "b", // MATHEMATICAL MONOSPACE CAPITAL B
+    "\uD835\uDE72", "c", // MATHEMATICAL MONOSPACE CAPITAL C
+    "\uD835\uDE73", "d", // MATHEMATICAL MONOSPACE CAPITAL D
+    "\uD835\uDE74", "e", // MATHEMATICAL MONOSPACE CAPITAL E
+    "\uD835\uDE75", "f", // MATHEMATICAL MONOSPACE CAPITAL F
+    "\uD835\uDE76", "g", // MATHEMATICAL MONOSPACE CAPITAL G
+    "\uD835\uDE77", "h", // MATHEMATICAL MONOSPACE CAPITAL H
+    "\uD835\uDE78", "i", // MATHEMATICAL MONOSPACE CAPITAL I
+    "\uD835\uDE79", "j", // MATHEMATICAL MONOSPACE CAPITAL J
+    "\uD835\uDE7A", "k", // MATHEMATICAL MONOSPACE CAPITAL K
+    "\uD835\uDE7B", "l", // MATHEMATICAL MONOSPACE CAPITAL L
+    "\uD835\uDE7C", "m", // MATHEMATICAL MONOSPACE CAPITAL M
+    "\uD835\uDE7D", "n", // MATHEMATICAL MONOSPACE CAPITAL N
+    "\uD835\uDE7E", "o", // MATHEMATICAL MONOSPACE CAPITAL O
+    "\uD835\uDE7F", "p", // MATHEMATICAL MONOSPACE CAPITAL P
+    "\uD835\uDE80", "q", // MATHEMATICAL MONOSPACE CAPITAL Q
+    "\uD835\uDE81", "r", // MATHEMATICAL MONOSPACE CAPITAL R
+    "\uD835\uDE82", "s", // MATHEMATICAL MONOSPACE CAPITAL S
+    "\uD835\uDE83", "t", // MATHEMATICAL MONOSPACE CAPITAL T
+    "\uD835\uDE84", "u", // MATHEMATICAL MONOSPACE CAPITAL U
+    "\uD835\uDE85", "v", // MATHEMATICAL MONOSPACE CAPITAL V
+    "\uD835\uDE86", "w", // MATHEMATICAL MONOSPACE CAPITAL W
+    "\uD835\uDE87", "x", // MATHEMATICAL MONOSPACE CAPITAL X
+    "\uD835\uDE88", "y", // MATHEMATICAL MONOSPACE CAPITAL Y
+    "\uD835\uDE89", "z", // MATHEMATICAL MONOSPACE CAPITAL Z
+    "\uD835\uDE8A", "a", // MATHEMATICAL MONOSPACE SMALL A
+    "\uD835\uDE8B", "b", // MATHEMATICAL MONOSPACE SMALL B
+    "\uD835\uDE8C", "c", // MATHEMATICAL MONOSPACE SMALL C
+    "\uD835\uDE8D", "d", // MATHEMATICAL MONOSPACE SMALL D
+    "\uD835\uDE8E", "e", // MATHEMATICAL MONOSPACE SMALL E
+    "\uD835\uDE8F", "f", // MATHEMATICAL MONOSPACE SMALL F
+    "\uD835\uDE90", "g", // MATHEMATICAL MONOSPACE SMALL G
+    "\uD835\uDE91", "h", // MATHEMATICAL MONOSPACE SMALL H
+    "\uD835\uDE92", "i", // MATHEMATICAL MONOSPACE SMALL I
+    "\uD835\uDE93", "j", // MATHEMATICAL MONOSPACE SMALL J
+    "\uD835\uDE94", "k", // MATHEMATICAL MONOSPACE SMALL K
+    "\uD835\uDE95", "l", // MATHEMATICAL MONOSPACE SMALL L
+    "\uD835\uDE96", "m", // MATHEMATICAL MONOSPACE SMALL M
+    "\uD835\uDE97", "n", // MATHEMATICAL MONOSPACE SMALL N
+    "\uD835\uDE98", "o", // MATHEMATICAL MONOSPACE SMALL O
+    "\uD835\uDE99", "p", // MATHEMATICAL MONOSPACE SMALL P
+    "\uD835\uDE9A", "q", // MATHEMATICAL MONOSPACE SMALL Q
+    "\uD835\uDE9B", "r", // MATHEMATICAL MONOSPACE SMALL R
+    "\uD835\uDE9C", "s", // MATHEMATICAL MONOSPACE SMALL S
+    "\uD835\uDE9D", "t", // MATHEMATICAL MONOSPACE SMALL T
+    "\uD835\uDE9E", "u", // MATHEMATICAL MONOSPACE SMALL U
+    "\uD835\uDE9F", "v", // MATHEMATICAL MONOSPACE SMALL V
+    "\uD835\uDEA0", "w", // MATHEMATICAL MONOSPACE SMALL W
+    "\uD835\uDEA1", "x", // MATHEMATICAL MONOSPACE SMALL X
+    "\uD835\uDEA2", "y", // MATHEMATICAL MONOSPACE SMALL Y
+    "\uD835\uDEA3", "z", // MATHEMATICAL MONOSPACE SMALL Z
+    "\uD835\uDEA4", "\u0131", // MATHEMATICAL ITALIC SMALL DOTLESS I
+    "\uD835\uDEA5", "j", // MATHEMATICAL ITALIC SMALL DOTLESS J
+    "\uD835\uDEA8", "\u03B1", // MATHEMATICAL BOLD CAPITAL ALPHA
+    "\uD835\uDEA9", "\u03B2", // MATHEMATICAL BOLD CAPITAL BETA
+    "\uD835\uDEAA", "\u03B3", // MATHEMATICAL BOLD CAPITAL GAMMA
+    "\uD835\uDEAB", "\u03B4", // MATHEMATICAL BOLD CAPITAL DELTA
+    "\uD835\uDEAC", "\u03B5", // MATHEMATICAL BOLD CAPITAL EPSILON
+    "\uD835\uDEAD", "\u03B6", // MATHEMATICAL BOLD CAPITAL ZETA
+    "\uD835\uDEAE", "\u03B7", // MATHEMATICAL BOLD CAPITAL ETA
+    "\uD835\uDEAF", "\u03B8", // MATHEMATICAL BOLD CAPITAL THETA
+    "\uD835\uDEB0", "\u03B9", // MATHEMATICAL BOLD CAPITAL IOTA
+    "\uD835\uDEB1", "\u03BA", // MATHEMATICAL BOLD CAPITAL KAPPA
+    "\uD835\uDEB2", "\u03BB", // MATHEMATICAL BOLD CAPITAL LAMDA
+    "\uD835\uDEB3", "\u03BC", // MATHEMATICAL BOLD CAPITAL MU
+    "\uD835\uDEB4", "\u03BD", // MATHEMATICAL BOLD CAPITAL NU
+    "\uD835\uDEB5", "\u03BE", // MATHEMATICAL BOLD CAPITAL XI
+    "\uD835\uDEB6", "\u03BF", // MATHEMATICAL BOLD CAPITAL OMICRON
+    "\uD835\uDEB7", "\u03C0", // MATHEMATICAL BOLD CAPITAL PI
+    "\uD835\uDEB8", "\u03C1", // MATHEMATICAL BOLD CAPITAL RHO
+    "\uD835\uDEB9", "\u03B8", // MATHEMATICAL BOLD CAPITAL THETA SYMBOL
+    "\uD835\uDEBA", "\u03C3", // MATHEMATICAL BOLD CAPITAL SIGMA
+    "\uD835\uDEBB", "\u03C4", // MATHEMATICAL BOLD CAPITAL TAU
+    "\uD835\uDEBC", "\u03C5", // MATHEMATICAL BOLD CAPITAL UPSILON
+    "\uD835\uDEBD", "\u03C6", // MATHEMATICAL BOLD CAPITAL PHI
+    "\uD835\uDEBE", "\u03C7", // MATHEMATICAL BOLD CAPITAL CHI
+    "\uD835\uDEBF", "\u03C8", // MATHEMATICAL BOLD CAPITAL PSI
+    "\uD835\uDEC0", "\u03C9", // MATHEMATICAL BOLD CAPITAL OMEGA
+    "\uD835\uDEC1", "\u2207", // MATHEMATICAL BOLD NABLA
+    "\uD835\uDEC2", "\u03B1", // MATHEMATICAL BOLD SMALL ALPHA
+    "\uD835\uDEC3", "\u03B2", // MATHEMATICAL BOLD SMALL BETA
+    "\uD835\uDEC4", "\u03B3", // MATHEMATICAL BOLD SMALL GAMMA
+    "\uD835\uDEC5", "\u03B4", // MATHEMATICAL BOLD SMALL DELTA
+    "\uD835\uDEC6", "\u03B5", // MATHEMATICAL BOLD SMALL EPSILON
+    "\uD835\uDEC7", "\u03B6", // MATHEMATICAL BOLD SMALL ZETA
+    "\uD835\uDEC8", "\u03B7", // MATHEMATICAL BOLD SMALL ETA
+    "\uD835\uDEC9", "\u03B8", // MATHEMATICAL BOLD SMALL THETA
+    "\uD835\uDECA", "\u03B9", // MATHEMATICAL BOLD SMALL IOTA
+    "\uD835\uDECB", "\u03BA", // MATHEMATICAL BOLD SMALL KAPPA
+    "\uD835\uDECC", "\u03BB", // MATHEMATICAL BOLD SMALL LAMDA
+    "\uD835\uDECD", "\u03BC", // MATHEMATICAL BOLD SMALL MU
+    "\uD835\uDECE", "\u03BD", // MATHEMATICAL BOLD SMALL NU
+    "\uD835\uDECF", "\u03BE", // MATHEMATICAL BOLD SMALL XI
+    "\uD835\uDED0", "\u03BF", // MATHEMATICAL BOLD SMALL OMICRON
+    "\uD835\uDED1", "\u03C0", // MATHEMATICAL BOLD SMALL PI
+    "\uD835\uDED2", "\u03C1", // MATHEMATICAL BOLD SMALL RHO
+    "\uD835\uDED3", "\u03C2", // MATHEMATICAL BOLD SMALL FINAL SIGMA
+    "\uD835\uDED4", "\u03C3", // MATHEMATICAL BOLD SMALL SIGMA
+    "\uD835\uDED5", "\u03C4", // MATHEMATICAL BOLD SMALL TAU
+    "\uD835\uDED6", "\u03C5", // MATHEMATICAL BOLD SMALL UPSILON
+    "\uD835\uDED7", "\u03C6", // MATHEMATICAL BOLD SMALL PHI
+    "\uD835\uDED8", "\u03C7", // MATHEMATICAL BOLD SMALL CHI
+    "\uD835\uDED9", "\u03C8", // MATHEMATICAL BOLD SMALL PSI
+    "\uD835\uDEDA", "\u03C9", // MATHEMATICAL BOLD SMALL OMEGA
+    "\uD835\uDEDB", "\u2202", // MATHEMATICAL BOLD PARTIAL DIFFERENTIAL
+    "\uD835\uDEDC", "\u03B5", // MATHEMATICAL BOLD EPSILON SYMBOL
+    "\uD835\uDEDD", "\u03B8", // MATHEMATICAL BOLD THETA SYMBOL
+    "\uD835\uDEDE", "\u03BA", // MATHEMATICAL BOLD KAPPA SYMBOL
+    "\uD835\uDEDF", "\u03C6", // MATHEMATICAL BOLD PHI SYMBOL
+    "\uD835\uDEE0", "\u03C1", // MATHEMATICAL BOLD RHO SYMBOL
+    "\uD835\uDEE1", "\u03C0", // MATHEMATICAL BOLD PI SYMBOL
+    "\uD835\uDEE2", "\u03B1", // MATHEMATICAL ITALIC CAPITAL ALPHA
+    "\uD835\uDEE3", "\u03B2", // MATHEMATICAL ITALIC CAPITAL BETA
+    "\uD835\uDEE4", "\u03B3", // MATHEMATICAL ITALIC CAPITAL GAMMA
+    "\uD835\uDEE5", "\u03B4", // MATHEMATICAL ITALIC CAPITAL DELTA
+    "\uD835\uDEE6", "\u03B5", // MATHEMATICAL ITALIC CAPITAL EPSILON
+    "\uD835\uDEE7", "\u03B6", // MATHEMATICAL ITALIC CAPITAL ZETA
+    "\uD835\uDEE8", "\u03B7", // MATHEMATICAL ITALIC CAPITAL ETA
+    "\uD835\uDEE9", "\u03B8", // MATHEMATICAL ITALIC CAPITAL THETA
+    "\uD835\uDEEA", "\u03B9", // MATHEMATICAL ITALIC CAPITAL IOTA
+    "\uD835\uDEEB", "\u03BA", // MATHEMATICAL ITALIC CAPITAL KAPPA
+    "\uD835\uDEEC", "\u03BB", // MATHEMATICAL ITALIC CAPITAL LAMDA
+    "\uD835\uDEED", "\u03BC", // MATHEMATICAL ITALIC CAPITAL MU
+    "\uD835\uDEEE", "\u03BD", // MATHEMATICAL ITALIC CAPITAL NU
+    "\uD835\uDEEF", "\u03BE", // MATHEMATICAL ITALIC CAPITAL XI
+    "\uD835\uDEF0", "\u03BF", // MATHEMATICAL ITALIC CAPITAL OMICRON
+    "\uD835\uDEF1", "\u03C0", // MATHEMATICAL ITALIC CAPITAL PI
+    "\uD835\uDEF2", "\u03C1", // MATHEMATICAL ITALIC CAPITAL RHO
+    "\uD835\uDEF3", "\u03B8", // MATHEMATICAL ITALIC CAPITAL THETA SYMBOL
+    "\uD835\uDEF4", "\u03C3", // MATHEMATICAL ITALIC CAPITAL SIGMA
+    "\uD835\uDEF5", "\u03C4", // MATHEMATICAL ITALIC CAPITAL TAU
+    "\uD835\uDEF6", "\u03C5", // MATHEMATICAL ITALIC CAPITAL UPSILON
+    "\uD835\uDEF7", "\u03C6", // MATHEMATICAL ITALIC CAPITAL PHI
+    "\uD835\uDEF8", "\u03C7", // MATHEMATICAL ITALIC CAPITAL CHI
+    "\uD835\uDEF9", "\u03C8", // MATHEMATICAL ITALIC CAPITAL PSI
+    "\uD835\uDEFA", "\u03C9", // MATHEMATICAL ITALIC CAPITAL OMEGA
+    "\uD835\uDEFB", "\u2207", // MATHEMATICAL ITALIC NABLA
+    "\uD835\uDEFC", "\u03B1", // MATHEMATICAL ITALIC SMALL ALPHA
+    "\uD835\uDEFD", "\u03B2", // MATHEMATICAL ITALIC SMALL BETA
+    "\uD835\uDEFE", "\u03B3", // MATHEMATICAL ITALIC SMALL GAMMA
+    "\uD835\uDEFF", "\u03B4", // MATHEMATICAL ITALIC SMALL DELTA
+    "\uD835\uDF00", "\u03B5", // MATHEMATICAL ITALIC SMALL EPSILON
+    "\uD835\uDF01", "\u03B6", // MATHEMATICAL ITALIC SMALL ZETA
+    "\uD835\uDF02", "\u03B7", // MATHEMATICAL ITALIC SMALL ETA
+    "\uD835\uDF03", "\u03B8", // MATHEMATICAL ITALIC SMALL THETA
+    "\uD835\uDF04", "\u03B9", // MATHEMATICAL ITALIC SMALL IOTA
+    "\uD835\uDF05", "\u03BA", // MATHEMATICAL ITALIC SMALL KAPPA
+    "\uD835\uDF06", "\u03BB", // MATHEMATICAL ITALIC SMALL LAMDA
+    "\uD835\uDF07", "\u03BC", // MATHEMATICAL ITALIC SMALL MU
+    "\uD835\uDF08", "\u03BD", // MATHEMATICAL ITALIC SMALL NU
+    "\uD835\uDF09", "\u03BE", // MATHEMATICAL ITALIC SMALL XI
+    "\uD835\uDF0A", "\u03BF", // MATHEMATICAL ITALIC SMALL OMICRON
+    "\uD835\uDF0B", "\u03C0", // MATHEMATICAL ITALIC SMALL PI
+    "\uD835\uDF0C", "\u03C1", // MATHEMATICAL ITALIC SMALL RHO
+    "\uD835\uDF0D", "\u03C2", // MATHEMATICAL ITALIC SMALL FINAL SIGMA
+    "\uD835\uDF0E", "\u03C3", // MATHEMATICAL ITALIC SMALL SIGMA
+    "\uD835\uDF0F", "\u03C4", // MATHEMATICAL ITALIC SMALL TAU
+    "\uD835\uDF10", "\u03C5", // MATHEMATICAL ITALIC SMALL UPSILON
+    "\uD835\uDF11", "\u03C6", // MATHEMATICAL ITALIC SMALL PHI
+    "\uD835\uDF12", "\u03C7", // MATHEMATICAL ITALIC SMALL CHI
+    "\uD835\uDF13", "\u03C8", // MATHEMATICAL ITALIC SMALL PSI
+    "\uD835\uDF14", "\u03C9", // MATHEMATICAL ITALIC SMALL OMEGA
+    "\uD835\uDF15", "\u2202", // MATHEMATICAL ITALIC PARTIAL DIFFERENTIAL
+    "\uD835\uDF16", "\u03B5", // MATHEMATICAL ITALIC EPSILON SYMBOL
+    "\uD835\uDF17", "\u03B8", // MATHEMATICAL ITALIC THETA SYMBOL
+    "\uD835\uDF18", "\u03BA", // MATHEMATICAL ITALIC KAPPA SYMBOL
+    "\uD835\uDF19", "\u03C6", // MATHEMATICAL ITALIC PHI SYMBOL
+    "\uD835\uDF1A", "\u03C1", // MATHEMATICAL ITALIC RHO SYMBOL
+    "\uD835\uDF1B", "\u03C0", // MATHEMATICAL ITALIC PI SYMBOL
+    "\uD835\uDF1C", "\u03B1", // MATHEMATICAL BOLD ITALIC CAPITAL ALPHA
+    "\uD835\uDF1D", "\u03B2", // MATHEMATICAL BOLD ITALIC CAPITAL BETA
+    "\uD835\uDF1E", "\u03B3", // MATHEMATICAL BOLD ITALIC CAPITAL GAMMA
+    "\uD835\uDF1F", "\u03B4", // MATHEMATICAL BOLD ITALIC CAPITAL DELTA
+    "\uD835\uDF20", "\u03B5", // MATHEMATICAL BOLD ITALIC CAPITAL EPSILON
+    "\uD835\uDF21", "\u03B6", // MATHEMATICAL BOLD ITALIC CAPITAL ZETA
+    "\uD835\uDF22", "\u03B7", // MATHEMATICAL BOLD ITALIC CAPITAL ETA
+    "\uD835\uDF23", "\u03B8", // MATHEMATICAL BOLD ITALIC CAPITAL THETA
+    "\uD835\uDF24", "\u03B9", // MATHEMATICAL BOLD ITALIC CAPITAL IOTA
+    "\uD835\uDF25", "\u03BA", // MATHEMATICAL BOLD ITALIC CAPITAL KAPPA
+    "\uD835\uDF26", "\u03BB", // MATHEMATICAL BOLD ITALIC CAPITAL LAMDA
+    "\uD835\uDF27", "\u03BC", // MATHEMATICAL BOLD ITALIC CAPITAL MU
+    "\uD835\uDF28", "\u03BD", // MATHEMATICAL BOLD ITALIC CAPITAL NU
+    "\uD835\uDF29", "\u03BE", // MATHEMATICAL BOLD ITALIC CAPITAL XI
+    "\uD835\uDF2A", "\u03BF", // MATHEMATICAL BOLD ITALIC CAPITAL OMICRON
+    "\uD835\uDF2B", "\u03C0", // MATHEMATICAL BOLD ITALIC CAPITAL PI
+    "\uD835\uDF2C", "\u03C1", // MATHEMATICAL BOLD ITALIC CAPITAL RHO
+    "\uD835\uDF2D", "\u03B8", // MATHEMATICAL BOLD ITALIC CAPITAL THETA SYMBOL
+    "\uD835\uDF2E", "\u03C3", // MATHEMATICAL BOLD ITALIC CAPITAL SIGMA
+    "\uD835\uDF2F", "\u03C4", // MATHEMATICAL BOLD ITALIC CAPITAL TAU
+    "\uD835\uDF30", "\u03C5", // MATHEMATICAL BOLD ITALIC CAPITAL UPSILON
+    "\uD835\uDF31", "\u03C6", // MATHEMATICAL BOLD ITALIC CAPITAL PHI
+    "\uD835\uDF32", "\u03C7", // MATHEMATICAL BOLD ITALIC CAPITAL CHI
+    "\uD835\uDF33", "\u03C8", // MATHEMATICAL BOLD ITALIC CAPITAL PSI
+    "\uD835\uDF34", "\u03C9", // MATHEMATICAL BOLD ITALIC CAPITAL OMEGA
+    "\uD835\uDF35", "\u2207", // MATHEMATICAL BOLD ITALIC NABLA
+    "\uD835\uDF36", "\u03B1", // MATHEMATICAL BOLD ITALIC SMALL ALPHA
+    "\uD835\uDF37", "\u03B2", // MATHEMATICAL BOLD ITALIC SMALL BETA
+    "\uD835\uDF38", "\u03B3", // MATHEMATICAL BOLD ITALIC SMALL GAMMA
+    "\uD835\uDF39", "\u03B4", // MATHEMATICAL BOLD ITALIC SMALL DELTA
+    "\uD835\uDF3A", "\u03B5", // MATHEMATICAL BOLD ITALIC SMALL EPSILON
+    "\uD835\uDF3B", "\u03B6", // MATHEMATICAL BOLD ITALIC SMALL ZETA
+    "\uD835\uDF3C", "\u03B7", // MATHEMATICAL BOLD ITALIC SMALL ETA
+    "\uD835\uDF3D", "\u03B8", // MATHEMATICAL BOLD ITALIC SMALL THETA
+    "\uD835\uDF3E", "\u03B9", // MATHEMATICAL BOLD ITALIC SMALL IOTA
+    "\uD835\uDF3F", "\u03BA", // MATHEMATICAL BOLD ITALIC SMALL KAPPA
+    "\uD835\uDF40", "\u03BB", // MATHEMATICAL BOLD ITALIC SMALL LAMDA
+    "\uD835\uDF41", "\u03BC", // MATHEMATICAL BOLD ITALIC SMALL MU
+    "\uD835\uDF42", "\u03BD", // MATHEMATICAL BOLD ITALIC SMALL NU
+    "\uD835\uDF43", "\u03BE", // MATHEMATICAL BOLD ITALIC SMALL XI
+    "\uD835\uDF44", "\u03BF", // MATHEMATICAL BOLD ITALIC SMALL OMICRON
+    "\uD835\uDF45", "\u03C0", // MATHEMATICAL BOLD ITALIC SMALL PI
+    "\uD835\uDF46", "\u03C1", // MATHEMATICAL BOLD ITALIC SMALL RHO
+    "\uD835\uDF47", "\u03C2", // MATHEMATICAL BOLD ITALIC SMALL FINAL SIGMA
+    "\uD835\uDF48", "\u03C3", // MATHEMATICAL BOLD ITALIC SMALL SIGMA
+    "\uD835\uDF49", "\u03C4", // MATHEMATICAL BOLD ITALIC SMALL TAU
+    "\uD835\uDF4A", "\u03C5", // MATHEMATICAL BOLD ITALIC SMALL UPSILON
+    "\uD835\uDF4B", "\u03C6", // MATHEMATICAL BOLD ITALIC SMALL PHI
+    "\uD835\uDF4C", "\u03C7", // MATHEMATICAL BOLD ITALIC SMALL CHI
+    "\uD835\uDF4D", "\u03C8", // MATHEMATICAL BOLD ITALIC SMALL PSI
+    "\uD835\uDF4E", "\u03C9", // MATHEMATICAL BOLD ITALIC SMALL OMEGA
+    "\uD835\uDF4F", "\u2202", // MATHEMATICAL BOLD ITALIC PARTIAL DIFFERENTIAL
+    "\uD835\uDF50", "\u03B5", // MATHEMATICAL BOLD ITALIC EPSILON SYMBOL
+    "\uD835\uDF51", "\u03B8", // MATHEMATICAL BOLD ITALIC THETA SYMBOL
+    "\uD835\uDF52", "\u03BA", // MATHEMATICAL BOLD ITALIC KAPPA SYMBOL
+    "\uD835\uDF53", "\u03C6", // MATHEMATICAL BOLD ITALIC PHI SYMBOL
+    "\uD835\uDF54", "\u03C1", // MATHEMATICAL BOLD ITALIC RHO SYMBOL
+    "\uD835\uDF55", "\u03C0", // MATHEMATICAL BOLD ITALIC PI SYMBOL
+    "\uD835\uDF56", "\u03B1", // MATHEMATICAL SANS-SERIF BOLD CAPITAL ALPHA
+    "\uD835\uDF57", "\u03B2", // MATHEMATICAL SANS-SERIF BOLD CAPITAL BETA
+    "\uD835\uDF58", "\u03B3", // MATHEMATICAL SANS-SERIF BOLD CAPITAL GAMMA
+    "\uD835\uDF59", "\u03B4", // MATHEMATICAL SANS-SERIF BOLD CAPITAL DELTA
+    "\uD835\uDF5A", "\u03B5", // MATHEMATICAL SANS-SERIF BOLD CAPITAL EPSILON
+    "\uD835\uDF5B", "\u03B6", // MATHEMATICAL SANS-SERIF BOLD CAPITAL ZETA
+    "\uD835\uDF5C", "\u03B7", // MATHEMATICAL SANS-SERIF BOLD CAPITAL ETA
+    "\uD835\uDF5D", "\u03B8", // MATHEMATICAL SANS-SERIF BOLD CAPITAL THETA
+    "\uD835\uDF5E", "\u03B9", // MATHEMATICAL SANS-SERIF BOLD CAPITAL IOTA
+    "\uD835\uDF5F", "\u03BA", // MATHEMATICAL SANS-SERIF BOLD CAPITAL KAPPA
+    "\uD835\uDF60", "\u03BB", // MATHEMATICAL SANS-SERIF BOLD CAPITAL LAMDA
+    "\uD835\uDF61", "\u03BC", // MATHEMATICAL SANS-SERIF BOLD CAPITAL MU
+    "\uD835\uDF62", "\u03BD", // MATHEMATICAL SANS-SERIF BOLD CAPITAL NU
+    "\uD835\uDF63", "\u03BE", // MATHEMATICAL SANS-SERIF BOLD CAPITAL XI
+    "\uD835\uDF64", "\u03BF", // MATHEMATICAL SANS-SERIF BOLD CAPITAL OMICRON
+    "\uD835\uDF65", "\u03C0", // MATHEMATICAL SANS-SERIF BOLD CAPITAL PI
+    "\uD835\uDF66", "\u03C1", // MATHEMATICAL SANS-SERIF BOLD CAPITAL RHO
+    "\uD835\uDF67", "\u03B8", // MATHEMATICAL SANS-SERIF BOLD CAPITAL THETA SYMBOL
+    "\uD835\uDF68", "\u03C3", // MATHEMATICAL SANS-SERIF BOLD CAPITAL SIGMA
+    "\uD835\uDF69", "\u03C4", // MATHEMATICAL SANS-SERIF BOLD CAPITAL TAU
+    "\uD835\uDF6A", "\u03C5", // MATHEMATICAL SANS-SERIF BOLD CAPITAL UPSILON
+    "\uD835\uDF6B", "\u03C6", // MATHEMATICAL SANS-SERIF BOLD CAPITAL PHI
+    "\uD835\uDF6C", "\u03C7", // MATHEMATICAL SANS-SERIF BOLD CAPITAL CHI
+    "\uD835\uDF6D", "\u03C8", // MATHEMATICAL SANS-SERIF BOLD CAPITAL PSI
+    "\uD835\uDF6E", "\u03C9", // MATHEMATICAL SANS-SERIF BOLD CAPITAL OMEGA
+    "\uD835\uDF6F", "\u2207", // MATHEMATICAL SANS-SERIF BOLD NABLA
+    "\uD835\uDF70", "\u03B1", // MATHEMATICAL SANS-SERIF BOLD SMALL ALPHA
+    "\uD835\uDF71", "\u03B2", // MATHEMATICAL SANS-SERIF BOLD SMALL BETA
+    "\uD835\uDF72", "\u03B3", // MATHEMATICAL SANS-SERIF BOLD SMALL GAMMA
+    "\uD835\uDF73", "\u03B4", // MATHEMATICAL SANS-SERIF BOLD SMALL DELTA
+    "\uD835\uDF74", "\u03B5", // MATHEMATICAL SANS-SERIF BOLD SMALL EPSILON
+    "\uD835\uDF75", "\u03B6", // MATHEMATICAL SANS-SERIF BOLD SMALL ZETA
+    "\uD835\uDF76", "\u03B7", // MATHEMATICAL SANS-SERIF BOLD SMALL ETA
+    "\uD835\uDF77", "\u03B8", // MATHEMATICAL SANS-SERIF BOLD SMALL THETA
+    "\uD835\uDF78", "\u03B9", // MATHEMATICAL SANS-SERIF BOLD SMALL IOTA
+    "\uD835\uDF79", "\u03BA", // MATHEMATICAL SANS-SERIF BOLD SMALL KAPPA
+    "\uD835\uDF7A", "\u03BB", // MATHEMATICAL SANS-SERIF BOLD SMALL LAMDA
+    "\uD835\uDF7B", "\u03BC", // MATHEMATICAL SANS-SERIF BOLD SMALL MU
+    "\uD835\uDF7C", "\u03BD", // MATHEMATICAL SANS-SERIF BOLD SMALL NU
+    "\uD835\uDF7D", "\u03BE", // MATHEMATICAL SANS-SERIF BOLD SMALL XI
+    "\uD835\uDF7E", "\u03BF", // MATHEMATICAL SANS-SERIF BOLD SMALL OMICRON
+    "\uD835\uDF7F", "\u03C0", // MATHEMATICAL SANS-SERIF BOLD SMALL PI
+    "\uD835\uDF80", "\u03C1", // MATHEMATICAL SANS-SERIF BOLD SMALL RHO
+    "\uD835\uDF81", "\u03C2", // MATHEMATICAL SANS-SERIF BOLD SMALL FINAL SIGMA
+    "\uD835\uDF82", "\u03C3", // MATHEMATICAL SANS-SERIF BOLD SMALL SIGMA
+    "\uD835\uDF83", "\u03C4", // MATHEMATICAL SANS-SERIF BOLD SMALL TAU
+    "\uD835\uDF84", "\u03C5", // MATHEMATICAL SANS-SERIF BOLD SMALL UPSILON
+    "\uD835\uDF85", "\u03C6", // MATHEMATICAL SANS-SERIF BOLD SMALL PHI
+    "\uD835\uDF86", "\u03C7", // MATHEMATICAL SANS-SERIF BOLD SMALL CHI
+    "\uD835\uDF87", "\u03C8", // MATHEMATICAL SANS-SERIF BOLD SMALL PSI
+    "\uD835\uDF88", "\u03C9", // MATHEMATICAL SANS-SERIF BOLD SMALL OMEGA
+    "\uD835\uDF89", "\u2202", // MATHEMATICAL SANS-SERIF BOLD PARTIAL DIFFERENTIAL
+    "\uD835\uDF8A", "\u03B5", // MATHEMATICAL SANS-SERIF BOLD EPSILON SYMBOL
+    "\uD835\uDF8B", "\u03B8", // MATHEMATICAL SANS-SERIF BOLD THETA SYMBOL
+    "\uD835\uDF8C", "\u03BA", // MATHEMATICAL SANS-SERIF BOLD KAPPA SYMBOL
+    "\uD835\uDF8D", "\u03C6", // MATHEMATICAL SANS-SERIF BOLD PHI SYMBOL
+    "\uD835\uDF8E", "\u03C1", // MATHEMATICAL SANS-SERIF BOLD RHO SYMBOL
+    "\uD835\uDF8F", "\u03C0", // MATHEMATICAL SANS-SERIF BOLD PI SYMBOL
+    "\uD835\uDF90", "\u03B1", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL ALPHA
+    "\uD835\uDF91", "\u03B2", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL BETA
+    "\uD835\uDF92", "\u03B3", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL GAMMA
+    "\uD835\uDF93", "\u03B4", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL DELTA
+    "\uD835\uDF94", "\u03B5", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL EPSILON
+    "\uD835\uDF95", "\u03B6", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL ZETA
+    "\uD835\uDF96", "\u03B7", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL ETA
+    "\uD835\uDF97", "\u03B8", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL THETA
+    "\uD835\uDF98", "\u03B9", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL IOTA
+    "\uD835\uDF99", "\u03BA", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL KAPPA
+    "\uD835\uDF9A", "\u03BB", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL LAMDA
+    "\uD835\uDF9B", "\u03BC", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL MU
+    "\uD835\uDF9C", "\u03BD", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL NU
+    "\uD835\uDF9D", "\u03BE", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL XI
+    "\uD835\uDF9E", "\u03BF", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL OMICRON
+    "\uD835\uDF9F", "\u03C0", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL PI
+    "\uD835\uDFA0", "\u03C1", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL RHO
+    "\uD835\uDFA1", "\u03B8", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL THETA SYMBOL
+    "\uD835\uDFA2", "\u03C3", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL SIGMA
+    "\uD835\uDFA3", "\u03C4", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL TAU
+    "\uD835\uDFA4", "\u03C5", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL UPSILON
+    "\uD835\uDFA5", "\u03C6", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL PHI
+    "\uD835\uDFA6", "\u03C7", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL CHI
+    "\uD835\uDFA7", "\u03C8", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL PSI
+    "\uD835\uDFA8", "\u03C9", // MATHEMATICAL SANS-SERIF BOLD ITALIC CAPITAL OMEGA
+    "\uD835\uDFA9", "\u2207", // MATHEMATICAL SANS-SERIF BOLD ITALIC NABLA
+    "\uD835\uDFAA", "\u03B1", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL ALPHA
+    "\uD835\uDFAB", "\u03B2", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL BETA
+    "\uD835\uDFAC", "\u03B3", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL GAMMA
+    "\uD835\uDFAD", "\u03B4", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL DELTA
+    "\uD835\uDFAE", "\u03B5", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL EPSILON
+    "\uD835\uDFAF", "\u03B6", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL ZETA
+    "\uD835\uDFB0", "\u03B7", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL ETA
+    "\uD835\uDFB1", "\u03B8", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL THETA
+    "\uD835\uDFB2", "\u03B9", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL IOTA
+    "\uD835\uDFB3", "\u03BA", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL KAPPA
+    "\uD835\uDFB4", "\u03BB", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL LAMDA
+    "\uD835\uDFB5", "\u03BC", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL MU
+    "\uD835\uDFB6", "\u03BD", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL NU
+    "\uD835\uDFB7", "\u03BE", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL XI
+    "\uD835\uDFB8", "\u03BF", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL OMICRON
+    "\uD835\uDFB9", "\u03C0", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL PI
+    "\uD835\uDFBA", "\u03C1", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL RHO
+    "\uD835\uDFBB", "\u03C2", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL FINAL SIGMA
+    "\uD835\uDFBC", "\u03C3", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL SIGMA
+    "\uD835\uDFBD", "\u03C4", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL TAU
+    "\uD835\uDFBE", "\u03C5", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL UPSILON
+    "\uD835\uDFBF", "\u03C6", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL PHI
+    "\uD835\uDFC0", "\u03C7", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL CHI
+    "\uD835\uDFC1", "\u03C8", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL PSI
+    "\uD835\uDFC2", "\u03C9", // MATHEMATICAL SANS-SERIF BOLD ITALIC SMALL OMEGA
+    "\uD835\uDFC3", "\u2202", // MATHEMATICAL SANS-SERIF BOLD ITALIC PARTIAL DIFFERENTIAL
+    "\uD835\uDFC4", "\u03B5", // MATHEMATICAL SANS-SERIF BOLD ITALIC EPSILON SYMBOL
+    "\uD835\uDFC5", "\u03B8", // MATHEMATICAL SANS-SERIF BOLD ITALIC THETA SYMBOL
+    "\uD835\uDFC6", "\u03BA", // MATHEMATICAL SANS-SERIF BOLD ITALIC KAPPA SYMBOL
+    "\uD835\uDFC7", "\u03C6", // MATHEMATICAL SANS-SERIF BOLD ITALIC PHI SYMBOL
+    "\uD835\uDFC8", "\u03C1", // MATHEMATICAL SANS-SERIF BOLD ITALIC RHO SYMBOL
+    "\uD835\uDFC9", "\u03C0", // MATHEMATICAL SANS-SERIF BOLD ITALIC PI SYMBOL
+    "\uD835\uDFCA", "\u03DD", // MATHEMATICAL BOLD CAPITAL DIGAMMA
+    "\uD835\uDFCB", "\u03DD", // MATHEMATICAL BOLD SMALL DIGAMMA
+    "\uD835\uDFCE", "0", // MATHEMATICAL BOLD DIGIT ZERO
+    "\uD835\uDFCF", "1", // MATHEMATICAL BOLD DIGIT ONE
+    "\uD835\uDFD0", "2", // MATHEMATICAL BOLD DIGIT TWO
+    "\uD835\uDFD1", "3", // MATHEMATICAL BOLD DIGIT THREE
+    "\uD835\uDFD2", "4", // MATHEMATICAL BOLD DIGIT FOUR
+    "\uD835\uDFD3", "5", // MATHEMATICAL BOLD DIGIT FIVE
+    "\uD835\uDFD4", "6", // MATHEMATICAL BOLD DIGIT SIX
+    "\uD835\uDFD5", "7", // MATHEMATICAL BOLD DIGIT SEVEN
+    "\uD835\uDFD6", "8", // MATHEMATICAL BOLD DIGIT EIGHT
+    "\uD835\uDFD7", "9", // MATHEMATICAL BOLD DIGIT NINE
+    "\uD835\uDFD8", "0", // MATHEMATICAL DOUBLE-STRUCK DIGIT ZERO
+    "\uD835\uDFD9", "1", // MATHEMATICAL DOUBLE-STRUCK DIGIT ONE
+    "\uD835\uDFDA", "2", // MATHEMATICAL DOUBLE-STRUCK DIGIT TWO
+    "\uD835\uDFDB", "3", // MATHEMATICAL DOUBLE-STRUCK DIGIT THREE
+    "\uD835\uDFDC", "4", // MATHEMATICAL DOUBLE-STRUCK DIGIT FOUR
+    "\uD835\uDFDD", "5", // MATHEMATICAL DOUBLE-STRUCK DIGIT FIVE
+    "\uD835\uDFDE", "6", // MATHEMATICAL DOUBLE-STRUCK DIGIT SIX
+    "\uD835\uDFDF", "7", // MATHEMATICAL DOUBLE-STRUCK DIGIT SEVEN
+    "\uD835\uDFE0", "8", // MATHEMATICAL DOUBLE-STRUCK DIGIT EIGHT
+    "\uD835\uDFE1", "9", // MATHEMATICAL DOUBLE-STRUCK DIGIT NINE
+    "\uD835\uDFE2", "0", // MATHEMATICAL SANS-SERIF DIGIT ZERO
+    "\uD835\uDFE3", "1", // MATHEMATICAL SANS-SERIF DIGIT ONE
+    "\uD835\uDFE4", "2", // MATHEMATICAL SANS-SERIF DIGIT TWO
+    "\uD835\uDFE5", "3", // MATHEMATICAL SANS-SERIF DIGIT THREE
+    "\uD835\uDFE6", "4", // MATHEMATICAL SANS-SERIF DIGIT FOUR
+    "\uD835\uDFE7", "5", // MATHEMATICAL SANS-SERIF DIGIT FIVE
+    "\uD835\uDFE8", "6", // MATHEMATICAL SANS-SERIF DIGIT SIX
+    "\uD835\uDFE9", "7", // MATHEMATICAL SANS-SERIF DIGIT SEVEN
+    "\uD835\uDFEA", "8", // MATHEMATICAL SANS-SERIF DIGIT EIGHT
+    "\uD835\uDFEB", "9", // MATHEMATICAL SANS-SERIF DIGIT NINE
+    "\uD835\uDFEC", "0", // MATHEMATICAL SANS-SERIF BOLD DIGIT ZERO
+    "\uD835\uDFED", "1", // MATHEMATICAL SANS-SERIF BOLD DIGIT ONE
+    "\uD835\uDFEE", "2", // MATHEMATICAL SANS-SERIF BOLD DIGIT TWO
+    "\uD835\uDFEF", "3", // MATHEMATICAL SANS-SERIF BOLD DIGIT THREE
+    "\uD835\uDFF0", "4", // MATHEMATICAL SANS-SERIF BOLD DIGIT FOUR
+    "\uD835\uDFF1", "5", // MATHEMATICAL SANS-SERIF BOLD DIGIT FIVE
+    "\uD835\uDFF2", "6", // MATHEMATICAL SANS-SERIF BOLD DIGIT SIX
+    "\uD835\uDFF3", "7", // MATHEMATICAL SANS-SERIF BOLD DIGIT SEVEN
+    "\uD835\uDFF4", "8", // MATHEMATICAL SANS-SERIF BOLD DIGIT EIGHT
+    "\uD835\uDFF5", "9", // MATHEMATICAL SANS-SERIF BOLD DIGIT NINE
+    "\uD835\uDFF6", "0", // MATHEMATICAL MONOSPACE DIGIT ZERO
+    "\uD835\uDFF7", "1", // MATHEMATICAL MONOSPACE DIGIT ONE
+    "\uD835\uDFF8", "2", // MATHEMATICAL MONOSPACE DIGIT TWO
+    "\uD835\uDFF9", "3", // MATHEMATICAL MONOSPACE DIGIT THREE
+    "\uD835\uDFFA", "4", // MATHEMATICAL MONOSPACE DIGIT FOUR
+    "\uD835\uDFFB", "5", // MATHEMATICAL MONOSPACE DIGIT FIVE
+    "\uD835\uDFFC", "6", // MATHEMATICAL MONOSPACE DIGIT SIX
+    "\uD835\uDFFD", "7", // MATHEMATICAL MONOSPACE DIGIT SEVEN
+    "\uD835\uDFFE", "8", // MATHEMATICAL MONOSPACE DIGIT EIGHT
+    "\uD835\uDFFF", "9", // MATHEMATICAL MONOSPACE DIGIT NINE
+  };
+
+  private DMLBSGeneratedFolds() {
+  }
+}
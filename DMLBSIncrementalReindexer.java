@@ -0,0 +1,208 @@
+package org.exist.indexing.lucene;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Works out which documents a change of folding profile affects, so that
+ * only those need reanalyzing and reindexing.
+ * <p>
+ * Comparing the old and new tables gives the chars whose terms fold
+ * differently: those for which lower-casing and then folding, as {@link
+ * DMLBSAccentAnalyzer} does, now gives something else. They are kept in a
+ * 64K-bit presence bitmap, and a document is affected only if its stored
+ * text contains one of them, which a single pass over the text with one
+ * bit test per char decides, stopping at the first hit. Every other
+ * document analyzes to exactly the same token stream under both profiles.
+ * A supplementary code point that folds differently is recorded as its
+ * high surrogate, so text with any code point sharing that surrogate is
+ * taken as affected too.
+ * <p>
+ * If a stop word folds differently under the new profile, terms made only
+ * of unchanged chars may start or stop matching it, so every document is
+ * then taken as affected.
+ */
+public class DMLBSIncrementalReindexer {
+
+  private final long[] affected = new long[1024];
+  private final char[] changedChars;
+  private final boolean fullReindex;
+
+  private long scanned;
+  private long selected;
+
+  /**
+   * Compares the profiles <code>oldTable</code> and <code>newTable</code>
+   * for an analyzer using <code>stopWords</code>.
+   */
+  public DMLBSIncrementalReindexer(final DMLBSFoldingTable oldTable,
+                                   final DMLBSFoldingTable newTable,
+                                   final String[] stopWords) {
+    for (int c = 0x10000; c <= Character.MAX_CODE_POINT; c++) {
+      final int lower = Character.toLowerCase(c);
+      if (!Arrays.equals(fold(oldTable, lower), fold(newTable, lower))) {
+        final char high = Character.highSurrogate(c);
+        affected[high >>> 6] |= 1L << high;
+      }
+    }
+    final StringBuilder changed = new StringBuilder();
+    for (int c = 0; c < 0x10000; c++) {
+      final char lower = Character.toLowerCase((char) c);
+      if (isAffected((char) c)
+          || !Arrays.equals(fold(oldTable, lower), fold(newTable, lower))) {
+        affected[c >>> 6] |= 1L << c;
+        changed.append((char) c);
+      }
+    }
+    changedChars = changed.toString().toCharArray();
+
+    boolean stopWordChanged = false;
+    for (int i = 0; i < stopWords.length && !stopWordChanged; i++) {
+      final String word = DMLBSStopSet.lowerCase(stopWords[i]);
+      stopWordChanged = !oldTable.fold(word).equals(newTable.fold(word));
+    }
+    fullReindex = stopWordChanged;
+  }
+
+  private static char[] fold(final DMLBSFoldingTable table, final int c) {
+    final char[] folded = table.lookupCodePoint(c);
+    return folded != null ? folded : Character.toChars(c);
+  }
+
+  /** Returns the chars whose terms fold differently, in ascending order. */
+  public char[] getChangedChars() {
+    return changedChars.clone();
+  }
+
+  /** Returns true if every document has to be reindexed. */
+  public boolean isFullReindex() {
+    return fullReindex;
+  }
+
+  /** Returns true if the profile change affects text containing <code>c</code>. */
+  public boolean isAffected(final char c) {
+    return (affected[c >>> 6] & (1L << c)) != 0;
+  }
+
+  /**
+   * Returns true if <code>text</code> analyzes differently under the new
+   * profile. The reader is read up to the first changed char, and is not
+   * closed.
+   */
+  public boolean affects(final Reader text) throws IOException {
+    if (fullReindex)
+      return true;
+    if (changedChars.length == 0)
+      return false;
+    final char[] buffer = new char[4096];
+    int length;
+    while ((length = text.read(buffer, 0, buffer.length)) != -1) {
+      for (int i = 0; i < length; i++) {
+        final char c = buffer[i];
+        if ((affected[c >>> 6] & (1L << c)) != 0)
+          return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the documents of <code>documents</code> affected by the
+   * profile change, scanning each one's text as the iteration reaches it.
+   * I/O errors while scanning come out of the iterator as {@link
+   * IllegalStateException}s.
+   */
+  public Iterator<DMLBSBulkNormalizer.Document> affected(
+      final Iterator<? extends DMLBSBulkNormalizer.Document> documents) {
+    return new Iterator<DMLBSBulkNormalizer.Document>() {
+      private DMLBSBulkNormalizer.Document next;
+
+      public boolean hasNext() {
+        while (next == null && documents.hasNext()) {
+          final DMLBSBulkNormalizer.Document document = documents.next();
+          if (scan(document))
+            next = document;
+        }
+        return next != null;
+      }
+
+      public DMLBSBulkNormalizer.Document next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+        final DMLBSBulkNormalizer.Document document = next;
+        next = null;
+        return document;
+      }
+
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  private boolean scan(final DMLBSBulkNormalizer.Document document) {
+    scanned++;
+    try {
+      final Reader reader = document.openReader();
+      try {
+        if (!affects(reader))
+          return false;
+      } finally {
+        reader.close();
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Could not scan " + document.getId()
+                                      + ": " + e.getMessage(), e);
+    }
+    selected++;
+    return true;
+  }
+
+  /**
+   * Reanalyzes only the affected documents of <code>documents</code> with
+   * <code>normalizer</code>, whose analyzer must fold with the new
+   * profile, writing their records to <code>out</code> for reindexing.
+   */
+  public void reindex(final Iterator<? extends DMLBSBulkNormalizer.Document> documents,
+                      final DMLBSBulkNormalizer normalizer,
+                      final OutputStream out) throws IOException {
+    try {
+      normalizer.normalize(affected(documents), out);
+    } catch (IllegalStateException e) {
+      if (e.getCause() instanceof IOException)
+        throw (IOException) e.getCause();
+      throw e;
+    }
+  }
+
+  /** Returns the number of documents scanned so far. */
+  public long getDocumentsScanned() {
+    return scanned;
+  }
+
+  /** Returns the number of scanned documents found affected. */
+  public long getDocumentsSelected() {
+    return selected;
+  }
+}
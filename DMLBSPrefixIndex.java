@@ -0,0 +1,340 @@
+package org.exist.indexing.lucene;
+
+import org.apache.lucene.index.DocsEnum;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiFields;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * An in-memory prefix index of the folded headwords, for autocomplete
+ * without enumerating any index terms.
+ * <p>
+ * It is built once at startup from the terms of a headword field analyzed
+ * by {@link DMLBSAccentAnalyzer} as {@link
+ * DMLBSAccentAnalyzer.FieldProfile#FOLDED}, without preserved originals,
+ * so the headwords are already folded and are all the field holds. They
+ * are kept sorted, their chars in one array and their postings (the
+ * documents holding each) in another, each headword ranked by how many
+ * documents hold it. All headwords with a given prefix then form one
+ * range, found by binary search, and the best ranked of them are picked
+ * with a max tree over the ranks, so k completions cost O(k log n)
+ * whatever the length of the prefix or the size of its range.
+ * <p>
+ * Prefixes are folded with the {@link DMLBSQueryNormalizer} of the
+ * analyzer that indexed the field, so they match the headwords exactly as
+ * a query on that field would, spelling variants included. The index
+ * never changes once built and can be shared by all query threads.
+ */
+public final class DMLBSPrefixIndex {
+
+  /** A completion: a headword, its rank and the documents holding it. */
+  public static final class Completion {
+    private final String headword;
+    private final int rank;
+    private final int[] docs;
+
+    Completion(final String headword, final int rank, final int[] docs) {
+      this.headword = headword;
+      this.rank = rank;
+      this.docs = docs;
+    }
+
+    /** Returns the folded headword. */
+    public String getHeadword() {
+      return headword;
+    }
+
+    /** Returns the number of documents holding the headword. */
+    public int getRank() {
+      return rank;
+    }
+
+    /** Returns the ids of the documents holding the headword, ascending. */
+    public int[] getDocs() {
+      return docs.clone();
+    }
+
+    public String toString() {
+      return headword + " (" + rank + ")";
+    }
+  }
+
+  private final DMLBSQueryNormalizer normalizer;
+
+  // Headword i is chars[starts[i]] up to chars[starts[i + 1]], its docs
+  // docs[postings[i]] up to docs[postings[i + 1]]
+  private final char[] chars;
+  private final int[] starts;
+  private final int[] docs;
+  private final int[] postings;
+  private final int[] ranks;
+
+  // The headword of best rank under each node; leaves at size + i
+  private final int[] best;
+  private final int size;
+
+  private DMLBSPrefixIndex(final DMLBSQueryNormalizer normalizer,
+                           final List<String> headwords, final List<int[]> docLists) {
+    this.normalizer = normalizer;
+    size = headwords.size();
+    starts = new int[size + 1];
+    postings = new int[size + 1];
+    ranks = new int[size];
+    for (int i = 0; i < size; i++) {
+      starts[i + 1] = starts[i] + headwords.get(i).length();
+      postings[i + 1] = postings[i] + docLists.get(i).length;
+      ranks[i] = docLists.get(i).length;
+    }
+    chars = new char[starts[size]];
+    docs = new int[postings[size]];
+    for (int i = 0; i < size; i++) {
+      headwords.get(i).getChars(0, headwords.get(i).length(), chars, starts[i]);
+      System.arraycopy(docLists.get(i), 0, docs, postings[i], ranks[i]);
+    }
+
+    best = new int[2 * Math.max(size, 1)];
+    for (int i = 0; i < size; i++)
+      best[size + i] = i;
+    for (int node = size - 1; node > 0; node--)
+      best[node] = better(best[2 * node], best[2 * node + 1]);
+  }
+
+  /**
+   * Builds the prefix index of the headwords in <code>field</code> of
+   * <code>reader</code>, leaving out deleted documents. The field must
+   * have been indexed by <code>analyzer</code> as a {@link
+   * DMLBSAccentAnalyzer.FieldProfile#FOLDED} field, with no originals
+   * preserved: the edge n-grams of a {@link
+   * DMLBSAccentAnalyzer.FieldProfile#PREFIX} field and the originals look
+   * like any other term in the index, and would be taken for headwords.
+   * Prefixes are to be folded with <code>normalizer</code>, which must
+   * come from the same analyzer.
+   *
+   * @throws IllegalArgumentException if <code>analyzer</code> does not
+   * index <code>field</code> that way
+   */
+  public static DMLBSPrefixIndex build(final IndexReader reader, final String field,
+                                       final DMLBSAccentAnalyzer analyzer,
+                                       final DMLBSQueryNormalizer normalizer)
+    throws IOException {
+    final DMLBSAccentAnalyzer.FieldProfile profile = analyzer.getFieldProfile(field);
+    if (profile != DMLBSAccentAnalyzer.FieldProfile.FOLDED)
+      throw new IllegalArgumentException(
+        field + ": a prefix index needs a FOLDED field, not " + profile);
+    if (analyzer.isPreservingOriginal())
+      throw new IllegalArgumentException(
+        field + ": a prefix index needs a field without preserved originals");
+    final List<String> headwords = new ArrayList<String>();
+    final List<int[]> docLists = new ArrayList<int[]>();
+    final Terms terms = MultiFields.getTerms(reader, field);
+    if (terms != null) {
+      final Bits liveDocs = MultiFields.getLiveDocs(reader);
+      final TermsEnum termsEnum = terms.iterator(null);
+      DocsEnum docsEnum = null;
+      int[] buffer = new int[64];
+      BytesRef term;
+      while ((term = termsEnum.next()) != null) {
+        docsEnum = termsEnum.docs(liveDocs, docsEnum, DocsEnum.FLAG_NONE);
+        int count = 0;
+        int doc;
+        while ((doc = docsEnum.nextDoc()) != DocIdSetIterator.NO_MORE_DOCS) {
+          if (count == buffer.length)
+            buffer = Arrays.copyOf(buffer, 2 * count);
+          buffer[count++] = doc;
+        }
+        if (count > 0) {
+          headwords.add(term.utf8ToString());
+          docLists.add(Arrays.copyOf(buffer, count));
+        }
+      }
+    }
+    return sorted(normalizer, headwords, docLists);
+  }
+
+  /**
+   * Builds a prefix index of folded <code>headwords</code>, each held by
+   * the documents at the same index of <code>docLists</code>, ascending.
+   */
+  public static DMLBSPrefixIndex build(final List<String> headwords,
+                                       final List<int[]> docLists,
+                                       final DMLBSQueryNormalizer normalizer) {
+    if (headwords.size() != docLists.size())
+      throw new IllegalArgumentException("One doc list is needed per headword");
+    return sorted(normalizer, headwords, docLists);
+  }
+
+  /** Sorts the headwords in char order, which the index enumerates them
+   *  in only as long as none lies outside the BMP. */
+  private static DMLBSPrefixIndex sorted(final DMLBSQueryNormalizer normalizer,
+                                         final List<String> headwords,
+                                         final List<int[]> docLists) {
+    final Integer[] order = new Integer[headwords.size()];
+    for (int i = 0; i < order.length; i++)
+      order[i] = Integer.valueOf(i);
+    Arrays.sort(order, new Comparator<Integer>() {
+      public int compare(final Integer a, final Integer b) {
+        return headwords.get(a.intValue()).compareTo(headwords.get(b.intValue()));
+      }
+    });
+    final List<String> sortedHeadwords = new ArrayList<String>(order.length);
+    final List<int[]> sortedDocs = new ArrayList<int[]>(order.length);
+    for (int i = 0; i < order.length; i++) {
+      sortedHeadwords.add(headwords.get(order[i].intValue()));
+      sortedDocs.add(docLists.get(order[i].intValue()));
+    }
+    return new DMLBSPrefixIndex(normalizer, sortedHeadwords, sortedDocs);
+  }
+
+  /** Returns the number of headwords. */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns up to <code>count</code> headwords starting with
+   * <code>prefix</code> once folded, best ranked first and in headword
+   * order among equal ranks. Under spelling rules that is any headword
+   * starting with one of the forms {@link
+   * DMLBSQueryNormalizer#normalizePrefix} gives the prefix.
+   */
+  public Completion[] complete(final String prefix, final int count) {
+    final String[] variants = normalizer.normalizePrefix(prefix);
+    final List<int[]> bounds = new ArrayList<int[]>(variants.length);
+    for (int v = 0; v < variants.length; v++) {
+      final char[] folded = variants[v].toCharArray();
+      final int from = lowerBound(folded, false);
+      final int to = lowerBound(folded, true);
+      if (from < to)
+        bounds.add(new int[] { from, to });
+    }
+    if (bounds.isEmpty() || count <= 0)
+      return new Completion[0];
+
+    // Ranges still to pick from, by the rank of their best headword
+    final PriorityQueue<int[]> ranges = new PriorityQueue<int[]>(
+      Math.min(count, size) + bounds.size(), new Comparator<int[]>() {
+        public int compare(final int[] a, final int[] b) {
+          return better(a[2], b[2]) == a[2] ? -1 : 1;
+        }
+      });
+    // One range per variant, merged where one variant's range holds
+    // another's, so no headword is picked twice
+    Collections.sort(bounds, new Comparator<int[]>() {
+      public int compare(final int[] a, final int[] b) {
+        return a[0] < b[0] ? -1 : a[0] > b[0] ? 1 : 0;
+      }
+    });
+    int from = bounds.get(0)[0];
+    int to = bounds.get(0)[1];
+    for (int b = 1; b <= bounds.size(); b++) {
+      if (b < bounds.size() && bounds.get(b)[0] <= to) {
+        to = Math.max(to, bounds.get(b)[1]);
+        continue;
+      }
+      ranges.add(new int[] { from, to, bestIn(from, to) });
+      if (b < bounds.size()) {
+        from = bounds.get(b)[0];
+        to = bounds.get(b)[1];
+      }
+    }
+    final List<Completion> completions = new ArrayList<Completion>(Math.min(count, size));
+    while (completions.size() < count && !ranges.isEmpty()) {
+      final int[] range = ranges.poll();
+      final int i = range[2];
+      completions.add(completion(i));
+      if (range[0] < i)
+        ranges.add(new int[] { range[0], i, bestIn(range[0], i) });
+      if (i + 1 < range[1])
+        ranges.add(new int[] { i + 1, range[1], bestIn(i + 1, range[1]) });
+    }
+    return completions.toArray(new Completion[completions.size()]);
+  }
+
+  private Completion completion(final int i) {
+    return new Completion(new String(chars, starts[i], starts[i + 1] - starts[i]),
+                          ranks[i], Arrays.copyOfRange(docs, postings[i], postings[i + 1]));
+  }
+
+  /**
+   * Returns the first headword not below <code>prefix</code> or, if
+   * <code>past</code>, the first one past every headword starting with it.
+   */
+  private int lowerBound(final char[] prefix, final boolean past) {
+    int lo = 0;
+    int hi = size;
+    while (lo < hi) {
+      final int mid = (lo + hi) >>> 1;
+      final int cmp = comparePrefix(mid, prefix);
+      if (cmp < 0 || (past && cmp == 0))
+        lo = mid + 1;
+      else
+        hi = mid;
+    }
+    return lo;
+  }
+
+  /** Compares headword <code>i</code> with <code>prefix</code>, 0 if it
+   *  starts with it. */
+  private int comparePrefix(final int i, final char[] prefix) {
+    final int start = starts[i];
+    final int length = starts[i + 1] - start;
+    final int n = Math.min(length, prefix.length);
+    for (int j = 0; j < n; j++) {
+      final char c = chars[start + j];
+      if (c != prefix[j])
+        return c - prefix[j];
+    }
+    return length < prefix.length ? -1 : 0;
+  }
+
+  /** Returns the best ranked headword from <code>from</code> up to
+   *  <code>to</code>. */
+  private int bestIn(int from, int to) {
+    int result = -1;
+    for (from += size, to += size; from < to; from >>>= 1, to >>>= 1) {
+      if ((from & 1) != 0)
+        result = better(result, best[from++]);
+      if ((to & 1) != 0)
+        result = better(result, best[--to]);
+    }
+    return result;
+  }
+
+  private int better(final int a, final int b) {
+    if (a < 0)
+      return b;
+    if (b < 0)
+      return a;
+    if (ranks[a] != ranks[b])
+      return ranks[a] > ranks[b] ? a : b;
+    return a < b ? a : b;
+  }
+}
@@ -0,0 +1,114 @@
+package org.exist.indexing.lucene;
+
+import java.nio.CharBuffer;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Normalizes query terms, wildcard fragments and autocomplete prefixes the
+ * way {@link DMLBSAccentAnalyzer} normalizes indexed terms: lower-cased as
+ * by {@link org.apache.lucene.analysis.core.LowerCaseFilter}, then folded
+ * with the same {@link DMLBSFoldingTable} as {@link DMLBSAccentFilter},
+ * but without building a token stream per term. Wildcard chars are not
+ * folded, so they pass through. The text is taken as a single term: it is
+ * neither tokenized nor checked against the stop words.
+ * <p>
+ * Spelling rules, if any, are applied to the folded term as well. A prefix
+ * may stop inside a rule, so it is normalized with {@link
+ * #normalizePrefix} into each form the terms starting with it may take.
+ * <p>
+ * Terms that need folding can be kept in a {@link DMLBSFoldingCache},
+ * keyed on their lower-cased chars, so a burst of queries on the same
+ * prefixes folds each of them once. The cache evicts by second chance,
+ * a close approximation of LRU that needs no lock, so one normalizer can
+ * be shared by all query threads.
+ */
+public final class DMLBSQueryNormalizer {
+
+  private final DMLBSFoldingTable table;
+  private final DMLBSSpellingRules spellingRules;
+  private final DMLBSFoldingCache cache;
+
+  /** Builds a normalizer folding with <code>table</code> which caches up
+   *  to <code>cacheSize</code> folded terms (none if 0). */
+  public DMLBSQueryNormalizer(final DMLBSFoldingTable table, final int cacheSize) {
+    this(table, null, cacheSize);
+  }
+
+  /** Builds a normalizer that also rewrites the folded terms with
+   *  <code>spellingRules</code> (none if null), as a {@link
+   *  DMLBSSpellingFilter} does. */
+  public DMLBSQueryNormalizer(final DMLBSFoldingTable table,
+                              final DMLBSSpellingRules spellingRules,
+                              final int cacheSize) {
+    this.table = table;
+    this.spellingRules = spellingRules;
+    this.cache = cacheSize > 0 ? new DMLBSFoldingCache(cacheSize) : null;
+  }
+
+  /** Returns <code>text</code> lower-cased and folded. */
+  public String normalize(final CharSequence text) {
+    final char[] term = lowerCase(text);
+    final int length = term.length;
+    final boolean mapped = spellingRules != null
+      || table.indexOfMapped(term, 0, length) < length;
+    if (!mapped)
+      return new String(term);
+
+    if (cache != null) {
+      final char[] cached = cache.get(term, 0, length);
+      if (cached != null)
+        return new String(cached);
+    }
+    String folded = table.fold(CharBuffer.wrap(term));
+    if (spellingRules != null)
+      folded = spellingRules.rewrite(folded);
+    if (cache != null)
+      cache.put(term, folded.toCharArray());
+    return folded;
+  }
+
+  /**
+   * Returns the prefixes of the normalized terms starting with
+   * <code>prefix</code>: just <code>prefix</code> lower-cased and folded
+   * without spelling rules, else each form {@link
+   * DMLBSSpellingRules#rewritePrefix} gives it. These are not cached.
+   */
+  public String[] normalizePrefix(final CharSequence prefix) {
+    final char[] term = lowerCase(prefix);
+    final String folded = table.indexOfMapped(term, 0, term.length) < term.length
+      ? table.fold(CharBuffer.wrap(term)) : new String(term);
+    return spellingRules != null
+      ? spellingRules.rewritePrefix(folded) : new String[] { folded };
+  }
+
+  private static char[] lowerCase(final CharSequence text) {
+    final int length = text.length();
+    final char[] term = new char[length];
+    for (int i = 0; i < length; ) {
+      final int c = Character.codePointAt(text, i);
+      i += Character.toChars(Character.toLowerCase(c), term, i);
+    }
+    return term;
+  }
+
+  /** Returns the cache of folded terms, or null if there is none. */
+  public DMLBSFoldingCache getCache() {
+    return cache;
+  }
+}
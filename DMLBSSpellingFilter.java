@@ -0,0 +1,105 @@
+package org.exist.indexing.lucene;
+
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.FlagsAttribute;
+import org.apache.lucene.analysis.tokenattributes.KeywordAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.util.AttributeSource;
+import java.io.IOException;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Rewrites spelling variants with a set of {@link DMLBSSpellingRules}, so
+ * that for instance <i>celum</i>, <i>caelum</i> and <i>coelum</i>, or
+ * <i>gratia</i> and <i>gracia</i>, index as the same term. It expects
+ * lower-cased, folded terms and so goes after the {@link
+ * DMLBSAccentFilter}. Terms marked as keywords, such as the originals
+ * that filter preserves, are left alone.
+ * <p>
+ * If it preserves originals as well, each term it rewrites is followed
+ * by the term as it came in, at the same position and marked as a
+ * keyword, unless the accent filter already follows it with its
+ * original. So <i>vita</i> indexes as <i>uita</i> and <i>vita</i>, as
+ * <i>v&#299;ta</i> does as <i>uita</i> and <i>v&#299;ta</i>.
+ */
+public final class DMLBSSpellingFilter extends TokenFilter {
+
+  private static final int OUTPUT_SIZE = 256;
+
+  private final DMLBSSpellingRules rules;
+  private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+  private final KeywordAttribute keywordAtt = addAttribute(KeywordAttribute.class);
+  private final PositionIncrementAttribute posIncAtt =
+    addAttribute(PositionIncrementAttribute.class);
+  private final FlagsAttribute flagsAtt = addAttribute(FlagsAttribute.class);
+
+  private final boolean preserveOriginal;
+
+  // The term just rewritten as it came in, still to be returned
+  private AttributeSource.State original;
+
+  private char[] output = new char[OUTPUT_SIZE];
+
+  public DMLBSSpellingFilter(TokenStream input, DMLBSSpellingRules rules) {
+    this(input, rules, false);
+  }
+
+  /** Builds a filter that, if <code>preserveOriginal</code>, follows each
+   *  term it rewrites with the term as it came in, as described above. */
+  public DMLBSSpellingFilter(TokenStream input, DMLBSSpellingRules rules,
+                             boolean preserveOriginal) {
+    super(input);
+    this.rules = rules;
+    this.preserveOriginal = preserveOriginal;
+  }
+
+  public boolean incrementToken() throws IOException {
+    if (original != null) {
+      restoreState(original);
+      original = null;
+      posIncAtt.setPositionIncrement(0);
+      keywordAtt.setKeyword(true);
+      return true;
+    }
+    if (!input.incrementToken())
+      return false;
+    if (keywordAtt.isKeyword())
+      return true;
+
+    final int length = termAtt.length();
+    final int maxLength = rules.maxOutputLength(length);
+    if (output.length < maxLength)
+      output = new char[maxLength];
+    final int rewritten = rules.rewrite(termAtt.buffer(), length, output);
+    if (rewritten >= 0) {
+      if (preserveOriginal
+          && (flagsAtt.getFlags() & DMLBSAccentFilter.ORIGINAL_FOLLOWS) == 0)
+        original = captureState();
+      termAtt.copyBuffer(output, 0, rewritten);
+    }
+    return true;
+  }
+
+  public void reset() throws IOException {
+    original = null;
+    super.reset();
+  }
+}
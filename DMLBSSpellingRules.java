@@ -0,0 +1,409 @@
+package org.exist.indexing.lucene;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A set of context-sensitive spelling rewrites, compiled into a
+ * deterministic finite-state transducer for {@link DMLBSSpellingFilter}.
+ * <p>
+ * A rule rewrites a run of chars, optionally only at the start of the term
+ * (<code>^</code>), only at its end (<code>$</code>) or only when followed
+ * by a right context given in parentheses, which is checked but not
+ * rewritten. A bracketed class such as <code>[aeiou]</code> matches any of
+ * its chars:
+ * <pre>
+ *   ae =&gt; e
+ *   ti([aeiouy]) =&gt; ci
+ *   ^mich =&gt; mih
+ * </pre>
+ * The rules are compiled once into a trie whose states, with their
+ * transitions sorted by char, live in a few flat arrays. A term is
+ * rewritten left to right in one pass: at each position the trie is
+ * walked for the longest rule that matches there, whose replacement is
+ * written out before moving past the chars it consumed; where no rule
+ * matches the char is copied as is. The walk never goes further than the
+ * longest rule, so the cost is linear in the term length, and nothing is
+ * allocated.
+ * <p>
+ * A prefix cannot be rewritten that way: where it stops inside a rule,
+ * the chars that would decide whether a right context or <code>$</code>
+ * matches, or which rule is the longest, are yet to come. {@link
+ * #rewritePrefix} returns instead every form the terms starting with it
+ * can begin with once rewritten.
+ */
+public final class DMLBSSpellingRules {
+
+  /**
+   * Common medieval Latin spelling variants, rewritten to one form: ae and
+   * oe to e, y and j to i, v to u, ti before a vowel to ci, and the
+   * initial mich-/nich- of mihi and nihil to mih-/nih-.
+   */
+  public static final DMLBSSpellingRules MEDIEVAL_LATIN = compile(new String[] {
+    "ae => e",
+    "oe => e",
+    "y => i",
+    "j => i",
+    "v => u",
+    "ti([aeiouy]) => ci",
+    "^mich => mih",
+    "^nich => nih",
+  });
+
+  // Trie states: state s has the transitions firstEdge[s] up to
+  // firstEdge[s + 1] - 1, sorted by label
+  private final int[] firstEdge;
+  private final char[] edgeLabels;
+  private final int[] edgeTargets;
+  // The rule accepted in each state, anywhere or only at the end of the
+  // term, or -1
+  private final int[] accept;
+  private final int[] acceptAtEnd;
+
+  private final char[][] replacements;
+  private final int[] consumed;
+  private final int maxGrowth;
+
+  private static final int ROOT = 0;
+  private static final int START_ROOT = 1;
+
+  /** A trie node while compiling. */
+  private static final class Node {
+    final TreeMap<Character, Node> next = new TreeMap<Character, Node>();
+    int accept = -1;
+    int acceptAtEnd = -1;
+    int id;
+  }
+
+  private DMLBSSpellingRules(final List<Node> nodes, final List<char[]> replacements,
+                             final List<Integer> consumed) {
+    int edges = 0;
+    for (int s = 0; s < nodes.size(); s++)
+      edges += nodes.get(s).next.size();
+    firstEdge = new int[nodes.size() + 1];
+    edgeLabels = new char[edges];
+    edgeTargets = new int[edges];
+    accept = new int[nodes.size()];
+    acceptAtEnd = new int[nodes.size()];
+    int e = 0;
+    for (int s = 0; s < nodes.size(); s++) {
+      final Node node = nodes.get(s);
+      firstEdge[s] = e;
+      for (Map.Entry<Character, Node> edge : node.next.entrySet()) {
+        edgeLabels[e] = edge.getKey().charValue();
+        edgeTargets[e++] = edge.getValue().id;
+      }
+      accept[s] = node.accept;
+      acceptAtEnd[s] = node.acceptAtEnd;
+    }
+    firstEdge[nodes.size()] = e;
+
+    this.replacements = replacements.toArray(new char[replacements.size()][]);
+    this.consumed = new int[consumed.size()];
+    int growth = 0;
+    for (int r = 0; r < this.consumed.length; r++) {
+      this.consumed[r] = consumed.get(r).intValue();
+      growth = Math.max(growth, this.replacements[r].length - this.consumed[r]);
+    }
+    maxGrowth = growth;
+  }
+
+  /**
+   * Compiles <code>rules</code>, each written
+   * <code><i>pattern</i> =&gt; <i>replacement</i></code> as described above.
+   *
+   * @throws IllegalArgumentException if a rule is malformed, consumes no
+   *   chars, or matches the same chars in the same context as an earlier
+   *   rule with a different replacement
+   */
+  public static DMLBSSpellingRules compile(final String[] rules) {
+    final List<Node> nodes = new ArrayList<Node>();
+    nodes.add(new Node()); // ROOT: anywhere in the term
+    nodes.add(new Node()); // START_ROOT: at its start
+    final List<char[]> replacements = new ArrayList<char[]>();
+    final List<Integer> consumed = new ArrayList<Integer>();
+    final Map<String, String> seen = new HashMap<String, String>();
+
+    for (int r = 0; r < rules.length; r++) {
+      final String rule = rules[r];
+      final int arrow = rule.indexOf("=>");
+      if (arrow < 0)
+        throw new IllegalArgumentException("Rule without =>: " + rule);
+      String pattern = rule.substring(0, arrow).trim();
+      final String replacement = rule.substring(arrow + 2).trim();
+      for (int i = 0; i < replacement.length(); i++) {
+        if (Character.isWhitespace(replacement.charAt(i)))
+          throw new IllegalArgumentException("Whitespace in replacement: " + rule);
+      }
+
+      final boolean atStart = pattern.startsWith("^");
+      if (atStart)
+        pattern = pattern.substring(1);
+      final boolean atEnd = pattern.endsWith("$");
+      if (atEnd)
+        pattern = pattern.substring(0, pattern.length() - 1);
+      String context = "";
+      if (pattern.endsWith(")")) {
+        final int open = pattern.indexOf('(');
+        if (open < 0)
+          throw new IllegalArgumentException("Unbalanced parentheses: " + rule);
+        context = pattern.substring(open + 1, pattern.length() - 1);
+        pattern = pattern.substring(0, open);
+      }
+      final List<char[]> match = parseClasses(pattern, rule);
+      final List<char[]> lookahead = parseClasses(context, rule);
+      if (match.isEmpty())
+        throw new IllegalArgumentException("Rule consumes no chars: " + rule);
+
+      final int id = replacements.size();
+      replacements.add(replacement.toCharArray());
+      consumed.add(Integer.valueOf(match.size()));
+      match.addAll(lookahead);
+      if (!atStart)
+        insert(nodes, nodes.get(ROOT), match, 0, id, atEnd, rule, seen, "");
+      insert(nodes, nodes.get(START_ROOT), match, 0, id, atEnd, rule, seen, "^");
+    }
+    for (int s = 0; s < nodes.size(); s++)
+      nodes.get(s).id = s;
+    return new DMLBSSpellingRules(nodes, replacements, consumed);
+  }
+
+  /** Splits a pattern into the chars each of its positions matches. */
+  private static List<char[]> parseClasses(final String pattern, final String rule) {
+    final List<char[]> classes = new ArrayList<char[]>();
+    for (int i = 0; i < pattern.length(); i++) {
+      final char c = pattern.charAt(i);
+      if (c == '[') {
+        final int close = pattern.indexOf(']', i);
+        if (close < 0 || close == i + 1)
+          throw new IllegalArgumentException("Bad char class: " + rule);
+        classes.add(pattern.substring(i + 1, close).toCharArray());
+        i = close;
+      } else if ("]()^$".indexOf(c) >= 0 || Character.isWhitespace(c)) {
+        throw new IllegalArgumentException("Unexpected '" + c + "': " + rule);
+      } else {
+        classes.add(new char[] { c });
+      }
+    }
+    return classes;
+  }
+
+  /** Adds every path through <code>classes</code> below <code>node</code>. */
+  private static void insert(final List<Node> nodes, final Node node,
+                             final List<char[]> classes, final int depth,
+                             final int rule, final boolean atEnd,
+                             final String text, final Map<String, String> seen,
+                             final String path) {
+    if (depth == classes.size()) {
+      final String key = path + (atEnd ? "$" : "");
+      final String previous = seen.get(key);
+      if (previous != null && !previous.equals(text))
+        throw new IllegalArgumentException("Rule " + text + " conflicts with " + previous);
+      if (previous == null) {
+        seen.put(key, text);
+        if (atEnd)
+          node.acceptAtEnd = rule;
+        else
+          node.accept = rule;
+      }
+      return;
+    }
+    final char[] chars = classes.get(depth);
+    for (int i = 0; i < chars.length; i++) {
+      final Character c = Character.valueOf(chars[i]);
+      Node child = node.next.get(c);
+      if (child == null) {
+        child = new Node();
+        nodes.add(child);
+        node.next.put(c, child);
+      }
+      insert(nodes, child, classes, depth + 1, rule, atEnd, text, seen, path + chars[i]);
+    }
+  }
+
+  /** Returns a 64-bit hash of the compiled rules. */
+  public long fingerprint() {
+    long h = DMLBSFingerprint.START;
+    h = DMLBSFingerprint.add(h, firstEdge);
+    h = DMLBSFingerprint.add(h, edgeLabels);
+    h = DMLBSFingerprint.add(h, edgeTargets);
+    h = DMLBSFingerprint.add(h, accept);
+    h = DMLBSFingerprint.add(h, acceptAtEnd);
+    for (int r = 0; r < replacements.length; r++)
+      h = DMLBSFingerprint.add(h, replacements[r]);
+    return DMLBSFingerprint.add(h, consumed);
+  }
+
+  /**
+   * Returns the longest a term of <code>length</code> chars can become,
+   * for sizing the output of {@link #rewrite}.
+   */
+  public int maxOutputLength(final int length) {
+    return length + length * maxGrowth;
+  }
+
+  /**
+   * Rewrites the <code>length</code> chars of <code>term</code> into
+   * <code>output</code>, which must hold at least {@link
+   * #maxOutputLength} chars. Returns the length written, or -1 if no rule
+   * matched and the term is unchanged, in which case <code>output</code>
+   * is left in an unspecified state.
+   */
+  public int rewrite(final char[] term, final int length, final char[] output) {
+    boolean changed = false;
+    int out = 0;
+    int i = 0;
+    while (i < length) {
+      int state = i == 0 ? START_ROOT : ROOT;
+      int best = -1;
+      for (int j = i; ; j++) {
+        if (accept[state] >= 0)
+          best = accept[state];
+        if (j == length) {
+          if (acceptAtEnd[state] >= 0)
+            best = acceptAtEnd[state];
+          break;
+        }
+        state = step(state, term[j]);
+        if (state < 0)
+          break;
+      }
+      if (best < 0) {
+        output[out++] = term[i++];
+        continue;
+      }
+      final char[] replacement = replacements[best];
+      System.arraycopy(replacement, 0, output, out, replacement.length);
+      out += replacement.length;
+      i += consumed[best];
+      changed = true;
+    }
+    return changed ? out : -1;
+  }
+
+  private int step(final int state, final char c) {
+    int lo = firstEdge[state];
+    int hi = firstEdge[state + 1] - 1;
+    while (lo <= hi) {
+      final int mid = (lo + hi) >>> 1;
+      final char label = edgeLabels[mid];
+      if (label < c)
+        lo = mid + 1;
+      else if (label > c)
+        hi = mid - 1;
+      else
+        return edgeTargets[mid];
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the distinct forms the terms starting with <code>prefix</code>
+   * begin with once rewritten. Each position where the prefix stops inside a rule is rewritten every
+   * way the rest of the term may decide: as the term's end, as the start
+   * of each longer rule, or as no longer rule at all. So
+   * <code>grati</code> gives <code>grati</code> and <code>graci</code>
+   * (for <code>gratia</code>), and <code>mic</code> gives <code>mic</code>
+   * and <code>mih</code> (for <code>michi</code>).
+   */
+  public String[] rewritePrefix(final CharSequence prefix) {
+    final Set<String> variants = new LinkedHashSet<String>();
+    rewritePrefix(prefix.toString().toCharArray(), 0, new StringBuilder(), variants);
+    return variants.toArray(new String[variants.size()]);
+  }
+
+  /** Adds to <code>variants</code> the forms of <code>term</code> from
+   *  <code>i</code> on, each after <code>out</code>, which is left as is. */
+  private void rewritePrefix(final char[] term, int i, final StringBuilder out,
+                             final Set<String> variants) {
+    final int mark = out.length();
+    while (i < term.length) {
+      int state = i == 0 ? START_ROOT : ROOT;
+      int best = -1;
+      for (int j = i; ; j++) {
+        if (accept[state] >= 0)
+          best = accept[state];
+        if (j == term.length)
+          break;
+        state = step(state, term[j]);
+        if (state < 0)
+          break;
+      }
+      if (state >= 0) {
+        // The prefix stops inside a rule: the term may end here, or go on
+        // to match any rule further down
+        final int length = out.length();
+        if (acceptAtEnd[state] >= 0) {
+          final int rule = acceptAtEnd[state];
+          out.append(replacements[rule]);
+          rewritePrefix(term, i + consumed[rule], out, variants);
+          out.setLength(length);
+        }
+        final boolean[] below = new boolean[replacements.length];
+        addRulesBelow(state, below);
+        for (int rule = 0; rule < below.length; rule++) {
+          if (!below[rule])
+            continue;
+          out.append(replacements[rule]);
+          if (i + consumed[rule] <= term.length)
+            rewritePrefix(term, i + consumed[rule], out, variants);
+          else
+            variants.add(out.toString());
+          out.setLength(length);
+        }
+        // or match none of them, as rewritten below
+      }
+      if (best < 0) {
+        out.append(term[i++]);
+      } else {
+        out.append(replacements[best]);
+        i += consumed[best];
+      }
+    }
+    variants.add(out.toString());
+    out.setLength(mark);
+  }
+
+  /** Marks in <code>rules</code> every rule accepted below
+   *  <code>state</code>. */
+  private void addRulesBelow(final int state, final boolean[] rules) {
+    for (int e = firstEdge[state]; e < firstEdge[state + 1]; e++) {
+      final int target = edgeTargets[e];
+      if (accept[target] >= 0)
+        rules[accept[target]] = true;
+      if (acceptAtEnd[target] >= 0)
+        rules[acceptAtEnd[target]] = true;
+      addRulesBelow(target, rules);
+    }
+  }
+
+  /** Returns <code>text</code> rewritten. */
+  public String rewrite(final CharSequence text) {
+    final char[] term = text.toString().toCharArray();
+    final char[] output = new char[maxOutputLength(term.length)];
+    final int length = rewrite(term, term.length, output);
+    return length < 0 ? text.toString() : new String(output, 0, length);
+  }
+}
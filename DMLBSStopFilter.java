@@ -0,0 +1,41 @@
+package org.exist.indexing.lucene;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.util.FilteringTokenFilter;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Removes the terms in a {@link DMLBSStopSet}, whether or not they have
+ * been folded yet.
+ */
+public final class DMLBSStopFilter extends FilteringTokenFilter {
+
+  private final DMLBSStopSet stopSet;
+  private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+
+  public DMLBSStopFilter(TokenStream input, DMLBSStopSet stopSet) {
+    super(input);
+    this.stopSet = stopSet;
+  }
+
+  protected boolean accept() {
+    return !stopSet.contains(termAtt.buffer(), 0, termAtt.length());
+  }
+}
@@ -0,0 +1,147 @@
+package org.exist.indexing.lucene;
+
+import java.util.Arrays;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A set of stop words matched against terms as they would be folded,
+ * without folding them. The words are lower-cased and folded once with
+ * the table given, and kept in an open-addressing hash table; a term is
+ * looked up straight from its buffer, folding each char on the fly as it
+ * is hashed and compared, so no String or array is made per token.
+ * <p>
+ * A stop filter using it can therefore sit before the {@link
+ * DMLBSAccentFilter}: stop words are dropped before any folding work, in
+ * whatever accented form they appear, together with the originals that
+ * filter would otherwise preserve.
+ */
+public final class DMLBSStopSet {
+
+  private final DMLBSFoldingTable table;
+  private final char[][] keys;
+  private final int mask;
+  private int size;
+
+  /** Builds a set of <code>words</code> folded with <code>table</code>. */
+  public DMLBSStopSet(final String[] words, final DMLBSFoldingTable table) {
+    this.table = table;
+    int capacity = 16;
+    while (capacity < words.length * 2)
+      capacity <<= 1;
+    keys = new char[capacity][];
+    mask = capacity - 1;
+    for (int i = 0; i < words.length; i++)
+      add(table.fold(lowerCase(words[i])).toCharArray());
+  }
+
+  /** Returns a 64-bit hash of the folded stop words, whatever order they
+   *  were given in. */
+  public long fingerprint() {
+    long h = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null)
+        h += DMLBSFingerprint.add(DMLBSFingerprint.START, keys[i]);
+    }
+    return h;
+  }
+
+  /** Returns the number of distinct folded stop words. */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns true if the <code>length</code> chars of <code>term</code>
+   * from <code>offset</code>, once folded, are a stop word.
+   */
+  public boolean contains(final char[] term, final int offset, final int length) {
+    int h = 0;
+    final int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      final char c = term[i];
+      final char[] folded = table.startsMapped(c) ? table.lookupAt(term, i, end) : null;
+      if (folded != null) {
+        for (int j = 0; j < folded.length; j++)
+          h = 31 * h + folded[j];
+        if (Character.isHighSurrogate(c))
+          i++;
+      } else {
+        h = 31 * h + c;
+      }
+    }
+    for (int slot = mix(h) & mask; ; slot = (slot + 1) & mask) {
+      final char[] key = keys[slot];
+      if (key == null)
+        return false;
+      if (matches(key, term, offset, end))
+        return true;
+    }
+  }
+
+  private boolean matches(final char[] key, final char[] term, final int offset,
+                          final int end) {
+    int k = 0;
+    for (int i = offset; i < end; i++) {
+      final char c = term[i];
+      final char[] folded = table.startsMapped(c) ? table.lookupAt(term, i, end) : null;
+      if (folded != null) {
+        if (k + folded.length > key.length)
+          return false;
+        for (int j = 0; j < folded.length; j++)
+          if (key[k++] != folded[j])
+            return false;
+        if (Character.isHighSurrogate(c))
+          i++;
+      } else if (k == key.length || key[k++] != c) {
+        return false;
+      }
+    }
+    return k == key.length;
+  }
+
+  private void add(final char[] key) {
+    int h = 0;
+    for (int i = 0; i < key.length; i++)
+      h = 31 * h + key[i];
+    int slot = mix(h) & mask;
+    while (keys[slot] != null) {
+      if (Arrays.equals(keys[slot], key))
+        return;
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    size++;
+  }
+
+  private static int mix(final int h) {
+    return h ^ (h >>> 16);
+  }
+
+  /** Lower-cases <code>s</code> code point by code point, as {@link
+   *  org.apache.lucene.analysis.core.LowerCaseFilter} does. */
+  static String lowerCase(final String s) {
+    final StringBuilder lower = new StringBuilder(s.length());
+    for (int i = 0; i < s.length(); ) {
+      final int c = s.codePointAt(i);
+      lower.appendCodePoint(Character.toLowerCase(c));
+      i += Character.charCount(c);
+    }
+    return lower.toString();
+  }
+}
@@ -0,0 +1,61 @@
+package org.exist.indexing.lucene;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A fixed-size array of counters striped across threads, in the manner of
+ * LongAdder: each thread adds to its own stripe, picked by thread id, so
+ * indexing threads do not contend on a single cache line, and reading a
+ * counter sums its stripes. Stripes are padded apart by a cache line.
+ */
+final class DMLBSStripedCounter {
+
+  private static final int STRIPES = 16;
+  private static final int PADDING = 8; // longs per 64-byte cache line
+
+  private final int size;
+  private final int stripeSize;
+  private final AtomicLongArray cells;
+
+  DMLBSStripedCounter(final int size) {
+    this.size = size;
+    this.stripeSize = size + PADDING;
+    this.cells = new AtomicLongArray(STRIPES * stripeSize);
+  }
+
+  /** Adds <code>delta</code> to counter <code>index</code>. */
+  void add(final int index, final long delta) {
+    final int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+    cells.getAndAdd(stripe * stripeSize + index, delta);
+  }
+
+  /** Returns the current value of counter <code>index</code>. */
+  long get(final int index) {
+    long sum = 0;
+    for (int stripe = 0; stripe < STRIPES; stripe++)
+      sum += cells.get(stripe * stripeSize + index);
+    return sum;
+  }
+
+  /** Returns the number of counters. */
+  int size() {
+    return size;
+  }
+}
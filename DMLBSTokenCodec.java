@@ -0,0 +1,200 @@
+package org.exist.indexing.lucene;
+
+import org.apache.lucene.analysis.*;
+import org.apache.lucene.analysis.tokenattributes.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Compact binary form of an analyzed token stream, so that analysis done
+ * once (by {@link DMLBSBulkNormalizer}, say) can be replayed later into an
+ * index writer without running the analyzer again.
+ * <p>
+ * Each token is written as variable-length ints: the term length plus one,
+ * the position increment, the start offset as a zig-zag delta from the
+ * previous token's, the offset length, and the type as an index into the
+ * types seen so far (a new type is followed by its name). Term chars are
+ * written as one variable-length int each, so ASCII costs a byte per char
+ * and Latin and Greek two. A 0 ends the tokens, followed by the final
+ * offset and position increment reported by {@link TokenStream#end}. An
+ * encoded stream is self contained and always decodes to the same tokens.
+ */
+public final class DMLBSTokenCodec {
+
+  /** Bumped whenever the encoded form changes, so that token streams
+   *  saved in an older form are not decoded. */
+  public static final int VERSION = 1;
+
+  private DMLBSTokenCodec() {
+  }
+
+  /**
+   * Consumes <code>stream</code> (reset, read to the end, closed) and
+   * returns its tokens encoded.
+   */
+  public static byte[] encode(final TokenStream stream) throws IOException {
+    final CharTermAttribute termAtt = stream.addAttribute(CharTermAttribute.class);
+    final PositionIncrementAttribute posIncrAtt =
+      stream.addAttribute(PositionIncrementAttribute.class);
+    final OffsetAttribute offsetAtt = stream.addAttribute(OffsetAttribute.class);
+    final TypeAttribute typeAtt = stream.addAttribute(TypeAttribute.class);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final List<String> types = new ArrayList<String>();
+    int lastStart = 0;
+    try {
+      stream.reset();
+      while (stream.incrementToken()) {
+        final int length = termAtt.length();
+        writeVInt(out, length + 1);
+        writeChars(out, termAtt.buffer(), length);
+        writeVInt(out, posIncrAtt.getPositionIncrement());
+        final int delta = offsetAtt.startOffset() - lastStart;
+        writeVInt(out, (delta << 1) ^ (delta >> 31));
+        writeVInt(out, offsetAtt.endOffset() - offsetAtt.startOffset());
+        lastStart = offsetAtt.startOffset();
+
+        final String typeName = typeAtt.type();
+        final int type = types.indexOf(typeName);
+        if (type >= 0)
+          writeVInt(out, type);
+        else {
+          writeVInt(out, types.size());
+          writeVInt(out, typeName.length());
+          writeChars(out, typeName.toCharArray(), typeName.length());
+          types.add(typeName);
+        }
+      }
+      stream.end();
+      writeVInt(out, 0);
+      writeVInt(out, offsetAtt.endOffset());
+      writeVInt(out, posIncrAtt.getPositionIncrement());
+    } finally {
+      stream.close();
+    }
+    return out.toByteArray();
+  }
+
+  /** Returns a token stream replaying the tokens in <code>data</code>. */
+  public static TokenStream decode(final byte[] data) {
+    return decode(data, 0);
+  }
+
+  /**
+   * Returns a token stream replaying the tokens encoded in
+   * <code>data</code> from <code>offset</code> on.
+   */
+  public static TokenStream decode(final byte[] data, final int offset) {
+    return new Decoder(data, offset);
+  }
+
+  private static final class Decoder extends TokenStream {
+    private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+    private final PositionIncrementAttribute posIncrAtt =
+      addAttribute(PositionIncrementAttribute.class);
+    private final OffsetAttribute offsetAtt = addAttribute(OffsetAttribute.class);
+    private final TypeAttribute typeAtt = addAttribute(TypeAttribute.class);
+
+    private final byte[] data;
+    private final int offset;
+    private int pos;
+    private int lastStart;
+    private int finalOffset;
+    private int finalPositionIncrement;
+    private final List<String> types = new ArrayList<String>();
+
+    Decoder(final byte[] data, final int offset) {
+      this.data = data;
+      this.offset = offset;
+      this.pos = offset;
+    }
+
+    public void reset() throws IOException {
+      super.reset();
+      pos = offset;
+      lastStart = 0;
+      types.clear();
+    }
+
+    public boolean incrementToken() throws IOException {
+      clearAttributes();
+      final int length = readVInt() - 1;
+      if (length < 0) {
+        finalOffset = readVInt();
+        finalPositionIncrement = readVInt();
+        return false;
+      }
+      final char[] buffer = termAtt.resizeBuffer(length);
+      for (int i = 0; i < length; i++)
+        buffer[i] = (char) readVInt();
+      termAtt.setLength(length);
+      posIncrAtt.setPositionIncrement(readVInt());
+      final int zigzag = readVInt();
+      final int start = lastStart + ((zigzag >>> 1) ^ -(zigzag & 1));
+      offsetAtt.setOffset(start, start + readVInt());
+      lastStart = start;
+
+      final int type = readVInt();
+      if (type == types.size()) {
+        final char[] name = new char[readVInt()];
+        for (int i = 0; i < name.length; i++)
+          name[i] = (char) readVInt();
+        types.add(new String(name));
+      }
+      typeAtt.setType(types.get(type));
+      return true;
+    }
+
+    public void end() throws IOException {
+      super.end();
+      offsetAtt.setOffset(finalOffset, finalOffset);
+      posIncrAtt.setPositionIncrement(finalPositionIncrement);
+    }
+
+    private int readVInt() throws IOException {
+      int value = 0;
+      for (int shift = 0; shift < 32; shift += 7) {
+        if (pos >= data.length)
+          throw new IOException("Truncated token stream");
+        final byte b = data[pos++];
+        value |= (b & 0x7F) << shift;
+        if (b >= 0)
+          return value;
+      }
+      throw new IOException("Corrupt token stream");
+    }
+  }
+
+  private static void writeChars(final ByteArrayOutputStream out,
+                                 final char[] chars, final int length) {
+    for (int i = 0; i < length; i++)
+      writeVInt(out, chars[i]);
+  }
+
+  private static void writeVInt(final ByteArrayOutputStream out, int value) {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+}
@@ -0,0 +1,549 @@
+package org.exist.indexing.lucene;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A persistent cache of the token streams {@link DMLBSAccentAnalyzer}
+ * gives for text fragments, so that reindexing a collection whose entries
+ * have mostly not changed replays their tokens instead of analyzing them
+ * again. {@link DMLBSBulkNormalizer} takes its tokens from it, and so
+ * does an {@link org.apache.lucene.index.IndexWriter} given the analyzer
+ * of {@link #newAnalyzer}.
+ * <p>
+ * Fragments are keyed by a 128-bit MD5 hash of the analyzer's {@link
+ * DMLBSAccentAnalyzer#getFingerprint fingerprint} and {@link
+ * DMLBSTokenCodec#VERSION}, the field name and the text, and their tokens
+ * are kept in the {@link DMLBSTokenCodec} form. The file is an
+ * append-only log: a header holding the magic number, format version,
+ * codec version and fingerprint, then one record per fragment with its
+ * key, the length, a CRC-32 and the bytes of its tokens. On opening, the
+ * log is scanned once to index the keys in memory, and cut off at the
+ * first torn or corrupt record. If the fingerprint or codec version in
+ * the header is not the current one, because the folding rules, any
+ * other analysis setting or the encoded form changed, the whole file is
+ * discarded.
+ * <p>
+ * Records are read through a read-only memory mapping of the file, which
+ * is extended when a record appended since is first read. Once the file
+ * outgrows its size bound, it is compacted: the most recently used
+ * records are copied, up to half the bound, to the file of the next
+ * generation, named after the first with <code>.1</code>,
+ * <code>.2</code> and so on appended, and the old one is deleted. The
+ * file in use is never replaced in place, since its mapping lives on
+ * until garbage collected and some platforms will neither replace nor
+ * delete a mapped file; an old generation that cannot be deleted yet is
+ * deleted when the cache is next opened.
+ * <p>
+ * Lookups and appends are synchronized, so one cache can serve all
+ * indexing threads; the hashing and any analysis run outside the lock.
+ */
+public final class DMLBSTokenStreamCache implements Closeable {
+
+  static final int MAGIC = 0x444D4C43; // "DMLC"
+  static final int VERSION = 2;
+
+  private static final int HEADER_SIZE = 20;
+  // key, length and CRC-32
+  private static final int RECORD_HEADER_SIZE = 24;
+
+  private static final ThreadLocal<MessageDigest> DIGEST = new ThreadLocal<MessageDigest>() {
+    protected MessageDigest initialValue() {
+      try {
+        return MessageDigest.getInstance("MD5");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("MD5 is not available", e);
+      }
+    }
+  };
+
+  private final File file;
+  private final DMLBSAccentAnalyzer analyzer;
+  private final long fingerprint;
+  private final long maxSize;
+
+  // The file of the current generation and its number, 0 for file itself
+  private File current;
+  private long generation;
+
+  private RandomAccessFile raf;
+  private FileChannel channel;
+  private MappedByteBuffer mapped;
+  private long end;
+
+  // Open addressing on the keys; an offset of 0 marks an empty slot
+  private long[] keyHi;
+  private long[] keyLo;
+  private long[] offsets;
+  private int[] lastUsed;
+  private int count;
+  private int clock;
+
+  private long hits;
+  private long misses;
+  private long compactions;
+
+  /**
+   * Opens the cache in <code>file</code>, or in its latest generation,
+   * creating it if need be, for token streams of <code>analyzer</code>,
+   * and bounds it to <code>maxSize</code> bytes.
+   */
+  public DMLBSTokenStreamCache(final File file, final DMLBSAccentAnalyzer analyzer,
+                               final long maxSize) throws IOException {
+    if (maxSize < 4096 || maxSize > Integer.MAX_VALUE)
+      throw new IllegalArgumentException("Bad cache size bound: " + maxSize);
+    this.file = file;
+    this.analyzer = analyzer;
+    this.fingerprint = DMLBSFingerprint.add(analyzer.getFingerprint(),
+                                            DMLBSTokenCodec.VERSION);
+    this.maxSize = maxSize;
+    open();
+  }
+
+  private void open() throws IOException {
+    generation = latestGeneration();
+    current = generationFile(generation);
+    for (File old : olderGenerations(generation))
+      old.delete();
+    raf = new RandomAccessFile(current, "rw");
+    channel = raf.getChannel();
+    clear(16);
+    final long size = channel.size();
+    if (size < HEADER_SIZE || size > Integer.MAX_VALUE || !hasHeader()) {
+      channel.truncate(0);
+      channel.write(header(), 0);
+      end = HEADER_SIZE;
+    } else {
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+      end = scan((int) size);
+      if (end < size)
+        channel.truncate(end);
+    }
+    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+  }
+
+  private File generationFile(final long generation) {
+    return generation == 0 ? file : new File(file.getPath() + "." + generation);
+  }
+
+  /** Returns the generation number of a file of this cache, or -1 if
+   *  <code>name</code> is not one. */
+  private long generationOf(final String name) {
+    if (name.equals(file.getName()))
+      return 0;
+    final String prefix = file.getName() + ".";
+    if (!name.startsWith(prefix) || name.length() == prefix.length()
+        || name.length() - prefix.length() > 18)
+      return -1;
+    for (int i = prefix.length(); i < name.length(); i++) {
+      if (Character.digit(name.charAt(i), 10) < 0)
+        return -1;
+    }
+    return Long.parseLong(name.substring(prefix.length()));
+  }
+
+  private File[] generationFiles() {
+    final File[] files = file.getAbsoluteFile().getParentFile().listFiles();
+    return files == null ? new File[0] : files;
+  }
+
+  private long latestGeneration() {
+    long latest = 0;
+    for (File f : generationFiles())
+      latest = Math.max(latest, generationOf(f.getName()));
+    return latest;
+  }
+
+  private List<File> olderGenerations(final long generation) {
+    final List<File> older = new ArrayList<File>();
+    for (File f : generationFiles()) {
+      final long g = generationOf(f.getName());
+      if (g >= 0 && g < generation)
+        older.add(f);
+    }
+    return older;
+  }
+
+  private ByteBuffer header() {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    header.putInt(MAGIC).putInt(VERSION).putInt(DMLBSTokenCodec.VERSION)
+          .putLong(fingerprint).flip();
+    return header;
+  }
+
+  private boolean hasHeader() throws IOException {
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+    channel.read(header, 0);
+    header.flip();
+    return header.equals(header());
+  }
+
+  /** Indexes the records of the log, returning where the last sound one
+   *  ends. */
+  private long scan(final int size) {
+    final CRC32 crc = new CRC32();
+    int pos = HEADER_SIZE;
+    while (pos + RECORD_HEADER_SIZE <= size) {
+      final int length = mapped.getInt(pos + 16);
+      if (length < 0 || length > size - pos - RECORD_HEADER_SIZE)
+        break;
+      final byte[] tokens = new byte[length];
+      final ByteBuffer data = mapped.duplicate();
+      data.position(pos + RECORD_HEADER_SIZE);
+      data.get(tokens);
+      crc.reset();
+      crc.update(tokens, 0, length);
+      if ((int) crc.getValue() != mapped.getInt(pos + 20))
+        break;
+      insert(mapped.getLong(pos), mapped.getLong(pos + 8), pos, 0);
+      pos += RECORD_HEADER_SIZE + length;
+    }
+    return pos;
+  }
+
+  /**
+   * Returns the encoded tokens of <code>text</code> in
+   * <code>fieldName</code>: those cached if any, else the analyzer's,
+   * which are then added to the cache.
+   */
+  public byte[] encode(final String fieldName, final String text) throws IOException {
+    final long[] key = key(fieldName, text);
+    byte[] tokens = get(key[0], key[1]);
+    if (tokens != null)
+      return tokens;
+    tokens = DMLBSTokenCodec.encode(analyzer.tokenStream(fieldName, new StringReader(text)));
+    put(key[0], key[1], tokens);
+    return tokens;
+  }
+
+  /**
+   * Returns a token stream of <code>text</code> in
+   * <code>fieldName</code>, replayed from the cache where it can be. The
+   * tokens are the same whether or not they were cached.
+   */
+  public TokenStream tokenStream(final String fieldName, final String text)
+    throws IOException {
+    return DMLBSTokenCodec.decode(encode(fieldName, text));
+  }
+
+  /**
+   * Returns an analyzer giving, for every field, the tokens the cache's
+   * analyzer gives, replayed from the cache where it can be and added to
+   * it where not, for an {@link org.apache.lucene.index.IndexWriter}.
+   * Each field value is read whole before its first token, as it has to
+   * be hashed; values analyzed once are never analyzed again, even after
+   * the JVM restarts.
+   */
+  public Analyzer newAnalyzer() {
+    return new Analyzer(Analyzer.PER_FIELD_REUSE_STRATEGY) {
+      protected TokenStreamComponents createComponents(final String fieldName,
+                                                       final Reader reader) {
+        return new TokenStreamComponents(new ReplayTokenizer(fieldName, reader));
+      }
+    };
+  }
+
+  /** Reads a field value whole, then gives its tokens from {@link
+   *  #encode}. */
+  private final class ReplayTokenizer extends Tokenizer {
+    private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+    private final PositionIncrementAttribute posIncrAtt =
+      addAttribute(PositionIncrementAttribute.class);
+    private final OffsetAttribute offsetAtt = addAttribute(OffsetAttribute.class);
+    private final TypeAttribute typeAtt = addAttribute(TypeAttribute.class);
+
+    private final String fieldName;
+    private final StringBuilder text = new StringBuilder();
+    private final char[] buffer = new char[1024];
+    private TokenStream replay;
+    private CharTermAttribute replayTermAtt;
+    private PositionIncrementAttribute replayPosIncrAtt;
+    private OffsetAttribute replayOffsetAtt;
+    private TypeAttribute replayTypeAtt;
+
+    ReplayTokenizer(final String fieldName, final Reader reader) {
+      super(reader);
+      this.fieldName = fieldName;
+    }
+
+    public void reset() throws IOException {
+      super.reset();
+      text.setLength(0);
+      int read;
+      while ((read = input.read(buffer)) > 0)
+        text.append(buffer, 0, read);
+      replay = DMLBSTokenCodec.decode(encode(fieldName, text.toString()));
+      replayTermAtt = replay.getAttribute(CharTermAttribute.class);
+      replayPosIncrAtt = replay.getAttribute(PositionIncrementAttribute.class);
+      replayOffsetAtt = replay.getAttribute(OffsetAttribute.class);
+      replayTypeAtt = replay.getAttribute(TypeAttribute.class);
+      replay.reset();
+    }
+
+    public boolean incrementToken() throws IOException {
+      clearAttributes();
+      if (!replay.incrementToken())
+        return false;
+      termAtt.copyBuffer(replayTermAtt.buffer(), 0, replayTermAtt.length());
+      posIncrAtt.setPositionIncrement(replayPosIncrAtt.getPositionIncrement());
+      offsetAtt.setOffset(replayOffsetAtt.startOffset(), replayOffsetAtt.endOffset());
+      typeAtt.setType(replayTypeAtt.type());
+      return true;
+    }
+
+    public void end() throws IOException {
+      super.end();
+      replay.end();
+      offsetAtt.setOffset(replayOffsetAtt.startOffset(), replayOffsetAtt.endOffset());
+      posIncrAtt.setPositionIncrement(replayPosIncrAtt.getPositionIncrement());
+    }
+
+    public void close() throws IOException {
+      super.close();
+      replay = null;
+    }
+  }
+
+  private long[] key(final String fieldName, final String text) {
+    final MessageDigest digest = DIGEST.get();
+    final ByteBuffer buffer =
+      ByteBuffer.allocate(12 + 2 * (fieldName.length() + text.length()));
+    buffer.putLong(fingerprint).putInt(fieldName.length());
+    buffer.asCharBuffer().put(fieldName).put(text);
+    final ByteBuffer hash = ByteBuffer.wrap(digest.digest(buffer.array()));
+    return new long[] { hash.getLong(), hash.getLong() };
+  }
+
+  private synchronized byte[] get(final long hi, final long lo) throws IOException {
+    ensureOpen();
+    final int slot = find(hi, lo);
+    if (offsets[slot] == 0) {
+      misses++;
+      return null;
+    }
+    hits++;
+    lastUsed[slot] = ++clock;
+    return read(offsets[slot]);
+  }
+
+  private byte[] read(final long offset) throws IOException {
+    if (offset + RECORD_HEADER_SIZE > mapped.capacity())
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+    final int pos = (int) offset;
+    final byte[] tokens = new byte[mapped.getInt(pos + 16)];
+    final ByteBuffer data = mapped.duplicate();
+    data.position(pos + RECORD_HEADER_SIZE);
+    data.get(tokens);
+    return tokens;
+  }
+
+  private synchronized void put(final long hi, final long lo, final byte[] tokens)
+    throws IOException {
+    ensureOpen();
+    if (offsets[find(hi, lo)] != 0)
+      return;
+    if (RECORD_HEADER_SIZE + tokens.length > maxSize / 2)
+      return; // would not survive a compaction
+    write(channel, end, hi, lo, tokens);
+    insert(hi, lo, end, ++clock);
+    end += RECORD_HEADER_SIZE + tokens.length;
+    if (end > maxSize)
+      compact();
+  }
+
+  private static void write(final FileChannel channel, final long offset,
+                            final long hi, final long lo, final byte[] tokens)
+    throws IOException {
+    final CRC32 crc = new CRC32();
+    crc.update(tokens, 0, tokens.length);
+    final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + tokens.length);
+    record.putLong(hi).putLong(lo).putInt(tokens.length).putInt((int) crc.getValue())
+          .put(tokens).flip();
+    long pos = offset;
+    while (record.hasRemaining())
+      pos += channel.write(record, pos);
+  }
+
+  /**
+   * Rewrites the log keeping only the most recently used records, up to
+   * half the size bound, as the next generation, and moves on to it.
+   */
+  private void compact() throws IOException {
+    final Integer[] slots = new Integer[count];
+    int n = 0;
+    for (int slot = 0; slot < offsets.length; slot++) {
+      if (offsets[slot] != 0)
+        slots[n++] = Integer.valueOf(slot);
+    }
+    Arrays.sort(slots, new Comparator<Integer>() {
+      public int compare(final Integer a, final Integer b) {
+        final int x = lastUsed[a.intValue()];
+        final int y = lastUsed[b.intValue()];
+        return x > y ? -1 : x < y ? 1 : 0;
+      }
+    });
+
+    final File next = generationFile(generation + 1);
+    final File compacted = new File(next.getPath() + ".compact");
+    final long[] oldHi = keyHi;
+    final long[] oldLo = keyLo;
+    final long[] oldOffsets = offsets;
+    final int[] oldLastUsed = lastUsed;
+    clear(count);
+    final RandomAccessFile out = new RandomAccessFile(compacted, "rw");
+    try {
+      final FileChannel outChannel = out.getChannel();
+      outChannel.truncate(0);
+      outChannel.write(header(), 0);
+      long size = HEADER_SIZE;
+      for (int i = 0; i < slots.length; i++) {
+        final int slot = slots[i].intValue();
+        final byte[] tokens = read(oldOffsets[slot]);
+        if (size + RECORD_HEADER_SIZE + tokens.length > maxSize / 2)
+          break;
+        write(outChannel, size, oldHi[slot], oldLo[slot], tokens);
+        insert(oldHi[slot], oldLo[slot], size, oldLastUsed[slot]);
+        size += RECORD_HEADER_SIZE + tokens.length;
+      }
+      end = size;
+    } finally {
+      out.close();
+    }
+
+    // Only the new file, never mapped, is moved; the old one stays until
+    // its mapping is gone
+    Files.move(compacted.toPath(), next.toPath(), StandardCopyOption.REPLACE_EXISTING,
+               StandardCopyOption.ATOMIC_MOVE);
+    mapped = null;
+    raf.close();
+    current.delete();
+    generation++;
+    current = next;
+    raf = new RandomAccessFile(current, "rw");
+    channel = raf.getChannel();
+    mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+    compactions++;
+  }
+
+  private void clear(final int expected) {
+    int capacity = 16;
+    while (capacity < 2 * expected)
+      capacity <<= 1;
+    keyHi = new long[capacity];
+    keyLo = new long[capacity];
+    offsets = new long[capacity];
+    lastUsed = new int[capacity];
+    count = 0;
+  }
+
+  private int find(final long hi, final long lo) {
+    final int mask = offsets.length - 1;
+    int slot = (int) (hi ^ (hi >>> 32)) & mask;
+    while (offsets[slot] != 0 && (keyHi[slot] != hi || keyLo[slot] != lo))
+      slot = (slot + 1) & mask;
+    return slot;
+  }
+
+  private void insert(final long hi, final long lo, final long offset, final int used) {
+    if (2 * (count + 1) > offsets.length)
+      grow();
+    final int slot = find(hi, lo);
+    if (offsets[slot] == 0)
+      count++;
+    keyHi[slot] = hi;
+    keyLo[slot] = lo;
+    offsets[slot] = offset;
+    lastUsed[slot] = used;
+  }
+
+  private void grow() {
+    final long[] oldHi = keyHi;
+    final long[] oldLo = keyLo;
+    final long[] oldOffsets = offsets;
+    final int[] oldLastUsed = lastUsed;
+    clear(oldOffsets.length);
+    for (int slot = 0; slot < oldOffsets.length; slot++) {
+      if (oldOffsets[slot] != 0)
+        insert(oldHi[slot], oldLo[slot], oldOffsets[slot], oldLastUsed[slot]);
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (channel == null)
+      throw new IOException(file + ": token stream cache is closed");
+  }
+
+  /** Returns the number of fragments cached. */
+  public synchronized int size() {
+    return count;
+  }
+
+  /** Returns the size of the cache file in bytes. */
+  public synchronized long getFileSize() {
+    return end;
+  }
+
+  /** Returns the number of lookups that found their fragment. */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /** Returns the number of lookups that had to analyze their fragment. */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /** Returns the number of times the file was compacted. */
+  public synchronized long getCompactions() {
+    return compactions;
+  }
+
+  /** Closes the cache file; what was appended is kept. */
+  public synchronized void close() throws IOException {
+    if (channel == null)
+      return;
+    mapped = null;
+    channel = null;
+    raf.close();
+  }
+}
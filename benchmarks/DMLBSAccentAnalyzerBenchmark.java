@@ -0,0 +1,94 @@
+package org.exist.indexing.lucene;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures the whole {@link DMLBSAccentAnalyzer} chain over a synthetic
+ * corpus of dictionary entry fragments, as the indexer drives it: one
+ * reused chain per thread, reset onto each fragment in turn. The "tokens"
+ * counter gives tokens per second; run with <code>-prof gc</code> (as
+ * {@link #main} does) for the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DMLBSAccentAnalyzerBenchmark {
+
+  @Param({"1000"})
+  public int entryCount;
+
+  private String[] entries;
+  private DMLBSAccentAnalyzer analyzer;
+
+  /** Counts the tokens produced, reported as a rate next to the score. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Tokens {
+    public long tokens;
+
+    @Setup(Level.Iteration)
+    public void clear() {
+      tokens = 0;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    entries = DMLBSCorpus.entries(entryCount, 42L);
+    analyzer = new DMLBSAccentAnalyzer();
+  }
+
+  @TearDown
+  public void tearDown() {
+    analyzer.close();
+  }
+
+  @Benchmark
+  public void tokenStream(final Tokens counter) throws IOException {
+    for (int i = 0; i < entries.length; i++) {
+      final TokenStream stream =
+        analyzer.tokenStream("entry", new StringReader(entries[i]));
+      stream.reset();
+      while (stream.incrementToken())
+        counter.tokens++;
+      stream.end();
+      stream.close();
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+               .include(DMLBSAccentAnalyzerBenchmark.class.getSimpleName())
+               .addProfiler(GCProfiler.class)
+               .build()).run();
+  }
+}
@@ -0,0 +1,105 @@
+package org.exist.indexing.lucene;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures {@link DMLBSAccentFilter#incrementToken} on its own, over pure ASCII
+ * tokens, Latin with macrons and breves, polytonic Greek, and long citation
+ * tokens that are mostly ASCII. Scores are tokens per second; run with
+ * <code>-prof gc</code> (as {@link #main} does) for the allocation rate.
+ * <p>
+ * Built and run by <code>benchmarks/pom.xml</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DMLBSAccentFilterBenchmark {
+
+  private static final int TOKENS = 1024;
+
+  @Param({"ascii", "latin", "greek", "citation"})
+  public String tokenKind;
+
+  private DMLBSAccentFilter filter;
+  private CharTermAttribute termAtt;
+
+  @Setup
+  public void setUp() {
+    filter = new DMLBSAccentFilter(
+      new ReplayTokenStream(DMLBSCorpus.tokens(tokenKind, TOKENS, 42L)));
+    termAtt = filter.getAttribute(CharTermAttribute.class);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TOKENS)
+  public void incrementToken(final Blackhole blackhole) throws IOException {
+    filter.reset();
+    while (filter.incrementToken())
+      blackhole.consume(termAtt.length());
+    filter.end();
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+               .include(DMLBSAccentFilterBenchmark.class.getSimpleName())
+               .addProfiler(GCProfiler.class)
+               .build()).run();
+  }
+
+  /** Hands out the same terms over and over, as a tokenizer would. */
+  static final class ReplayTokenStream extends TokenStream {
+    private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+    private final char[][] terms;
+    private int next;
+
+    ReplayTokenStream(final String[] terms) {
+      this.terms = new char[terms.length][];
+      for (int i = 0; i < terms.length; i++)
+        this.terms[i] = terms[i].toCharArray();
+    }
+
+    public void reset() throws IOException {
+      super.reset();
+      next = 0;
+    }
+
+    public boolean incrementToken() {
+      if (next == terms.length)
+        return false;
+      final char[] term = terms[next++];
+      clearAttributes();
+      termAtt.copyBuffer(term, 0, term.length);
+      return true;
+    }
+  }
+}
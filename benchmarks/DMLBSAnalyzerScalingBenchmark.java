@@ -0,0 +1,190 @@
+package org.exist.indexing.lucene;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures how the analysis throughput of one shared {@link
+ * DMLBSAccentAnalyzer} scales with the number of indexing threads, as
+ * eXist drives it: every thread analyzes dictionary entry fragments with
+ * the same analyzer, and so the same stop set and folding table, the same
+ * folding cache when <code>sharedCache</code> is set and the same {@link
+ * DMLBSAccentFilterStats} when <code>stats</code> is (statistics are off
+ * unless {@link DMLBSAccentAnalyzer#enableStats} is called), each through
+ * the chain Lucene keeps for it.
+ * <p>
+ * Each thread starts at its own place in the corpus, so the threads do not
+ * analyze the same entry at the same moment. {@link #main} runs the
+ * benchmark at 1, 2, 4... threads up to the number of processors (or the
+ * number given as the first argument) with the gc profiler, and prints a
+ * report per thread count, for each setting of the cache and statistics:
+ * tokens per second in all, per thread and as a
+ * share of perfect scaling from one thread, bytes allocated per token,
+ * and the share of the measured time spent in GC. A per-thread rate that
+ * falls off while allocation per token stays flat points at contention on
+ * shared state rather than at the collector.
+ * <p>
+ * Built and run by <code>benchmarks/pom.xml</code>, with the highest
+ * thread count as <code>jmh.args</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = DMLBSAnalyzerScalingBenchmark.MEASUREMENT_ITERATIONS, time = 1)
+@Fork(1)
+public class DMLBSAnalyzerScalingBenchmark {
+
+  static final int MEASUREMENT_ITERATIONS = 5;
+
+  /** Entries each thread analyzes per operation. */
+  private static final int ENTRIES_PER_OP = 100;
+
+  @Param({"4000"})
+  public int entryCount;
+
+  @Param({"false", "true"})
+  public boolean sharedCache;
+
+  @Param({"false", "true"})
+  public boolean stats;
+
+  private String[] entries;
+  private DMLBSAccentAnalyzer analyzer;
+  private final AtomicInteger threadCount = new AtomicInteger();
+
+  /** A thread's place in the corpus and its token count, reported as a
+   *  rate next to the score. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Worker {
+    public long tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start(final DMLBSAnalyzerScalingBenchmark benchmark) {
+      next = benchmark.threadCount.getAndIncrement() * 997 % benchmark.entries.length;
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+      tokens = 0;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    entries = DMLBSCorpus.entries(entryCount, 42L);
+    analyzer = new DMLBSAccentAnalyzer(DMLBSAccentAnalyzer.STOP_WORDS,
+                                       sharedCache ? new DMLBSFoldingCache(4096) : null);
+    if (stats)
+      analyzer.enableStats();
+  }
+
+  @TearDown
+  public void tearDown() {
+    analyzer.close();
+  }
+
+  @Benchmark
+  public void analyze(final Worker worker) throws IOException {
+    for (int i = 0; i < ENTRIES_PER_OP; i++) {
+      final String entry = entries[worker.next];
+      if (++worker.next == entries.length)
+        worker.next = 0;
+      final TokenStream stream =
+        analyzer.tokenStream("entry", new StringReader(entry));
+      stream.reset();
+      while (stream.incrementToken())
+        worker.tokens++;
+      stream.end();
+      stream.close();
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    final int maxThreads = args.length > 0
+      ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+    final List<Integer> threadCounts = new ArrayList<Integer>();
+    for (int n = 1; n < maxThreads; n *= 2)
+      threadCounts.add(Integer.valueOf(n));
+    threadCounts.add(Integer.valueOf(maxThreads));
+
+    final List<String> report = new ArrayList<String>();
+    report.add(String.format("%-7s %-7s %8s %14s %14s %9s %12s %8s", "cache", "stats",
+                             "threads", "tokens/s", "per thread", "scaling",
+                             "bytes/token", "gc"));
+    for (final String cache : new String[] { "false", "true" }) {
+      for (final String stats : new String[] { "false", "true" }) {
+        double singleThread = 0;
+        for (final Integer threads : threadCounts) {
+          final Collection<RunResult> results = new Runner(new OptionsBuilder()
+            .include(DMLBSAnalyzerScalingBenchmark.class.getSimpleName())
+            .param("sharedCache", cache)
+            .param("stats", stats)
+            .threads(threads.intValue())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+          for (final RunResult result : results) {
+            final double ops = result.getPrimaryResult().getScore();
+            final double tokens = score(result, "tokens");
+            final double bytesPerOp = score(result, "gc.alloc.rate.norm");
+            final double gcMillis = score(result, "gc.time");
+            if (threads.intValue() == 1)
+              singleThread = tokens;
+            report.add(String.format("%-7s %-7s %8d %14.0f %14.0f %8.0f%% %12.1f %7.1f%%",
+                                     cache, stats, threads, tokens,
+                                     tokens / threads.intValue(),
+                                     100 * tokens / (singleThread * threads.intValue()),
+                                     bytesPerOp / (tokens / ops),
+                                     gcMillis / (10.0 * MEASUREMENT_ITERATIONS)));
+          }
+        }
+      }
+    }
+    for (final String line : report)
+      System.out.println(line);
+  }
+
+  /** Returns the score of the secondary result <code>label</code>, which
+   *  the gc profiler prefixes with a dot in some JMH versions, or NaN. */
+  private static double score(final RunResult run, final String label) {
+    for (final Result<?> result : run.getSecondaryResults().values()) {
+      final String key = result.getLabel();
+      if (key.equals(label) || (key.endsWith(label) && key.length() == label.length() + 1))
+        return result.getScore();
+    }
+    return Double.NaN;
+  }
+}
@@ -0,0 +1,145 @@
+package org.exist.indexing.lucene;
+
+import java.util.Random;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Synthetic DMLBS-like text for the benchmarks. Everything is drawn from a
+ * seeded {@link Random}, so a given seed always yields the same corpus and
+ * runs stay comparable from one change to the next.
+ */
+final class DMLBSCorpus {
+
+  /** Plain ASCII Latin, the bulk of the dictionary text. */
+  static final String[] ASCII_WORDS = {
+    "abbas", "abbatia", "monasterium", "ecclesia", "episcopus", "rex",
+    "terra", "carta", "dominus", "manerium", "villa", "burgus", "decima",
+    "homagium", "feodum", "servitium", "hundredum", "vicecomes", "anno",
+    "regni", "sicut", "quod", "cum", "pertinentiis", "suis", "libere",
+  };
+
+  /** Latin with the macrons and breves used for quantities. */
+  static final String[] LATIN_WORDS = {
+    "abbās", "abbătia", "mŏnastērium", "ecclēsia", "ĕpiscŏpus", "rēx",
+    "tĕrra", "chārta", "dŏmĭnus", "mănērium", "vīlla", "bŭrgus", "dĕcĭma",
+    "hŏmāgium", "fēodum", "servĭtium", "Æthelwoldus", "cælum", "pœna",
+    "ﬁlius", "oﬀicium", "Ĭsidōrus", "Ūltōnia", "ŏpus",
+  };
+
+  /** Polytonic Greek, as quoted in etymologies. */
+  static final String[] GREEK_WORDS = {
+    "ἀββᾶ", "ἀγάπη", "ἡμέρα", "ὑπόθεσις", "ῥήτωρ", "ᾠδή", "ὁδός",
+    "ἐκκλησία", "ἱερός", "ὀρθός", "ἄγγελος", "ἔθνος", "ψυχῇ", "ζῷον",
+    "ὕμνος", "ἥρως", "ἴδιος", "ὥρα", "Ἀθῆναι", "Ἑλλάς", "πνεῦμα",
+  };
+
+  private static final String[] SIGLA = {
+    "Bracton", "DB", "Pipe", "Chr. Abingd.", "Ord. Vit.", "W. Malm. GP",
+    "Reg. Malm.", "Cart. Rams.", "Fleta", "Dial. Scac.",
+  };
+
+  private DMLBSCorpus() {
+  }
+
+  /**
+   * Returns <code>count</code> words of the given kind: "ascii", "latin",
+   * "greek" or "citation".
+   */
+  static String[] tokens(final String kind, final int count, final long seed) {
+    if ("citation".equals(kind))
+      return citations(count, seed);
+    final String[] words;
+    if ("ascii".equals(kind))
+      words = ASCII_WORDS;
+    else if ("latin".equals(kind))
+      words = LATIN_WORDS;
+    else if ("greek".equals(kind))
+      words = GREEK_WORDS;
+    else
+      throw new IllegalArgumentException("Unknown token kind: " + kind);
+
+    final Random random = new Random(seed);
+    final String[] tokens = new String[count];
+    for (int i = 0; i < count; i++)
+      tokens[i] = words[random.nextInt(words.length)];
+    return tokens;
+  }
+
+  /**
+   * Returns <code>count</code> dictionary entry fragments: a headword and
+   * its etymology, a gloss and a few dated citations, mostly ASCII with
+   * the occasional marked quantity, ligature or Greek word.
+   */
+  static String[] entries(final int count, final long seed) {
+    final Random random = new Random(seed);
+    final String[] entries = new String[count];
+    final StringBuilder entry = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      entry.setLength(0);
+      entry.append(pick(random, LATIN_WORDS)).append(", ~")
+           .append(pick(random, ASCII_WORDS)).append(" [CL < ")
+           .append(pick(random, GREEK_WORDS)).append("] ");
+      final int citations = 1 + random.nextInt(6);
+      for (int c = 0; c < citations; c++) {
+        entry.append(c == 0 ? "" : "; ")
+             .append('c').append(1000 + random.nextInt(500)).append(' ')
+             .append(pick(random, SIGLA)).append(' ')
+             .append(1 + random.nextInt(300)).append(": ");
+        final int words = 4 + random.nextInt(16);
+        for (int w = 0; w < words; w++) {
+          final int r = random.nextInt(100);
+          entry.append(r < 80 ? pick(random, ASCII_WORDS)
+                       : r < 97 ? pick(random, LATIN_WORDS)
+                       : pick(random, GREEK_WORDS));
+          entry.append(' ');
+        }
+      }
+      entries[i] = entry.toString();
+    }
+    return entries;
+  }
+
+  /**
+   * Returns <code>count</code> long citation tokens, as an untokenized
+   * field or identifier index sees them: a date, sigla and a run of ASCII
+   * words, one in ten with a marked quantity, joined without spaces.
+   */
+  static String[] citations(final int count, final long seed) {
+    final Random random = new Random(seed);
+    final String[] tokens = new String[count];
+    final StringBuilder token = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      token.setLength(0);
+      token.append('c').append(1000 + random.nextInt(500)).append('_')
+           .append(pick(random, SIGLA).replace(' ', '_')).append('_')
+           .append(1 + random.nextInt(300));
+      final int words = 8 + random.nextInt(24);
+      for (int w = 0; w < words; w++)
+        token.append('_').append(random.nextInt(10) == 0
+                                 ? pick(random, LATIN_WORDS)
+                                 : pick(random, ASCII_WORDS));
+      tokens[i] = token.toString();
+    }
+    return tokens;
+  }
+
+  private static String pick(final Random random, final String[] words) {
+    return words[random.nextInt(words.length)];
+  }
+}
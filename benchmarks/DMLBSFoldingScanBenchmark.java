@@ -0,0 +1,86 @@
+package org.exist.indexing.lucene;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Compares {@link DMLBSFoldingTable#indexOfMapped}, which skips ASCII four
+ * chars at a time, with testing every char against the bitmap, as the
+ * filter used to. Both find the first char to fold in each token; the
+ * long, mostly ASCII citation tokens are where the word-at-a-time scan
+ * should pay off. Scores are tokens per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DMLBSFoldingScanBenchmark {
+
+  private static final int TOKENS = 1024;
+
+  private static final DMLBSFoldingTable TABLE = DMLBSFoldingTable.getDefault();
+
+  @Param({"ascii", "latin", "citation"})
+  public String tokenKind;
+
+  private char[][] tokens;
+
+  @Setup
+  public void setUp() {
+    final String[] words = DMLBSCorpus.tokens(tokenKind, TOKENS, 42L);
+    tokens = new char[words.length][];
+    for (int i = 0; i < words.length; i++)
+      tokens[i] = words[i].toCharArray();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TOKENS)
+  public void indexOfMapped(final Blackhole blackhole) {
+    for (int t = 0; t < tokens.length; t++) {
+      final char[] token = tokens[t];
+      blackhole.consume(TABLE.indexOfMapped(token, 0, token.length));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(TOKENS)
+  public void perChar(final Blackhole blackhole) {
+    for (int t = 0; t < tokens.length; t++) {
+      final char[] token = tokens[t];
+      int i = 0;
+      while (i < token.length && !TABLE.isMapped(token[i]))
+        i++;
+      blackhole.consume(i);
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+               .include(DMLBSFoldingScanBenchmark.class.getSimpleName())
+               .build()).run();
+  }
+}
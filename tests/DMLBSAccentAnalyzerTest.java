@@ -0,0 +1,311 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.core.LowerCaseFilter;
+import org.apache.lucene.analysis.core.StopFilter;
+import org.apache.lucene.analysis.standard.ClassicFilter;
+import org.apache.lucene.analysis.standard.ClassicTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.junit.Test;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that {@link DMLBSAccentAnalyzer} indexes text as the original
+ * token-based analyzer did: the same tokenizer grammar, and every mapping
+ * of the original <code>removeAccents</code> switch unchanged.
+ */
+public class DMLBSAccentAnalyzerTest {
+
+  /** The mappings of the original <code>removeAccents</code> switch. */
+  private static final String[][] ORIGINAL_FOLDS = {
+    { "\u00C0", "A" }, { "\u00C1", "A" }, { "\u00C2", "A" }, { "\u00C3", "A" },
+    { "\u00C4", "A" }, { "\u00C5", "A" }, { "\u00C6", "Ae" }, { "\u00C7", "C" },
+    { "\u00C8", "E" }, { "\u00C9", "E" }, { "\u00CA", "E" }, { "\u00CB", "E" },
+    { "\u00CC", "I" }, { "\u00CD", "I" }, { "\u00CE", "I" }, { "\u00CF", "I" },
+    { "\u00D0", "D" }, { "\u00D1", "N" }, { "\u00D2", "O" }, { "\u00D3", "O" },
+    { "\u00D4", "O" }, { "\u00D5", "O" }, { "\u00D6", "O" }, { "\u00D7", "x" },
+    { "\u00D8", "O" }, { "\u00D9", "U" }, { "\u00DA", "U" }, { "\u00DB", "U" },
+    { "\u00DC", "U" }, { "\u00DD", "Y" }, { "\u00DF", "ss" }, { "\u00E0", "a" },
+    { "\u00E1", "a" }, { "\u00E2", "a" }, { "\u00E3", "a" }, { "\u00E4", "a" },
+    { "\u00E5", "a" }, { "\u00E6", "ae" }, { "\u00E7", "c" }, { "\u00E8", "e" },
+    { "\u00E9", "e" }, { "\u00EA", "e" }, { "\u00EB", "e" }, { "\u00EC", "i" },
+    { "\u00ED", "i" }, { "\u00EE", "i" }, { "\u00EF", "i" }, { "\u00F1", "n" },
+    { "\u00F2", "o" }, { "\u00F3", "o" }, { "\u00F4", "o" }, { "\u00F5", "o" },
+    { "\u00F6", "o" }, { "\u00F7", "/" }, { "\u00F8", "o" }, { "\u00F9", "u" },
+    { "\u00FA", "u" }, { "\u00FB", "u" }, { "\u00FC", "u" }, { "\u00FD", "y" },
+    { "\u00FF", "y" }, { "\u0100", "A" }, { "\u0101", "a" }, { "\u0103", "a" },
+    { "\u010C", "C" }, { "\u010D", "c" }, { "\u010F", "d" }, { "\u0111", "d" },
+    { "\u0113", "e" }, { "\u0115", "e" }, { "\u0119", "e" }, { "\u011B", "e" },
+    { "\u011D", "g" }, { "\u0129", "i" }, { "\u012A", "I" }, { "\u012B", "i" },
+    { "\u012C", "I" }, { "\u012D", "i" }, { "\u0132", "IJ" }, { "\u0133", "ij" },
+    { "\u0142", "l" }, { "\u0148", "n" }, { "\u014D", "o" }, { "\u014F", "o" },
+    { "\u0151", "o" }, { "\u0152", "Oe" }, { "\u0153", "oe" }, { "\u0161", "s" },
+    { "\u0169", "u" }, { "\u016A", "U" }, { "\u016B", "u" }, { "\u016D", "u" },
+    { "\u0175", "w" }, { "\u0178", "Y" }, { "\u0179", "Z" }, { "\u017A", "z" },
+    { "\u017C", "z" }, { "\u017D", "Z" }, { "\u017E", "z" }, { "\u01CE", "a" },
+    { "\u01D0", "i" }, { "\u01E3", "ae" }, { "\u01EB", "o" }, { "\u01FD", "ae" },
+    { "\u0203", "a" }, { "\u0208", "I" }, { "\u0217", "u" }, { "\u0233", "y" },
+    { "\u0237", "j" }, { "\u02B9", "" }, { "\u02BC", "" }, { "\u02BF", "" },
+    { "\u02C8", "" }, { "\u02C9", "" }, { "\u02D8", "" }, { "\u0301", "" },
+    { "\u0302", "" }, { "\u0303", "" }, { "\u0304", "" }, { "\u0305", "" },
+    { "\u0306", "" }, { "\u0307", "" }, { "\u0313", "" }, { "\u0314", "" },
+    { "\u0323", "" }, { "\u0342", "" }, { "\u0345", "" }, { "\u035E", "" },
+    { "\u0375", "" }, { "\u0390", "\u03B9" }, { "\u03AC", "\u03B1" }, { "\u03AD", "\u03B5" },
+    { "\u03AE", "\u03B7" }, { "\u03AF", "\u03B9" }, { "\u03CA", "\u03B9" }, { "\u03CB", "\u03C5" },
+    { "\u03CC", "\u03BF" }, { "\u03CD", "\u03C5" }, { "\u03CE", "\u03C9" }, { "\u03D5", "\u03C6" },
+    { "\u1E0D", "d" }, { "\u1E24", "H" }, { "\u1E25", "h" }, { "\u1E35", "k" },
+    { "\u1E37", "l" }, { "\u1E61", "s" }, { "\u1E63", "s" }, { "\u1E6D", "t" },
+    { "\u1EA1", "a" }, { "\u1F00", "\u03B1" }, { "\u1F01", "\u03B1" }, { "\u1F03", "\u03B1" },
+    { "\u1F04", "\u03B1" }, { "\u1F05", "\u03B1" }, { "\u1F08", "\u0391" }, { "\u1F0C", "\u0391" },
+    { "\u1F10", "\u03B5" }, { "\u1F11", "\u03B5" }, { "\u1F13", "\u03B5" }, { "\u1F14", "\u03B5" },
+    { "\u1F15", "\u03B5" }, { "\u1F18", "\u0395" }, { "\u1F20", "\u03B7" }, { "\u1F21", "\u03B7" },
+    { "\u1F22", "\u03B7" }, { "\u1F24", "\u03B7" }, { "\u1F25", "\u03B7" }, { "\u1F26", "\u03B7" },
+    { "\u1F27", "\u03B7" }, { "\u1F29", "\u0397" }, { "\u1F30", "\u03B9" }, { "\u1F31", "\u03B9" },
+    { "\u1F32", "\u03B9" }, { "\u1F34", "\u03B9" }, { "\u1F35", "\u03B9" }, { "\u1F36", "\u03B9" },
+    { "\u1F37", "\u03B9" }, { "\u1F38", "\u0399" }, { "\u1F39", "\u0399" }, { "\u1F40", "\u03BF" },
+    { "\u1F41", "\u03BF" }, { "\u1F42", "\u03BF" }, { "\u1F44", "\u03BF" }, { "\u1F45", "\u03BF" },
+    { "\u1F50", "\u03C5" }, { "\u1F51", "\u03C5" }, { "\u1F52", "\u03C5" }, { "\u1F53", "\u03C5" },
+    { "\u1F54", "\u03C5" }, { "\u1F55", "\u03C5" }, { "\u1F56", "\u03C5" }, { "\u1F59", "\u03A5" },
+    { "\u1F60", "\u03C9" }, { "\u1F61", "\u03C9" }, { "\u1F64", "\u03C9" }, { "\u1F65", "\u03C9" },
+    { "\u1F66", "\u03C9" }, { "\u1F70", "\u03B1" }, { "\u1F72", "\u03B5" }, { "\u1F74", "\u03B7" },
+    { "\u1F76", "\u03B9" }, { "\u1F78", "\u03BF" }, { "\u1F7A", "\u03C5" }, { "\u1F7C", "\u03C9" },
+    { "\u1F85", "\u03B1" }, { "\u1FA0", "\u03C9" }, { "\u1FB1", "\u03B1" }, { "\u1FB3", "\u03B1" },
+    { "\u1FB4", "\u03B1" }, { "\u1FB6", "\u03B1" }, { "\u1FBD", "" }, { "\u1FC3", "\u03B7" },
+    { "\u1FC4", "\u03B7" }, { "\u1FC6", "\u03B7" }, { "\u1FC7", "\u03B7" }, { "\u1FD0", "\u03B9" },
+    { "\u1FD6", "\u03B9" }, { "\u1FE0", "\u03C5" }, { "\u1FE1", "\u03C5" }, { "\u1FE4", "\u03C1" },
+    { "\u1FE5", "\u03C1" }, { "\u1FE6", "\u03C5" }, { "\u1FEC", "\u03A1" }, { "\u1FF3", "\u03C9" },
+    { "\u1FF4", "\u03C9" }, { "\u1FF6", "\u03C9" }, { "\u1FF7", "\u03C9" }, { "\u200A", " " },
+    { "\u2012", "-" }, { "\u2013", "-" }, { "\u2014", "-" }, { "\u2018", "'" },
+    { "\u2019", "'" }, { "\u201B", "'" }, { "\u201C", "\"" }, { "\u201D", "\"" },
+    { "\u2025", " " }, { "\u2026", " " }, { "\uFB00", "ff" }, { "\uFB01", "fi" },
+    { "\uFB02", "fl" }, { "\uFB05", "ft" }, { "\uFB06", "st" },
+  };
+
+  /** The chars of the original switch that are still in it once
+   *  lower-cased. The rest lower-case to chars it left alone, which have
+   *  folds of their own now. */
+  private static final List<Character> SWITCH_CHARS = new ArrayList<Character>();
+  static {
+    final Map<Character, String> folds = new HashMap<Character, String>();
+    for (String[] fold : ORIGINAL_FOLDS)
+      folds.put(Character.valueOf(fold[0].charAt(0)), fold[1]);
+    for (Character c : folds.keySet()) {
+      if (folds.containsKey(Character.valueOf(Character.toLowerCase(c.charValue()))))
+        SWITCH_CHARS.add(c);
+    }
+  }
+
+  private static final String[] WORDS = {
+    "abbas", "ecclesia", "rex", "dominus", "terra", "carta", "villa",
+    "the", "and", "of", "in", "at", "U.S.A.", "O'Brien's", "AT&T",
+    "wrobel@classics.ox.ac.uk", "www.dmlbs.ox.ac.uk", "1086", "c.1200",
+  };
+
+  @Test
+  public void originalFoldsAreKept() {
+    for (String[] fold : ORIGINAL_FOLDS)
+      assertEquals("U+" + Integer.toHexString(fold[0].charAt(0)),
+                   fold[1], DMLBSFoldingTable.getDefault().fold(fold[0]));
+  }
+
+  @Test
+  public void classicGrammar() throws IOException {
+    assertEquals(terms("usa", "o'brien", "wrobel@classics.ox.ac.uk", "at&t"),
+                 terms(analyze(new DMLBSAccentAnalyzer(new String[0]),
+                               "U.S.A. O'Brien's wrobel@classics.ox.ac.uk AT&T")));
+  }
+
+  @Test
+  public void foldsCharsTheTokenizerDrops() throws IOException {
+    final DMLBSFoldingTable table = DMLBSFoldingTable.load(new StringReader(
+      "\"\\uE000\" => \"ae\"\n"));
+    // A private use char and mathematical bold A, v and e
+    final String text = "c\uE000lum \uD835\uDC00\uD835\uDC2F\uD835\uDC1E";
+    for (int mode = 0; mode < 2; mode++) {
+      final DMLBSAccentAnalyzer analyzer =
+        new DMLBSAccentAnalyzer(new String[0], table, null, mode == 1);
+      assertEquals(terms("caelum +1 0-5", "ave +1 6-12"), analyze(analyzer, text));
+    }
+    assertEquals(terms("ave +1 0-6"),
+                 analyze(new DMLBSAccentAnalyzer(new String[0]),
+                         "\uD835\uDC00\uD835\uDC2F\uD835\uDC1E"));
+  }
+
+  @Test
+  public void keepsOriginalsChangedBySpellingRulesAlone() throws IOException {
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer(
+      new String[0], DMLBSFoldingTable.getDefault(), null, false, true,
+      DMLBSSpellingRules.MEDIEVAL_LATIN);
+    assertEquals(terms("uita +1 0-4", "vita +0 0-4",
+                       "uita +1 5-9", "vīta +0 5-9",
+                       "sine +1 10-14"),
+                 analyze(analyzer, "vita vīta sine"));
+  }
+
+  @Test
+  public void fieldsShareTheChainOfTheirProfile() throws IOException {
+    final Map<String, DMLBSAccentAnalyzer.FieldProfile> profiles =
+      new HashMap<String, DMLBSAccentAnalyzer.FieldProfile>();
+    profiles.put("id", DMLBSAccentAnalyzer.FieldProfile.KEYWORD);
+    profiles.put("siglum", DMLBSAccentAnalyzer.FieldProfile.KEYWORD);
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer(
+      new String[0], DMLBSFoldingTable.getDefault(), null, false, false, null,
+      0, 0, profiles);
+
+    final TokenStream id = analyzer.tokenStream("id", "Ab Cd");
+    assertEquals(terms("Ab Cd"), terms(analyze(id)));
+    final TokenStream text = analyzer.tokenStream("text", "Ab Cd");
+    assertEquals(terms("ab", "cd"), terms(analyze(text)));
+    final TokenStream siglum = analyzer.tokenStream("siglum", "Ef");
+    assertSame(id, siglum);
+    assertEquals(terms("Ef"), terms(analyze(siglum)));
+    assertSame(text, analyzer.tokenStream("body", "Ef"));
+    analyzer.close();
+  }
+
+  /**
+   * Runs random text mixing ASCII words and the chars of the original
+   * switch through the analyzer and through the original chain, rebuilt
+   * from the classic tokenizer, a filter applying the switch mappings and
+   * a stop filter, and compares terms, positions and offsets.
+   */
+  @Test
+  public void matchesOriginalChain() throws IOException {
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer();
+    final Random random = new Random(42);
+    for (int n = 0; n < 2000; n++) {
+      final String text = randomText(random);
+      assertEquals(text, analyze(originalChain(text)), analyze(analyzer, text));
+    }
+  }
+
+  private static String randomText(final Random random) {
+    final StringBuilder text = new StringBuilder();
+    final int words = 1 + random.nextInt(12);
+    for (int w = 0; w < words; w++) {
+      if (w > 0)
+        text.append(random.nextInt(8) == 0 ? ", " : " ");
+      if (random.nextBoolean()) {
+        text.append(WORDS[random.nextInt(WORDS.length)]);
+        continue;
+      }
+      final int length = 1 + random.nextInt(8);
+      for (int i = 0; i < length; i++) {
+        if (random.nextInt(3) == 0)
+          text.append(SWITCH_CHARS.get(random.nextInt(SWITCH_CHARS.size())).charValue());
+        else
+          text.append((char) ('a' + random.nextInt(26)));
+      }
+    }
+    return text.toString();
+  }
+
+  private static TokenStream originalChain(final String text) {
+    final Tokenizer source = new ClassicTokenizer(new StringReader(text));
+    TokenStream result = new ClassicFilter(source);
+    result = new LowerCaseFilter(result);
+    result = new OriginalFoldFilter(result);
+    return new StopFilter(result, StopFilter.makeStopSet(DMLBSAccentAnalyzer.STOP_WORDS));
+  }
+
+  /** The original switch, applied to a term only if it has a char in
+   *  its range, as the original filter did. */
+  private static final class OriginalFoldFilter extends TokenFilter {
+    private static final Map<Character, String> FOLDS = new HashMap<Character, String>();
+    static {
+      for (String[] fold : ORIGINAL_FOLDS)
+        FOLDS.put(Character.valueOf(fold[0].charAt(0)), fold[1]);
+    }
+
+    private final CharTermAttribute termAtt = addAttribute(CharTermAttribute.class);
+
+    OriginalFoldFilter(final TokenStream input) {
+      super(input);
+    }
+
+    public boolean incrementToken() throws IOException {
+      if (!input.incrementToken())
+        return false;
+      final StringBuilder folded = new StringBuilder();
+      boolean inRange = false;
+      for (int i = 0; i < termAtt.length(); i++) {
+        final char c = termAtt.charAt(i);
+        inRange |= c >= '\u00C0' && c <= '\uFB06';
+        final String fold = FOLDS.get(Character.valueOf(c));
+        folded.append(fold != null ? fold : String.valueOf(c));
+      }
+      if (inRange)
+        termAtt.setEmpty().append(folded);
+      return true;
+    }
+  }
+
+  private static List<String> analyze(final DMLBSAccentAnalyzer analyzer, final String text)
+    throws IOException {
+    return analyze(analyzer.tokenStream("f", new StringReader(text)));
+  }
+
+  /** Returns each token as its term, position increment and offsets. */
+  private static List<String> analyze(final TokenStream stream) throws IOException {
+    final CharTermAttribute termAtt = stream.addAttribute(CharTermAttribute.class);
+    final PositionIncrementAttribute posIncAtt =
+      stream.addAttribute(PositionIncrementAttribute.class);
+    final OffsetAttribute offsetAtt = stream.addAttribute(OffsetAttribute.class);
+    final List<String> tokens = new ArrayList<String>();
+    try {
+      stream.reset();
+      while (stream.incrementToken())
+        tokens.add(termAtt + " +" + posIncAtt.getPositionIncrement() + " "
+                   + offsetAtt.startOffset() + "-" + offsetAtt.endOffset());
+      stream.end();
+    } finally {
+      stream.close();
+    }
+    return tokens;
+  }
+
+  private static List<String> terms(final String... terms) {
+    final List<String> list = new ArrayList<String>();
+    for (String term : terms)
+      list.add(term);
+    return list;
+  }
+
+  private static List<String> terms(final List<String> tokens) {
+    final List<String> list = new ArrayList<String>();
+    for (String token : tokens)
+      list.add(token.substring(0, token.indexOf(" +")));
+    return list;
+  }
+}
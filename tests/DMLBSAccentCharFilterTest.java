@@ -0,0 +1,130 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that {@link DMLBSAccentCharFilter} folds text as {@link
+ * DMLBSFoldingTable#fold} does, code point by code point, and maps every
+ * offset of the folded text back to the input, whatever the reads and
+ * wherever a fold falls on the edge of its buffer.
+ */
+public class DMLBSAccentCharFilterTest {
+
+  private static final DMLBSFoldingTable TABLE =
+    DMLBSFoldingTable.getInstalled().lowerCaseFirst();
+
+  // Plain chars; folds to one char, to two, to none; a pair folded to one
+  private static final String[] PIECES = {
+    "a", "b", " ", "é", "Æ", "æ", "ß", "\u0301", "\uD835\uDC00", "\uD835\uDC2F",
+  };
+
+  @Test
+  public void foldsAcrossBufferEdges() throws IOException {
+    // Each fold just before, on and just after the edge of the buffer
+    for (String piece : PIECES) {
+      for (int at = 1020; at <= 1026; at++) {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < at; i++)
+          text.append('x');
+        text.append(piece).append(piece).append("yz");
+        check(text.toString(), Integer.MAX_VALUE, 4096);
+        check(text.toString(), Integer.MAX_VALUE, 1);
+      }
+    }
+  }
+
+  @Test
+  public void foldsRandomText() throws IOException {
+    final Random random = new Random(42);
+    for (int n = 0; n < 200; n++) {
+      final StringBuilder text = new StringBuilder();
+      final int length = random.nextInt(3000);
+      while (text.length() < length)
+        text.append(PIECES[random.nextInt(PIECES.length)]);
+      // Inputs giving a few chars a read put pairs on the edge often
+      check(text.toString(), 1 + random.nextInt(9), 1 + random.nextInt(64));
+    }
+  }
+
+  @Test
+  public void foldsToNothingAtEitherEnd() throws IOException {
+    check("\u0301\u0301ab\u0301", Integer.MAX_VALUE, 4096);
+    check("\u0301", Integer.MAX_VALUE, 4096);
+    check("", Integer.MAX_VALUE, 4096);
+  }
+
+  /** Reads <code>text</code> through the filter, from an input giving at
+   *  most <code>inputRead</code> chars a read, <code>read</code> chars at
+   *  a time, and checks the folded text and each of its offsets. */
+  private static void check(final String text, final int inputRead, final int read)
+    throws IOException {
+    // The input offset each folded char maps back to
+    final StringBuilder expected = new StringBuilder();
+    final int[] origins = new int[4 * text.length() + 1];
+    for (int i = 0; i < text.length(); ) {
+      final int width = Character.charCount(text.codePointAt(i));
+      final String folded = TABLE.fold(text.substring(i, i + width));
+      for (int j = 0; j < folded.length(); j++)
+        origins[expected.length() + j] = i;
+      expected.append(folded);
+      i += width;
+    }
+    origins[expected.length()] = text.length();
+
+    final DMLBSAccentCharFilter filter =
+      new DMLBSAccentCharFilter(new ShortReader(text, inputRead), TABLE);
+    final StringBuilder actual = new StringBuilder();
+    final char[] buffer = new char[read];
+    int n;
+    while ((n = filter.read(buffer, 0, read)) > 0)
+      actual.append(buffer, 0, n);
+    filter.close();
+
+    assertEquals(text, expected.toString(), actual.toString());
+    for (int offset = 0; offset <= actual.length(); offset++)
+      assertEquals(text + " @" + offset, origins[offset], filter.correctOffset(offset));
+  }
+
+  /** Gives at most a given number of chars a read. */
+  private static final class ShortReader extends Reader {
+    private final Reader in;
+    private final int max;
+
+    ShortReader(final String text, final int max) {
+      this.in = new StringReader(text);
+      this.max = max;
+    }
+
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+      return in.read(cbuf, off, Math.min(len, max));
+    }
+
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.junit.Test;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that {@link DMLBSAccentFilterStats} holds every count once a
+ * stream has ended, however short it was, with or without a folding
+ * cache.
+ */
+public class DMLBSAccentFilterStatsTest {
+
+  // Three tokens, two of them rewritten, folding æ and é
+  private static final String TEXT = "Cælum café sine";
+
+  @Test
+  public void countsShortStreams() throws IOException {
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer(new String[0]);
+    final DMLBSAccentFilterStats stats = analyzer.enableStats();
+    consume(analyzer, TEXT);
+    assertEquals(3, stats.getTokensProcessed());
+    assertEquals(2, stats.getTokensRewritten());
+    assertEquals(2, stats.getCharsFolded());
+
+    for (int i = 1; i < 100; i++)
+      consume(analyzer, TEXT);
+    analyzer.close();
+    assertEquals(300, stats.getTokensProcessed());
+    assertEquals(200, stats.getTokensRewritten());
+    assertEquals(200, stats.getCharsFolded());
+    assertArrayEquals(new String[] { "U+00E6 æ: 100", "U+00E9 é: 100" },
+                      stats.getTopFoldedChars());
+  }
+
+  @Test
+  public void countsCacheHitsLikeMisses() throws IOException {
+    final DMLBSFoldingCache cache = new DMLBSFoldingCache(64);
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer(new String[0], cache);
+    final DMLBSAccentFilterStats stats = analyzer.enableStats();
+    for (int i = 0; i < 10; i++)
+      consume(analyzer, TEXT);
+    assertEquals(18, cache.getHits());
+    assertEquals(20, stats.getTokensRewritten());
+    assertEquals(20, stats.getCharsFolded());
+    assertArrayEquals(new String[] { "U+00E6 æ: 10", "U+00E9 é: 10" },
+                      stats.getTopFoldedChars());
+    analyzer.close();
+  }
+
+  private static void consume(final DMLBSAccentAnalyzer analyzer, final String text)
+    throws IOException {
+    final TokenStream stream = analyzer.tokenStream("f", new StringReader(text));
+    try {
+      stream.reset();
+      while (stream.incrementToken()) {
+      }
+      stream.end();
+    } finally {
+      stream.close();
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that {@link DMLBSFoldingCache} gives back what was put, counts
+ * its lookups, and evicts by second chance once a set is full.
+ */
+public class DMLBSFoldingCacheTest {
+
+  @Test
+  public void roundsCapacityDown() {
+    assertEquals(4, new DMLBSFoldingCache(4).getCapacity());
+    assertEquals(4, new DMLBSFoldingCache(7).getCapacity());
+    assertEquals(8, new DMLBSFoldingCache(8).getCapacity());
+    assertEquals(64, new DMLBSFoldingCache(100).getCapacity());
+    try {
+      new DMLBSFoldingCache(3);
+      fail();
+    } catch (IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void findsTermsInABuffer() {
+    final DMLBSFoldingCache cache = new DMLBSFoldingCache(64);
+    cache.put("cælum".toCharArray(), "caelum".toCharArray());
+    final char[] buffer = "in cælum".toCharArray();
+    assertArrayEquals("caelum".toCharArray(), cache.get(buffer, 3, 5));
+    assertNull(cache.get(buffer, 3, 4));
+    assertNull(cache.get(buffer, 0, 2));
+    assertEquals(1, cache.getHits());
+    assertEquals(2, cache.getMisses());
+    assertEquals(0, cache.getEvictions());
+  }
+
+  @Test
+  public void givesRecentlyUsedTermsASecondChance() {
+    // One set of four ways, so every term competes for it
+    final DMLBSFoldingCache cache = new DMLBSFoldingCache(4);
+    for (String term : new String[] { "a", "b", "c", "d" })
+      put(cache, term);
+    assertEquals(0, cache.getEvictions());
+
+    // The hand spares a, just used, and takes b, then c; a has had its
+    // second chance
+    get(cache, "a");
+    put(cache, "e");
+    assertNull(get(cache, "b"));
+    put(cache, "f");
+    assertNull(get(cache, "c"));
+    assertEquals(2, cache.getEvictions());
+
+    // Every entry was just used: the hand goes round once, clearing them,
+    // and takes the one it started from
+    assertCached(cache, "a", "d", "e", "f");
+    put(cache, "g");
+    assertNull(get(cache, "d"));
+    assertCached(cache, "a", "e", "f", "g");
+    assertEquals(3, cache.getEvictions());
+  }
+
+  @Test
+  public void servesThreadsWithoutLocking() throws InterruptedException {
+    final DMLBSFoldingCache cache = new DMLBSFoldingCache(256);
+    final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+    final Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread() {
+        public void run() {
+          try {
+            for (int n = 0; n < 20000; n++) {
+              final String term = "t" + (n % 1000);
+              final char[] folded = get(cache, term);
+              if (folded == null)
+                put(cache, term);
+              else if (!new String(folded).equals(term.toUpperCase()))
+                throw new AssertionError(term + " gave " + new String(folded));
+            }
+          } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+          }
+        }
+      };
+      threads[t].start();
+    }
+    for (Thread thread : threads)
+      thread.join();
+    if (failure.get() != null)
+      throw new AssertionError(failure.get());
+    assertEquals(4 * 20000, cache.getHits() + cache.getMisses());
+  }
+
+  /** Caches the upper case form of <code>term</code> as its fold. */
+  private static void put(final DMLBSFoldingCache cache, final String term) {
+    cache.put(term.toCharArray(), term.toUpperCase().toCharArray());
+  }
+
+  private static char[] get(final DMLBSFoldingCache cache, final String term) {
+    return cache.get(term.toCharArray(), 0, term.length());
+  }
+
+  private static void assertCached(final DMLBSFoldingCache cache, final String... terms) {
+    for (String term : terms)
+      assertArrayEquals(term, term.toUpperCase().toCharArray(), get(cache, term));
+  }
+}
@@ -0,0 +1,69 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that the default table folds every char of {@link
+ * DMLBSGeneratedFolds} as generated, that the hand-written DMLBS rules
+ * still win over the decomposition data, and how chars are decomposed.
+ */
+public class DMLBSFoldingTableGeneratorTest {
+
+  private static final String[] DMLBS = DMLBSFoldingTable.dmlbsFolds();
+  private static final DMLBSFoldingTable TABLE = DMLBSFoldingTable.getDefault();
+
+  @Test
+  public void defaultTableHasEveryGeneratedFold() {
+    final String[] folds = DMLBSGeneratedFolds.FOLDS;
+    for (int i = 0; i < folds.length; i += 2) {
+      // The generator skips chars the DMLBS rules map
+      assertNull(folds[i], DMLBS[folds[i].charAt(0)]);
+      assertEquals(folds[i], folds[i + 1], TABLE.fold(folds[i]));
+    }
+    final String[] supplementary = DMLBSGeneratedFolds.SUPPLEMENTARY_FOLDS;
+    for (int i = 0; i < supplementary.length; i += 2)
+      assertEquals(supplementary[i], supplementary[i + 1], TABLE.fold(supplementary[i]));
+  }
+
+  @Test
+  public void dmlbsRulesWin() {
+    for (int c = 0; c < DMLBS.length; c++) {
+      final String s = String.valueOf((char) c);
+      if (DMLBS[c] != null && !DMLBS[c].equals(s))
+        assertEquals(s, DMLBS[c], TABLE.fold(s));
+    }
+  }
+
+  @Test
+  public void decomposesAndFoldsWhatIsLeft() {
+    // The stroke of o is a DMLBS rule, the acute a combining mark
+    assertEquals("o", DMLBSFoldingTableGenerator.decomposedFold('ǿ', DMLBS));
+    assertEquals("s", DMLBSFoldingTableGenerator.decomposedFold('ṡ', DMLBS));
+    assertEquals("α", DMLBSFoldingTableGenerator.decomposedFold('ἀ', DMLBS));
+    // No decomposition
+    assertNull(DMLBSFoldingTableGenerator.decomposedFold('q', DMLBS));
+    assertNull(DMLBSFoldingTableGenerator.decomposedFold('þ', DMLBS));
+    // Mathematical bold capital A, lower-cased
+    assertEquals("a", DMLBSFoldingTableGenerator.compatibilityFold(0x1D400, DMLBS));
+  }
+}
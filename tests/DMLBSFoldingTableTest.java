@@ -0,0 +1,189 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that {@link DMLBSFoldingTable} loads mapping files and rejects
+ * malformed lines with their line number, maps back the tables it
+ * writes, and falls back to the default table on a bad file.
+ */
+public class DMLBSFoldingTableTest {
+
+  // A private use char and a supplementary one, with the default folds
+  private static final String MAPPINGS =
+    "\"\\uE000\" => \"ae\"\n\"\\uDB80\\uDC01\" => \"oe\"\n\"\\u0101\" => \"\\u0101\"\n";
+  private static final String TEXT = "M\u0101ter c\u00E6li \uE000 \uDB80\uDC01";
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  // Each malformed mapping, as the second line of a file, and the message
+  private static final String[][] MALFORMED = {
+    { "\"a\" \"b\"", "line 2: expected =>" },
+    { "\"a\" => \"b", "line 2: unterminated string" },
+    { "\"a\" => \"\\x\"", "line 2: unknown escape \\x" },
+    { "\"a\" => \"\\u00", "line 2: truncated \\u escape" },
+    { "\"\\u00g1\" => \"b\"", "line 2: bad \\u escape \\u00g1" },
+    { "\"\\u+041\" => \"b\"", "line 2: bad \\u escape \\u+041" },
+    { "\"\\u-041\" => \"b\"", "line 2: bad \\u escape \\u-041" },
+    // Fullwidth digits
+    { "\"\\u\uFF10\uFF10\uFF14\uFF11\" => \"b\"",
+      "line 2: bad \\u escape \\u\uFF10\uFF10\uFF14\uFF11" },
+    { "\"ab\" => \"b\"", "line 2: \"ab\" must be a single char" },
+    { "\"\\uD800\" => \"b\"", "line 2: cannot map the lone surrogate U+D800" },
+    { "\"\\u0101\" => \"a\" x", "line 2: unexpected text after mapping" },
+  };
+
+  @Test
+  public void loadsEscapes() throws IOException {
+    final DMLBSFoldingTable table = DMLBSFoldingTable.load(new StringReader(
+      "# comment\n\n\"\\u0041\" => \"\\\"\\\\\"\n\"\\uaBcD\" => \"x\"\n"));
+    assertEquals("\"\\", table.fold("A"));
+    assertEquals("x", table.fold("\uABCD"));
+  }
+
+  @Test
+  public void rejectsMalformedLines() {
+    for (String[] malformed : MALFORMED) {
+      try {
+        DMLBSFoldingTable.load(new StringReader("# mappings\n" + malformed[0] + "\n"));
+        fail(malformed[0]);
+      } catch (IOException e) {
+        assertEquals(malformed[0], malformed[1], e.getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void mapsBackWhatItWrites() throws IOException {
+    final DMLBSFoldingTable table = DMLBSFoldingTable.load(new StringReader(MAPPINGS));
+    final File file = folder.newFile("profile.fold");
+    table.write(file);
+    final DMLBSFoldingTable mapped = DMLBSFoldingTable.map(file);
+    assertEquals(table.fingerprint(), mapped.fingerprint());
+    assertEquals(table.getMappedCount(), mapped.getMappedCount());
+    assertEquals("M\u0101ter caeli ae oe", mapped.fold(TEXT));
+    // A compiled file loads like a mapping file
+    assertEquals(table.fingerprint(), DMLBSFoldingTable.load(file).fingerprint());
+
+    final DMLBSFoldingTable defaults = DMLBSFoldingTable.getDefault();
+    defaults.write(file);
+    assertEquals(defaults.fingerprint(), DMLBSFoldingTable.map(file).fingerprint());
+  }
+
+  @Test
+  public void fallsBackOnABadFile() throws IOException {
+    final File file = folder.newFile("profile.fold");
+    DMLBSFoldingTable.load(new StringReader(MAPPINGS)).write(file);
+    final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      raf.seek(20);
+      final int b = raf.read();
+      raf.seek(20);
+      raf.write(b ^ 1);
+    } finally {
+      raf.close();
+    }
+    try {
+      DMLBSFoldingTable.map(file);
+      fail();
+    } catch (IOException e) {
+      assertEquals(file + ": folding table checksum mismatch", e.getMessage());
+    }
+    assertSame(DMLBSFoldingTable.getDefault(), DMLBSFoldingTable.mapOrDefault(file));
+
+    final RandomAccessFile truncated = new RandomAccessFile(file, "rw");
+    try {
+      truncated.setLength(10);
+    } finally {
+      truncated.close();
+    }
+    assertSame(DMLBSFoldingTable.getDefault(), DMLBSFoldingTable.mapOrDefault(file));
+    assertSame(DMLBSFoldingTable.getDefault(),
+               DMLBSFoldingTable.mapOrDefault(new File(folder.getRoot(), "missing")));
+  }
+
+  @Test
+  public void installsTheTableNamedByTheProperty() throws Exception {
+    final DMLBSFoldingTable table = DMLBSFoldingTable.load(new StringReader(MAPPINGS));
+    final File file = folder.newFile("profile.fold");
+    table.write(file);
+    assertEquals(table.fingerprint(), installedFingerprint(file.getPath()));
+
+    final long defaults = DMLBSFoldingTable.getDefault().fingerprint();
+    assertEquals(defaults, installedFingerprint(null));
+    final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    try {
+      raf.setLength(raf.length() - 1);
+    } finally {
+      raf.close();
+    }
+    assertEquals(defaults, installedFingerprint(file.getPath()));
+  }
+
+  /** Returns the fingerprint of the installed table in a class loader of
+   *  its own, as a JVM started with the property set to <code>file</code>
+   *  (unset if null) would install it. */
+  private static long installedFingerprint(final String file) throws Exception {
+    final String property = DMLBSFoldingTable.TABLE_FILE_PROPERTY;
+    final String saved = System.getProperty(property);
+    final URLClassLoader loader = new URLClassLoader(new URL[] {
+      DMLBSFoldingTable.class.getProtectionDomain().getCodeSource().getLocation()
+    }, null);
+    try {
+      if (file == null)
+        System.clearProperty(property);
+      else
+        System.setProperty(property, file);
+      final Class<?> c = loader.loadClass(DMLBSFoldingTable.class.getName());
+      final Object table = c.getMethod("getInstalled").invoke(null);
+      return ((Long) c.getMethod("fingerprint").invoke(table)).longValue();
+    } finally {
+      if (saved == null)
+        System.clearProperty(property);
+      else
+        System.setProperty(property, saved);
+      loader.close();
+    }
+  }
+
+  @Test
+  public void rejectsConflictingMappings() {
+    try {
+      DMLBSFoldingTable.load(new StringReader("\"\\u0101\" => \"a\"\n\"\\u0101\" => \"b\"\n"));
+      fail();
+    } catch (IOException e) {
+      assertEquals("line 2: U+0101 is already mapped to \"a\" on line 1", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.junit.Test;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that {@link DMLBSIncrementalReindexer} picks out exactly the
+ * documents that analyze differently under a new folding profile, here
+ * one that keeps the macron of a.
+ */
+public class DMLBSIncrementalReindexerTest {
+
+  private static final DMLBSFoldingTable OLD_TABLE = DMLBSFoldingTable.getDefault();
+  private static final DMLBSFoldingTable NEW_TABLE;
+  static {
+    try {
+      NEW_TABLE = DMLBSFoldingTable.load(new StringReader("\"\\u0101\" => \"\\u0101\"\n"));
+    } catch (IOException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private static final String[] PIECES = { "rosa", "a", "\u0101", "\u0100", "\u00E9", " ", "." };
+
+  @Test
+  public void findsTheChangedChars() throws IOException {
+    final DMLBSIncrementalReindexer reindexer =
+      new DMLBSIncrementalReindexer(OLD_TABLE, NEW_TABLE, new String[] { "et" });
+    assertEquals("\u0100\u0101", new String(reindexer.getChangedChars()));
+    assertFalse(reindexer.isFullReindex());
+    assertFalse(reindexer.affects(new StringReader("ros\u00E6 et c\u00E6lum")));
+    assertTrue(reindexer.affects(new StringReader("M\u0101ter")));
+    assertTrue(reindexer.affects(new StringReader("\u0100")));
+  }
+
+  @Test
+  public void selectsTextThatAnalyzesDifferently() throws IOException {
+    final DMLBSIncrementalReindexer reindexer =
+      new DMLBSIncrementalReindexer(OLD_TABLE, NEW_TABLE, new String[0]);
+    final Analyzer oldAnalyzer = new DMLBSAccentAnalyzer(new String[0], OLD_TABLE, null, false);
+    final Analyzer newAnalyzer = new DMLBSAccentAnalyzer(new String[0], NEW_TABLE, null, false);
+    final Random random = new Random(42);
+    for (int n = 0; n < 1000; n++) {
+      final StringBuilder text = new StringBuilder();
+      for (int i = random.nextInt(8); i > 0; i--)
+        text.append(PIECES[random.nextInt(PIECES.length)]);
+      final boolean differs = !terms(oldAnalyzer.tokenStream("f", text.toString()))
+        .equals(terms(newAnalyzer.tokenStream("f", text.toString())));
+      assertEquals(text.toString(), differs,
+                   reindexer.affects(new StringReader(text.toString())));
+    }
+  }
+
+  @Test
+  public void reindexesAllIfAStopWordChanges() throws IOException {
+    final DMLBSIncrementalReindexer reindexer =
+      new DMLBSIncrementalReindexer(OLD_TABLE, NEW_TABLE, new String[] { "\u0100" });
+    assertTrue(reindexer.isFullReindex());
+    assertTrue(reindexer.affects(new StringReader("rosa")));
+  }
+
+  @Test
+  public void takesSupplementaryCharsByTheirHighSurrogate() throws IOException {
+    final DMLBSFoldingTable table =
+      DMLBSFoldingTable.load(new StringReader("\"\\uDB80\\uDC01\" => \"ae\"\n"));
+    final DMLBSIncrementalReindexer reindexer =
+      new DMLBSIncrementalReindexer(OLD_TABLE, table, new String[0]);
+    assertEquals("\uDB80", new String(reindexer.getChangedChars()));
+    assertTrue(reindexer.affects(new StringReader("x\uDB80\uDC01")));
+    assertTrue(reindexer.affects(new StringReader("x\uDB80\uDC02")));
+    assertFalse(reindexer.affects(new StringReader("x\uDB81\uDC01")));
+  }
+
+  @Test
+  public void reindexesOnlyTheAffectedDocuments() throws IOException {
+    final DMLBSIncrementalReindexer reindexer =
+      new DMLBSIncrementalReindexer(OLD_TABLE, NEW_TABLE, new String[0]);
+    final List<DMLBSBulkNormalizer.Document> documents =
+      new ArrayList<DMLBSBulkNormalizer.Document>();
+    documents.add(DMLBSBulkNormalizer.Document.forText("d1", "rosa"));
+    documents.add(DMLBSBulkNormalizer.Document.forText("d2", "M\u0101ter c\u00E6li"));
+    documents.add(DMLBSBulkNormalizer.Document.forText("d3", ""));
+    documents.add(DMLBSBulkNormalizer.Document.forText("d4", "\u0100"));
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    reindexer.reindex(documents.iterator(), new DMLBSBulkNormalizer(
+      new DMLBSAccentAnalyzer(new String[0], NEW_TABLE, null, false), "f", 2), out);
+    assertEquals(4, reindexer.getDocumentsScanned());
+    assertEquals(2, reindexer.getDocumentsSelected());
+
+    final DMLBSBulkNormalizer.RecordReader records =
+      new DMLBSBulkNormalizer.RecordReader(new ByteArrayInputStream(out.toByteArray()));
+    assertTrue(records.next());
+    assertEquals("d2", records.getId());
+    assertEquals(Arrays.asList("m\u0101ter", "caeli"), terms(records.getTokenStream()));
+    assertTrue(records.next());
+    assertEquals("d4", records.getId());
+    assertEquals(Arrays.asList("\u0101"), terms(records.getTokenStream()));
+    assertFalse(records.next());
+  }
+
+  @Test
+  public void passesOnReadErrors() {
+    final DMLBSIncrementalReindexer reindexer =
+      new DMLBSIncrementalReindexer(OLD_TABLE, NEW_TABLE, new String[0]);
+    final DMLBSBulkNormalizer.Document unreadable = new DMLBSBulkNormalizer.Document("d1") {
+      public Reader openReader() throws IOException {
+        throw new IOException("gone");
+      }
+    };
+    try {
+      reindexer.reindex(Arrays.asList(unreadable).iterator(), new DMLBSBulkNormalizer(
+        new DMLBSAccentAnalyzer(new String[0], NEW_TABLE, null, false), "f", 1),
+        new ByteArrayOutputStream());
+      fail();
+    } catch (IOException e) {
+      assertEquals("gone", e.getMessage());
+    }
+  }
+
+  private static List<String> terms(final TokenStream stream) throws IOException {
+    final CharTermAttribute termAtt = stream.addAttribute(CharTermAttribute.class);
+    final List<String> terms = new ArrayList<String>();
+    try {
+      stream.reset();
+      while (stream.incrementToken())
+        terms.add(termAtt.toString());
+      stream.end();
+    } finally {
+      stream.close();
+    }
+    return terms;
+  }
+}
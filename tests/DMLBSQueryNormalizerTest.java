@@ -0,0 +1,191 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+import org.junit.Test;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that prefixes normalized under spelling rules still find the
+ * terms starting with them, wherever the prefix stops inside a rule, and
+ * that a prefix index only takes its headwords from a folded field.
+ */
+public class DMLBSQueryNormalizerTest {
+
+  private static final String[] HEADWORDS = { "Gratia", "Gratus", "Michi", "Natio" };
+
+  private final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer(
+    new String[0], DMLBSFoldingTable.getDefault(), null, false, false,
+    DMLBSSpellingRules.MEDIEVAL_LATIN, 2, 4,
+    Collections.singletonMap("headword", DMLBSAccentAnalyzer.FieldProfile.PREFIX));
+  private final DMLBSQueryNormalizer normalizer = analyzer.newQueryNormalizer(0);
+
+  @Test
+  public void prefixGivesEachForm() {
+    assertEquals(set("graci", "grati"), set(normalizer.normalizePrefix("Grati")));
+    assertEquals(set("graci", "grat"), set(normalizer.normalizePrefix("grat")));
+    assertEquals(set("mih", "mic"), set(normalizer.normalizePrefix("mic")));
+    // gratiae is gracie
+    assertEquals(set("gracia", "gracie"), set(normalizer.normalizePrefix("gratia")));
+    assertEquals(set("grac"), set(normalizer.normalizePrefix("grac")));
+    assertEquals(set("gracia"), set(DMLBSSpellingRules.MEDIEVAL_LATIN.rewrite("gratia")));
+
+    final DMLBSQueryNormalizer plain =
+      new DMLBSQueryNormalizer(DMLBSFoldingTable.getDefault(), 0);
+    assertEquals(set("grati"), set(plain.normalizePrefix("Grâti")));
+  }
+
+  @Test
+  public void everyTermStartsWithAForm() {
+    final DMLBSSpellingRules rules = DMLBSSpellingRules.MEDIEVAL_LATIN;
+    final Random random = new Random(42);
+    for (int n = 0; n < 20000; n++) {
+      final char[] chars = new char[1 + random.nextInt(8)];
+      for (int i = 0; i < chars.length; i++)
+        chars[i] = "aeiotychnjmv".charAt(random.nextInt(12));
+      final String term = new String(chars);
+      final String rewritten = rules.rewrite(term);
+      for (int length = 1; length <= term.length(); length++) {
+        boolean found = false;
+        for (String form : rules.rewritePrefix(term.substring(0, length)))
+          found |= rewritten.startsWith(form);
+        assertTrue(term + " / " + length, found);
+      }
+    }
+  }
+
+  @Test
+  public void completesEachForm() {
+    final List<String> headwords = new ArrayList<String>();
+    final List<int[]> docLists = new ArrayList<int[]>();
+    for (int i = 0; i < HEADWORDS.length; i++) {
+      headwords.add(normalizer.normalize(HEADWORDS[i]));
+      docLists.add(new int[] { i });
+    }
+    final DMLBSPrefixIndex index = DMLBSPrefixIndex.build(headwords, docLists, normalizer);
+    assertEquals("[gracia (1)]", Arrays.toString(index.complete("grati", 10)));
+    assertEquals("[gracia (1), gratus (1)]", Arrays.toString(index.complete("grat", 10)));
+    assertEquals("[mihi (1)]", Arrays.toString(index.complete("Mic", 10)));
+    assertEquals("[nacio (1)]", Arrays.toString(index.complete("nati", 10)));
+  }
+
+  @Test
+  public void buildsFromAFoldedField() throws IOException {
+    final DirectoryReader reader = DirectoryReader.open(index());
+    try {
+      final DMLBSPrefixIndex index =
+        DMLBSPrefixIndex.build(reader, "lemma", analyzer, normalizer);
+      assertEquals(HEADWORDS.length, index.size());
+      assertEquals("[gracia (1), gratus (1)]", Arrays.toString(index.complete("grat", 10)));
+      assertEquals("[mihi (1)]", Arrays.toString(index.complete("Mic", 10)));
+      try {
+        DMLBSPrefixIndex.build(reader, "headword", analyzer, normalizer);
+        fail("n-grams taken for headwords");
+      } catch (IllegalArgumentException e) {
+      }
+
+      final DMLBSAccentAnalyzer preserving = new DMLBSAccentAnalyzer(
+        new String[0], DMLBSFoldingTable.getDefault(), null, false, true,
+        DMLBSSpellingRules.MEDIEVAL_LATIN);
+      try {
+        DMLBSPrefixIndex.build(reader, "lemma", preserving, normalizer);
+        fail("originals taken for headwords");
+      } catch (IllegalArgumentException e) {
+      }
+    } finally {
+      reader.close();
+    }
+  }
+
+  @Test
+  public void prefixQueryFindsEachForm() throws IOException {
+    final DirectoryReader reader = DirectoryReader.open(index());
+    try {
+      final IndexSearcher searcher = new IndexSearcher(reader);
+      assertEquals(1, hits(searcher, "grati"));
+      assertEquals(2, hits(searcher, "grat"));
+      assertEquals(1, hits(searcher, "nati"));
+      assertEquals(1, hits(searcher, "natio"));
+      assertEquals(1, hits(searcher, "mic"));
+      assertEquals(0, hits(searcher, "nab"));
+    } finally {
+      reader.close();
+    }
+  }
+
+  @Test
+  public void onlyPrefixFieldsUseNGrams() {
+    assertEquals("headword:grac", query(analyzer, "headword", "grac"));
+    assertEquals("headword:gracu*", query(analyzer, "headword", "gracu"));
+    assertEquals("text:grac*", query(analyzer, "text", "grac"));
+
+    final DMLBSAccentAnalyzer noGrams = new DMLBSAccentAnalyzer(
+      new String[0], DMLBSFoldingTable.getDefault(), null, false, false, null);
+    assertEquals("text:*", query(noGrams, "text", ""));
+  }
+
+  /** Indexes each headword in the n-gram field "headword" and the plain
+   *  folded field "lemma". */
+  private RAMDirectory index() throws IOException {
+    final RAMDirectory directory = new RAMDirectory();
+    final IndexWriter writer =
+      new IndexWriter(directory, new IndexWriterConfig(Version.LATEST, analyzer));
+    for (String headword : HEADWORDS) {
+      final Document document = new Document();
+      document.add(new TextField("headword", headword, Field.Store.YES));
+      document.add(new TextField("lemma", headword, Field.Store.NO));
+      writer.addDocument(document);
+    }
+    writer.close();
+    return directory;
+  }
+
+  private String query(final DMLBSAccentAnalyzer analyzer, final String field,
+                       final String prefix) {
+    return analyzer.newPrefixQuery(field, prefix, analyzer.newQueryNormalizer(0)).toString();
+  }
+
+  private int hits(final IndexSearcher searcher, final String prefix) throws IOException {
+    return searcher.search(analyzer.newPrefixQuery("headword", prefix, normalizer), 10).totalHits;
+  }
+
+  private static Set<String> set(final String... strings) {
+    return new HashSet<String>(Arrays.asList(strings));
+  }
+}
@@ -0,0 +1,125 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.junit.Test;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that {@link DMLBSStopSet} finds its words in whatever accented
+ * form a term gives them, and keeps probing past the end of its table.
+ */
+public class DMLBSStopSetTest {
+
+  private static final DMLBSFoldingTable TABLE = DMLBSFoldingTable.getDefault();
+
+  @Test
+  public void matchesFoldedForms() {
+    final DMLBSStopSet set = new DMLBSStopSet(new String[] { "Æt", "aet", "Et", "þe" }, TABLE);
+    assertEquals(3, set.size());
+    assertTrue(contains(set, "æt"));
+    assertTrue(contains(set, "aet"));
+    assertTrue(contains(set, "et"));
+    assertTrue(contains(set, "ét"));
+    // A combining acute folds to nothing
+    assertTrue(contains(set, "ét"));
+    // Thorn is left as is
+    assertTrue(contains(set, "þe"));
+    assertFalse(contains(set, "the"));
+    assertFalse(contains(set, "æ"));
+    assertFalse(contains(set, "aeta"));
+    assertFalse(contains(set, "e"));
+    assertFalse(contains(set, ""));
+
+    // A term in the middle of a buffer
+    final char[] buffer = "xxætxx".toCharArray();
+    assertTrue(set.contains(buffer, 2, 2));
+    assertFalse(set.contains(buffer, 1, 3));
+  }
+
+  @Test
+  public void probesPastTheEnd() {
+    // Words whose home is the last of the 16 slots, then some elsewhere
+    final List<String> last = new ArrayList<String>();
+    final List<String> words = new ArrayList<String>();
+    for (char a = 'a'; a <= 'z'; a++) {
+      for (char b = 'a'; b <= 'z'; b++) {
+        final String word = "" + a + b;
+        if (slot(word) == 15)
+          last.add(word);
+        else if (words.size() < 4 && slot(word) < 13)
+          words.add(word);
+      }
+    }
+    words.addAll(0, last.subList(0, 4));
+    final DMLBSStopSet set = new DMLBSStopSet(words.toArray(new String[8]), TABLE);
+    assertEquals(8, set.size());
+    for (String word : words)
+      assertTrue(word, contains(set, word));
+    // Probes from the last slot round to the empty ones past the first
+    assertFalse(contains(set, last.get(4)));
+    assertFalse(contains(set, last.get(5)));
+  }
+
+  @Test
+  public void fingerprintIgnoresOrder() {
+    assertEquals(new DMLBSStopSet(new String[] { "et", "in", "Æt" }, TABLE).fingerprint(),
+                 new DMLBSStopSet(new String[] { "aet", "in", "et" }, TABLE).fingerprint());
+  }
+
+  @Test
+  public void dropsStopWordsAndTheirOriginals() throws IOException {
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer(
+      new String[] { "Æt" }, TABLE, null, false, true);
+    final TokenStream stream = analyzer.tokenStream("f", new StringReader("aet Æt ætas"));
+    final CharTermAttribute termAtt = stream.addAttribute(CharTermAttribute.class);
+    final List<String> terms = new ArrayList<String>();
+    try {
+      stream.reset();
+      while (stream.incrementToken())
+        terms.add(termAtt.toString());
+      stream.end();
+    } finally {
+      stream.close();
+    }
+    final List<String> expected = new ArrayList<String>();
+    expected.add("aetas");
+    expected.add("ætas");
+    assertEquals(expected, terms);
+  }
+
+  private static boolean contains(final DMLBSStopSet set, final String term) {
+    return set.contains(term.toCharArray(), 0, term.length());
+  }
+
+  /** Returns the home slot of <code>word</code> in a table of 16. */
+  private static int slot(final String word) {
+    final int h = word.hashCode();
+    return (h ^ (h >>> 16)) & 15;
+  }
+}
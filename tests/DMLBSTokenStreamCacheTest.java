@@ -0,0 +1,156 @@
+package org.exist.indexing.lucene;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Checks that the analyzer of a {@link DMLBSTokenStreamCache} gives the
+ * tokens of the analyzer it caches, whether they were cached or not, and
+ * that the cache keeps to its size bound and forgets what another
+ * analyzer cached.
+ */
+public class DMLBSTokenStreamCacheTest {
+
+  private static final String[] TEXTS = {
+    "Gratia Dei, æterna et þorn.",
+    "O'Brien's AT&T in c.1200",
+    "",
+  };
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void replaysTheAnalyzersTokens() throws IOException {
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer();
+    final File file = new File(folder.getRoot(), "tokens.cache");
+    DMLBSTokenStreamCache cache = new DMLBSTokenStreamCache(file, analyzer, 1 << 20);
+    Analyzer replaying = cache.newAnalyzer();
+    for (int pass = 0; pass < 2; pass++) {
+      for (String text : TEXTS)
+        assertEquals(text, analyze(analyzer, text), analyze(replaying, text));
+    }
+    assertEquals(TEXTS.length, cache.getMisses());
+    assertEquals(TEXTS.length, cache.getHits());
+    cache.close();
+
+    cache = new DMLBSTokenStreamCache(file, analyzer, 1 << 20);
+    replaying = cache.newAnalyzer();
+    for (String text : TEXTS)
+      assertEquals(text, analyze(analyzer, text), analyze(replaying, text));
+    assertEquals(0, cache.getMisses());
+    cache.close();
+  }
+
+  @Test
+  public void compactsUnderTheSizeBound() throws IOException {
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer();
+    final File file = new File(folder.getRoot(), "tokens.cache");
+    DMLBSTokenStreamCache cache = new DMLBSTokenStreamCache(file, analyzer, 4096);
+    final Analyzer replaying = cache.newAnalyzer();
+    for (int i = 0; i < 200; i++) {
+      final String text = "Gratia " + i + " Dei, æterna et þorn.";
+      assertEquals(text, analyze(analyzer, text), analyze(replaying, text));
+      assertTrue(cache.getFileSize() <= 4096);
+    }
+    final long compactions = cache.getCompactions();
+    assertTrue(compactions > 1);
+    // Only the latest generation is left
+    assertArrayEquals(new String[] { "tokens.cache." + compactions },
+                      folder.getRoot().list());
+
+    final String last = "Gratia 199 Dei, æterna et þorn.";
+    assertEquals(analyze(analyzer, last), analyze(replaying, last));
+    assertEquals(200, cache.getMisses());
+    cache.close();
+
+    cache = new DMLBSTokenStreamCache(file, analyzer, 4096);
+    assertEquals(analyze(analyzer, last), analyze(cache.newAnalyzer(), last));
+    assertEquals(0, cache.getMisses());
+    cache.close();
+  }
+
+  @Test
+  public void forgetsTokensOfAnotherAnalyzer() throws IOException {
+    final DMLBSAccentAnalyzer analyzer = new DMLBSAccentAnalyzer();
+    final File file = new File(folder.getRoot(), "tokens.cache");
+    DMLBSTokenStreamCache cache = new DMLBSTokenStreamCache(file, analyzer, 1 << 20);
+    for (String text : TEXTS)
+      analyze(cache.newAnalyzer(), text);
+    assertEquals(TEXTS.length, cache.size());
+    cache.close();
+
+    // Another stop word changes the fingerprint
+    final DMLBSAccentAnalyzer other = new DMLBSAccentAnalyzer(new String[] { "dei" });
+    cache = new DMLBSTokenStreamCache(file, other, 1 << 20);
+    assertEquals(0, cache.size());
+    final Analyzer replaying = cache.newAnalyzer();
+    for (String text : TEXTS)
+      assertEquals(text, analyze(other, text), analyze(replaying, text));
+    assertEquals(TEXTS.length, cache.getMisses());
+    cache.close();
+
+    cache = new DMLBSTokenStreamCache(file, analyzer, 1 << 20);
+    assertEquals(0, cache.size());
+    cache.close();
+  }
+
+  /** Returns each token as its term, position increment, offsets and
+   *  type, then the final offset. */
+  private static List<String> analyze(final Analyzer analyzer, final String text)
+    throws IOException {
+    final TokenStream stream = analyzer.tokenStream("f", new StringReader(text));
+    final CharTermAttribute termAtt = stream.addAttribute(CharTermAttribute.class);
+    final PositionIncrementAttribute posIncAtt =
+      stream.addAttribute(PositionIncrementAttribute.class);
+    final OffsetAttribute offsetAtt = stream.addAttribute(OffsetAttribute.class);
+    final TypeAttribute typeAtt = stream.addAttribute(TypeAttribute.class);
+    final List<String> tokens = new ArrayList<String>();
+    try {
+      stream.reset();
+      while (stream.incrementToken())
+        tokens.add(termAtt + " +" + posIncAtt.getPositionIncrement() + " "
+                   + offsetAtt.startOffset() + "-" + offsetAtt.endOffset() + " "
+                   + typeAtt.type());
+      stream.end();
+      tokens.add("end " + offsetAtt.endOffset());
+    } finally {
+      stream.close();
+    }
+    return tokens;
+  }
+}